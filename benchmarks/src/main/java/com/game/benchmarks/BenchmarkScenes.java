@@ -0,0 +1,37 @@
+package com.game.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.core.simulation.Simulation;
+import com.game.core.utils.config.SceneConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads scenes of the game for the benchmarks. Configurations are read from the classpath as a stream,
+ * because inside the benchmarks jar they are not files.
+ */
+final class BenchmarkScenes {
+    static final String SCENE_ID = "001";
+
+    private BenchmarkScenes() {}
+
+    static SceneConfig readConfig(String sceneId) {
+        try (InputStream stream = BenchmarkScenes.class.getResourceAsStream("/scenes/" + sceneId + "_scene.json")) {
+            if (stream == null) throw new IllegalStateException("Scene " + sceneId + " not found on the classpath");
+
+            return new ObjectMapper().readValue(stream, SceneConfig.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a headless simulation of the scene, which also configures the scaler and the texture cache,
+     * so game objects can be created without a JavaFX toolkit.
+     */
+    static Simulation createSimulation(String sceneId) {
+        return new Simulation(readConfig(sceneId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.game.benchmarks;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.bounds.CircleBounds;
+import com.game.core.behaviour.bounds.RectangleBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intersection tests of every pair of bounds shapes, both for touching and for distant bounds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundsBenchmark {
+    @Param({"CIRCLE_CIRCLE", "CIRCLE_RECTANGLE", "RECTANGLE_RECTANGLE", "RECTANGLE_CIRCLE"})
+    public String pair;
+
+    @Param({"true", "false"})
+    public boolean overlapping;
+
+    private Bounds first;
+    private Bounds second;
+
+    @Setup
+    public void setup() {
+        first = createBounds(pair.startsWith("CIRCLE"));
+        second = createBounds(pair.endsWith("CIRCLE"));
+
+        float distance = overlapping ? 10 : 100;
+        first.setPos(100, 100);
+        second.setPos(100 + distance, 100 + distance / 2);
+    }
+
+    private static Bounds createBounds(boolean isCircle) {
+        return isCircle ? new CircleBounds(16, 1) : new RectangleBounds(32, 32, 1);
+    }
+
+    @Benchmark
+    public boolean intersects() {
+        return first.intersects(second);
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.benchmarks;
+
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.collisions.CollisionManager;
+import com.game.core.entities.Player;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletType;
+import com.game.core.scene.blocks.SolidBlock;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.simulation.Simulation;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.SceneConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision checks of N bullets spread over the scene against each other and M solid blocks.
+ * Each invocation checks the movement of every bullet by one step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionManagerBenchmark {
+    private static final long SEED = 42;
+    private static final float STEP = 4;
+
+    @Param({"10", "100", "500"})
+    public int entitiesCount;
+
+    @Param({"50", "500"})
+    public int blocksCount;
+
+    private final List<Bullet> bullets = new ArrayList<>();
+    private CollisionManager collisionManager;
+
+    @Setup
+    public void setup() {
+        SceneConfig config = BenchmarkScenes.readConfig(BenchmarkScenes.SCENE_ID);
+        Simulation simulation = new Simulation(config);
+        Player owner = simulation.getPlayer(0);
+
+        Scaler scaler = Scaler.getInstance();
+        float width = scaler.getSceneWidth();
+        float height = scaler.getSceneHeight();
+        Random random = new Random(SEED);
+
+        collisionManager = new CollisionManager();
+        String blockTexture = config.getMappings().getBlocks().values().iterator().next().getTexture();
+        Tile blockTile = TextureCache.getInstance().getTile(blockTexture, null);
+        for (int i = 0; i < blocksCount; i++) {
+            SolidBlock block = new SolidBlock(blockTile, new RectangleBounds(scaler.getTileWidth(), scaler.getTileHeight(), 1));
+            block.setPos(random.nextFloat() * width, random.nextFloat() * height);
+            collisionManager.addObject(block);
+        }
+        collisionManager.bakeStaticIndex();
+
+        for (int i = 0; i < entitiesCount; i++) {
+            Bullet bullet = new Bullet.builder(BulletType.STANDARD)
+                    .config(config.getBullet())
+                    .owner(owner)
+                    .rotationAngle(random.nextFloat() * 360)
+                    .build();
+            bullet.setPos(random.nextFloat() * width, random.nextFloat() * height);
+            bullet.setCm(collisionManager);
+            collisionManager.addObject(bullet);
+            bullets.add(bullet);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisionsFor(Blackhole blackhole) {
+        for (int i = 0, size = bullets.size(); i < size; i++) {
+            Bullet bullet = bullets.get(i);
+            blackhole.consume(collisionManager.checkCollisionsFor(bullet, bullet.getX() + STEP, bullet.getY() + STEP));
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions(Blackhole blackhole) {
+        for (int i = 0, size = bullets.size(); i < size; i++) {
+            Bullet bullet = bullets.get(i);
+            blackhole.consume(collisionManager.checkCollisions(bullet, bullet.getX() + STEP, bullet.getY() + STEP));
+        }
+    }
+}
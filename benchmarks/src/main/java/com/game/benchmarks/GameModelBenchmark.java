@@ -0,0 +1,44 @@
+package com.game.benchmarks;
+
+import com.game.core.simulation.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single fixed step of {@code GameModel.update} for the loaded scene 001, played headless.
+ * All players hold their keys, so they move, shoot and collide during the whole measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameModelBenchmark {
+    private Simulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        simulation = BenchmarkScenes.createSimulation(BenchmarkScenes.SCENE_ID);
+        for (int i = 0; i < simulation.getModel().getPlayerSpawners().size(); i++) simulation.press(i);
+
+        // Skips the start of the match, when no bullets are flying yet
+        simulation.run(Math.round(1 / simulation.getDeltaTime()));
+    }
+
+    @Benchmark
+    public void update() {
+        simulation.step();
+    }
+}
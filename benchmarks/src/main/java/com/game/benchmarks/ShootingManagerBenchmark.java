@@ -0,0 +1,73 @@
+package com.game.benchmarks;
+
+import com.game.core.entities.Player;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
+import com.game.core.entities.bullet.BulletType;
+import com.game.core.shooting.ShootingManager;
+import com.game.core.simulation.Simulation;
+import com.game.core.strategies.CircularShootStrategy;
+import com.game.core.utils.config.SceneConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A volley of the {@link CircularShootStrategy}: a shot followed by the {@code ShootingManager.update}
+ * which creates its bullets. Created bullets are returned to the pool right away, so they are reused.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShootingManagerBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+
+    private ShootingManager shootingManager;
+    private int createdBullets;
+
+    @Setup
+    public void setup() {
+        SceneConfig config = BenchmarkScenes.readConfig(BenchmarkScenes.SCENE_ID);
+        Simulation simulation = new Simulation(config);
+        Player player = simulation.getPlayer(0);
+
+        BulletPool pool = new BulletPool();
+        shootingManager = new ShootingManager(
+                player,
+                BulletType.STANDARD,
+                new CircularShootStrategy(),
+                config.getBullet(),
+                config.getPlayer().getMaxBulletsCount(),
+                config.getPlayer().getBulletsReloadDelay(),
+                config.getPlayer().getBulletsCooldown(),
+                true
+        );
+        shootingManager.setBulletPool(pool);
+        shootingManager.setOnBulletCreated(bullet -> {
+            createdBullets++;
+            pool.release((Bullet) bullet);
+        });
+    }
+
+    @Benchmark
+    public int volley() {
+        int before = createdBullets;
+        shootingManager.toggleShooting(true);
+        shootingManager.update(DELTA_TIME);
+        shootingManager.toggleShooting(false);
+
+        return createdBullets - before;
+    }
+}
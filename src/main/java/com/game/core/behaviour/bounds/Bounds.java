@@ -4,7 +4,26 @@ package com.game.core.behaviour.bounds;
 import com.game.core.behaviour.interfaces.Positionable;
 
 public interface Bounds extends Positionable {
+    /**
+     * Result of {@link #sweep(float, float, Bounds)} when the bounds don't touch along the movement.
+     */
+    float NO_HIT = -1f;
+
     boolean intersects(Bounds otherBounds);
+    boolean intersectsAt(float x, float y, Bounds otherBounds);
+
+    /**
+     * Moves these bounds along a straight line from the current position to the specified one
+     * and finds the first contact with the other (static) bounds.
+     *
+     * @param toX         the X-coordinate of the center at the end of the movement
+     * @param toY         the Y-coordinate of the center at the end of the movement
+     * @param otherBounds the bounds to check contact with
+     * @return the fraction of the movement in range [0, 1] at which the bounds touch first,
+     * or {@link #NO_HIT} if they don't touch
+     */
+    float sweep(float toX, float toY, Bounds otherBounds);
+
     boolean contains(Bounds otherBounds);
     float getMaxX();
     float getMaxY();
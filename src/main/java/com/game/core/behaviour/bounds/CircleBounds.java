@@ -44,20 +44,61 @@ public class CircleBounds extends PositionWrapper implements Bounds {
      */
     @Override
     public boolean intersects(Bounds otherBounds) {
+        return intersectsAt(getX(), getY(), otherBounds);
+    }
+
+    /**
+     * Checks if this circular bounds would intersect with another bounds if its center was
+     * at the specified position. Doesn't change the position and doesn't allocate new bounds.
+     *
+     * @param x           the X-coordinate of the tested center.
+     * @param y           the Y-coordinate of the tested center.
+     * @param otherBounds the bounds to check intersection with.
+     * @return {@code true} if the moved bounds intersects with {@code otherBounds}, {@code false} otherwise.
+     */
+    @Override
+    public boolean intersectsAt(float x, float y, Bounds otherBounds) {
         if (otherBounds instanceof CircleBounds circle) {
-            float curX = getX();
-            float curY = getY();
-            float otherX = otherBounds.getX();
-            float otherY = otherBounds.getY();
-
-            return Math.hypot(curX - otherX, curY - otherY) < getRadius() + circle.getRadius();
-        } else if (otherBounds instanceof RectangleBounds) {
-            return otherBounds.intersects(this);
+            float dx = x - otherBounds.getX();
+            float dy = y - otherBounds.getY();
+            float radii = getRadius() + circle.getRadius();
+
+            return dx * dx + dy * dy < radii * radii;
+        } else if (otherBounds instanceof RectangleBounds rect) {
+            return rect.intersectsCircle(x, y, getRadius());
         }
 
         return false;
     }
 
+    /**
+     * Swept test of this circle moving to the specified position against another bounds.
+     *
+     * @param toX         the X-coordinate of the center at the end of the movement.
+     * @param toY         the Y-coordinate of the center at the end of the movement.
+     * @param otherBounds the bounds to check contact with.
+     * @return the fraction of the movement at the first contact, or {@link #NO_HIT}.
+     */
+    @Override
+    public float sweep(float toX, float toY, Bounds otherBounds) {
+        float dx = toX - getX();
+        float dy = toY - getY();
+
+        if (otherBounds instanceof CircleBounds circle) {
+            return Sweep.rayCircle(
+                    getX(), getY(), dx, dy,
+                    circle.getX(), circle.getY(), getRadius() + circle.getRadius()
+            );
+        } else if (otherBounds instanceof RectangleBounds rect) {
+            return Sweep.rayRoundedBox(
+                    getX(), getY(), dx, dy,
+                    rect.getMinX(), rect.getMinY(), rect.getMaxX(), rect.getMaxY(), getRadius()
+            );
+        }
+
+        return NO_HIT;
+    }
+
     /**
      * Checks if this circular bounds fully contains another bounds.
      *
@@ -72,13 +113,16 @@ public class CircleBounds extends PositionWrapper implements Bounds {
         float otherY = otherBounds.getY();
 
         if (otherBounds instanceof CircleBounds circle) {
-            double distance = Math.hypot(otherX - curX, otherY - curY);
-            return distance + circle.getRadius() <= getRadius();
+            float room = getRadius() - circle.getRadius();
+            float dx = otherX - curX;
+            float dy = otherY - curY;
+
+            return room >= 0 && dx * dx + dy * dy <= room * room;
         } else if (otherBounds instanceof RectangleBounds rect) {
-            double dx = Math.abs(otherX - curX);
-            double dy = Math.abs(otherY - curY);
+            float cornerX = Math.abs(otherX - curX) + (rect.getWidth() / 2);
+            float cornerY = Math.abs(otherY - curY) + (rect.getHeight() / 2);
 
-            return Math.hypot(dx + (rect.getWidth() / 2), dy + (rect.getHeight() / 2)) <= getRadius();
+            return cornerX * cornerX + cornerY * cornerY <= getRadius() * getRadius();
         }
 
         return false;
@@ -153,6 +197,18 @@ public class CircleBounds extends PositionWrapper implements Bounds {
         return new CircleBounds(getRadius());
     }
 
+    /**
+     * Re-initializes the bounds with a new radius and drops the multiplier, so pooled objects
+     * can keep their bounds instead of creating new ones.
+     *
+     * @param radius the new radius, already scaled.
+     * @throws InvalidParameterException if {@code radius} is less than or equal to 0.
+     */
+    public void resize(float radius) {
+        setRadius(radius);
+        this.multiplier = 1f;
+    }
+
     public float getRadius() { return this.multiplier * this.radius; }
     private void setRadius(float radius) {
         if (radius <= 0) throw new InvalidParameterException("Circle bounds radius must be higher than 0");
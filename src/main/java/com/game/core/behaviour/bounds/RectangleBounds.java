@@ -46,8 +46,20 @@ public class RectangleBounds extends PositionWrapper implements Bounds {
      */
     @Override
     public boolean intersects(Bounds otherBounds) {
-        float curX = getX();
-        float curY = getY();
+        return intersectsAt(getX(), getY(), otherBounds);
+    }
+
+    /**
+     * Checks if this rectangle would intersect with another bounds if its center was
+     * at the specified position. Doesn't change the position and doesn't allocate new bounds.
+     *
+     * @param x           the X-coordinate of the tested center.
+     * @param y           the Y-coordinate of the tested center.
+     * @param otherBounds the bounds to check intersection with.
+     * @return {@code true} if the moved bounds intersects with {@code otherBounds}, {@code false} otherwise.
+     */
+    @Override
+    public boolean intersectsAt(float x, float y, Bounds otherBounds) {
         float otherX = otherBounds.getX();
         float otherY = otherBounds.getY();
         float curHWidth = getWidth() / 2;
@@ -57,17 +69,72 @@ public class RectangleBounds extends PositionWrapper implements Bounds {
             float otherHWidth = rect.getWidth() / 2;
             float otherHHeight = rect.getHeight() / 2;
 
-            return Math.abs(curX - otherX) < (curHWidth + otherHWidth) &&
-                    Math.abs(curY - otherY) < (curHHeight + otherHHeight);
+            return Math.abs(x - otherX) < (curHWidth + otherHWidth) &&
+                    Math.abs(y - otherY) < (curHHeight + otherHHeight);
         } else if (otherBounds instanceof CircleBounds circle) {
-            float closestX = Math.max(curX - curHWidth, Math.min(otherX, curX + curHWidth));
-            float closestY = Math.max(curY - curHHeight, Math.min(otherY, curY + curHHeight));
-            return Math.hypot(otherX - closestX, otherY - closestY) <= circle.getRadius();
+            return intersectsCircle(x, y, otherX, otherY, circle.getRadius());
         }
 
         return false;
     }
 
+    /**
+     * Checks if this rectangle intersects with a circle described by raw coordinates.
+     *
+     * @param circleX the X-coordinate of the circle's center.
+     * @param circleY the Y-coordinate of the circle's center.
+     * @param radius  the radius of the circle.
+     * @return {@code true} if the rectangle intersects with the circle, {@code false} otherwise.
+     */
+    public boolean intersectsCircle(float circleX, float circleY, float radius) {
+        return intersectsCircle(getX(), getY(), circleX, circleY, radius);
+    }
+
+    private boolean intersectsCircle(float x, float y, float circleX, float circleY, float radius) {
+        float curHWidth = getWidth() / 2;
+        float curHHeight = getHeight() / 2;
+        float closestX = Math.max(x - curHWidth, Math.min(circleX, x + curHWidth));
+        float closestY = Math.max(y - curHHeight, Math.min(circleY, y + curHHeight));
+
+        float dx = circleX - closestX;
+        float dy = circleY - closestY;
+
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    /**
+     * Swept test of this rectangle moving to the specified position against another bounds.
+     * Against a circle the movement is inverted: the circle is swept against the resting rectangle.
+     *
+     * @param toX         the X-coordinate of the center at the end of the movement.
+     * @param toY         the Y-coordinate of the center at the end of the movement.
+     * @param otherBounds the bounds to check contact with.
+     * @return the fraction of the movement at the first contact, or {@link #NO_HIT}.
+     */
+    @Override
+    public float sweep(float toX, float toY, Bounds otherBounds) {
+        float dx = toX - getX();
+        float dy = toY - getY();
+
+        if (otherBounds instanceof RectangleBounds rect) {
+            float hWidth = getWidth() / 2;
+            float hHeight = getHeight() / 2;
+
+            return Sweep.rayBox(
+                    getX(), getY(), dx, dy,
+                    rect.getMinX() - hWidth, rect.getMinY() - hHeight,
+                    rect.getMaxX() + hWidth, rect.getMaxY() + hHeight
+            );
+        } else if (otherBounds instanceof CircleBounds circle) {
+            return Sweep.rayRoundedBox(
+                    circle.getX(), circle.getY(), -dx, -dy,
+                    getMinX(), getMinY(), getMaxX(), getMaxY(), circle.getRadius()
+            );
+        }
+
+        return NO_HIT;
+    }
+
     /**
      * Checks if this rectangle completely contains another bounds.
      *
@@ -167,6 +234,20 @@ public class RectangleBounds extends PositionWrapper implements Bounds {
         return new RectangleBounds(getWidth(), getHeight());
     }
 
+    /**
+     * Re-initializes the bounds with new sizes and drops the multiplier, so pooled objects
+     * can keep their bounds instead of creating new ones.
+     *
+     * @param width  the new width, already scaled.
+     * @param height the new height, already scaled.
+     * @throws InvalidParameterException if any of the sizes is less than or equal to 0.
+     */
+    public void resize(float width, float height) {
+        setWidth(width);
+        setHeight(height);
+        this.multiplier = 1f;
+    }
+
     public float getHeight() { return this.multiplier * this.height; }
     private void setHeight(float height) {
         if (height <= 0) throw new InvalidParameterException("Rect bounds height must be higher than 0");
@@ -0,0 +1,80 @@
+package com.game.core.behaviour.bounds;
+
+/**
+ * Ray casts used by the swept (continuous) collision tests of the bounds. A moving shape is reduced
+ * to a ray cast from its center against the Minkowski sum of both shapes: a bigger circle for two
+ * circles, an expanded box for two boxes and a box with rounded corners for a circle and a box.
+ *
+ * <p>All methods return the fraction of the ray at the first contact in range [0, 1],
+ * {@code 0} if the ray starts inside the shape, or {@link Bounds#NO_HIT} if there is no contact.</p>
+ */
+final class Sweep {
+    private Sweep() {}
+
+    static float rayCircle(float ox, float oy, float dx, float dy, float cx, float cy, float radius) {
+        float fx = ox - cx;
+        float fy = oy - cy;
+        float c = fx * fx + fy * fy - radius * radius;
+        if (c < 0) return 0;
+
+        float a = dx * dx + dy * dy;
+        float b = fx * dx + fy * dy;
+        if (a == 0 || b > 0) return Bounds.NO_HIT;
+
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) return Bounds.NO_HIT;
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / a;
+        return t <= 1 ? Math.max(t, 0) : Bounds.NO_HIT;
+    }
+
+    static float rayBox(float ox, float oy, float dx, float dy, float minX, float minY, float maxX, float maxY) {
+        float tEnter = 0;
+        float tExit = 1;
+
+        if (dx == 0) {
+            if (ox < minX || ox > maxX) return Bounds.NO_HIT;
+        } else {
+            float t1 = (minX - ox) / dx;
+            float t2 = (maxX - ox) / dx;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        if (dy == 0) {
+            if (oy < minY || oy > maxY) return Bounds.NO_HIT;
+        } else {
+            float t1 = (minY - oy) / dy;
+            float t2 = (maxY - oy) / dy;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        return tEnter <= tExit ? tEnter : Bounds.NO_HIT;
+    }
+
+    /**
+     * Casts a ray against a box expanded by the radius with rounded corners, which is the union
+     * of two boxes expanded along one axis and four circles in the corners of the original box.
+     */
+    static float rayRoundedBox(
+            float ox, float oy, float dx, float dy,
+            float minX, float minY, float maxX, float maxY, float radius
+    ) {
+        float t = earliest(
+                rayBox(ox, oy, dx, dy, minX - radius, minY, maxX + radius, maxY),
+                rayBox(ox, oy, dx, dy, minX, minY - radius, maxX, maxY + radius)
+        );
+        t = earliest(t, rayCircle(ox, oy, dx, dy, minX, minY, radius));
+        t = earliest(t, rayCircle(ox, oy, dx, dy, maxX, minY, radius));
+        t = earliest(t, rayCircle(ox, oy, dx, dy, minX, maxY, radius));
+        return earliest(t, rayCircle(ox, oy, dx, dy, maxX, maxY, radius));
+    }
+
+    static float earliest(float first, float second) {
+        if (first == Bounds.NO_HIT) return second;
+        if (second == Bounds.NO_HIT) return first;
+
+        return Math.min(first, second);
+    }
+}
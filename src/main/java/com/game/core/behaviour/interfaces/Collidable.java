@@ -1,10 +1,19 @@
 package com.game.core.behaviour.interfaces;
 
 import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 
 public interface Collidable {
     void onCollision(CollisionVisitor visitor, Collidable other);
     Bounds getHitbox();
     void setHitbox(Bounds hitbox);
+
+    /**
+     * Returns the kind of this object used to look up a collision resolver directly,
+     * without the visitor double dispatch.
+     *
+     * @return one of the {@link CollisionKind} constants, {@link CollisionKind#UNKNOWN} by default
+     */
+    default int getCollisionKind() { return CollisionKind.UNKNOWN; }
 }
@@ -5,5 +5,17 @@ import javafx.scene.canvas.GraphicsContext;
 
 public interface Renderable {
     void draw(GraphicsContext gc);
+
+    /**
+     * Draws the object between its previous and current simulation states. Static objects
+     * have nothing to interpolate, so by default they are drawn as is.
+     *
+     * @param gc    the graphics context to draw on
+     * @param alpha the interpolation factor, {@code 0} is the previous state and {@code 1} is the current one
+     */
+    default void draw(GraphicsContext gc, double alpha) {
+        draw(gc);
+    }
+
     Tile getTile();
 }
@@ -9,13 +9,111 @@ import com.game.core.scene.blocks.SolidBlock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * Handles collisions between various types of game entities by implementing the
  * {@link CollisionVisitor} interface. The class provides logic for resolving
  * interactions when different objects collide in the game environment.
+ *
+ * <p>Pairs of known {@link CollisionKind}s are resolved by {@link #resolve(Collidable, Collidable)}
+ * through a precomputed dispatch table of static resolvers. Objects of an unknown kind fall back to
+ * the visitor double dispatch, whose second hop is done by visitors created once per handler.</p>
  */
 public class CollisionHandler implements CollisionVisitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(CollisionHandler.class);
+    private static final CollisionResolver IGNORE = (first, second) -> {};
+    private static final CollisionResolver[][] RESOLVERS = createResolvers();
+
+    private final PlayerVisitor playerVisitor = new PlayerVisitor();
+    private final BulletVisitor bulletVisitor = new BulletVisitor();
+    private final BonusVisitor bonusVisitor = new BonusVisitor();
+    private final BlockVisitor blockVisitor = new BlockVisitor();
+
+    /**
+     * Resolves a collision between two objects. If both objects have a known kind, the resolver
+     * is taken from the dispatch table, otherwise the collision is dispatched through this visitor.
+     *
+     * @param first  the object which initiated the collision
+     * @param second the object it collided with
+     */
+    public void resolve(Collidable first, Collidable second) {
+        int firstKind = first.getCollisionKind();
+        int secondKind = second.getCollisionKind();
+
+        if (firstKind != CollisionKind.UNKNOWN && secondKind != CollisionKind.UNKNOWN)
+            RESOLVERS[firstKind][secondKind].resolve(first, second);
+        else
+            first.onCollision(this, second);
+    }
+
+    /**
+     * Builds the dispatch table, it mirrors the rules of the visitors below.
+     * Pairs which are not listed explicitly are ignored.
+     */
+    private static CollisionResolver[][] createResolvers() {
+        CollisionResolver[][] table = new CollisionResolver[CollisionKind.COUNT][CollisionKind.COUNT];
+        for (CollisionResolver[] row : table) Arrays.fill(row, IGNORE);
+
+        table[CollisionKind.PLAYER][CollisionKind.BULLET] = CollisionHandler::resolvePlayerBullet;
+        table[CollisionKind.PLAYER][CollisionKind.BONUS] = CollisionHandler::resolvePlayerBonus;
+
+        table[CollisionKind.BULLET][CollisionKind.PLAYER] = CollisionHandler::resolveBulletPlayer;
+        table[CollisionKind.BULLET][CollisionKind.BULLET] = CollisionHandler::destroySecondBullet;
+        table[CollisionKind.BULLET][CollisionKind.BONUS] = CollisionHandler::destroyFirstBullet;
+        table[CollisionKind.BULLET][CollisionKind.SOLID_BLOCK] = CollisionHandler::destroyFirstBullet;
+        table[CollisionKind.BULLET][CollisionKind.BREAKABLE_BLOCK] = CollisionHandler::resolveBulletBreakableBlock;
+
+        table[CollisionKind.BONUS][CollisionKind.PLAYER] = CollisionHandler::resolveBonusPlayer;
+        table[CollisionKind.BONUS][CollisionKind.BULLET] = CollisionHandler::destroySecondBullet;
+
+        table[CollisionKind.SOLID_BLOCK][CollisionKind.BULLET] = CollisionHandler::destroySecondBullet;
+        table[CollisionKind.BREAKABLE_BLOCK][CollisionKind.BULLET] = CollisionHandler::destroySecondBullet;
+
+        return table;
+    }
+
+    private static void resolvePlayerBullet(Collidable first, Collidable second) {
+        Bullet bullet = (Bullet) second;
+        if (bullet.getOwner() == first) {
+            LOGGER.debug("Bullet collides with its owner");
+            return;
+        }
+        bullet.setState(false);
+    }
+
+    private static void resolvePlayerBonus(Collidable first, Collidable second) {
+        ((Bonus) second).applyEffect((Player) first);
+    }
+
+    private static void resolveBulletPlayer(Collidable first, Collidable second) {
+        Bullet bullet = (Bullet) first;
+        Player player = (Player) second;
+        if (bullet.getOwner() == player) {
+            LOGGER.debug("Bullet collides with its owner 2");
+            return;
+        }
+
+        bullet.setState(false);
+        player.takeDamage(bullet.getDamage(), bullet.getOwner());
+    }
+
+    private static void resolveBulletBreakableBlock(Collidable first, Collidable second) {
+        ((Bullet) first).setState(false);
+        ((BreakableBlock) second).takeDamage(2);
+    }
+
+    private static void resolveBonusPlayer(Collidable first, Collidable second) {
+        ((Bonus) first).applyEffect((Player) second);
+    }
+
+    private static void destroyFirstBullet(Collidable first, Collidable second) {
+        ((Bullet) first).setState(false);
+    }
+
+    private static void destroySecondBullet(Collidable first, Collidable second) {
+        ((Bullet) second).setState(false);
+    }
 
     /**
      * Resolves collisions where a {@link Player} is involved.
@@ -25,26 +123,12 @@ public class CollisionHandler implements CollisionVisitor {
      */
     @Override
     public void visit(Player player, Collidable other) {
-        other.onCollision(new CollisionVisitor() {
-            @Override public void visit(Player player, Collidable other) {}
-
-            @Override
-            public void visit(Bullet bullet, Collidable other) {
-                if(bullet.getOwner() == player) {
-                    LOGGER.debug("Bullet collides with its owner");
-                    return;
-                }
-                bullet.setState(false);
-            }
-
-            @Override
-            public void visit(Bonus bonus, Collidable other) {
-                bonus.applyEffect(player);
-            }
-
-            @Override public void visit(SolidBlock block, Collidable other) {}
-            @Override public void visit(BreakableBlock block, Collidable other) {}
-        }, player);
+        playerVisitor.player = player;
+        try {
+            other.onCollision(playerVisitor, player);
+        } finally {
+            playerVisitor.player = null;
+        }
     }
 
     /**
@@ -55,39 +139,12 @@ public class CollisionHandler implements CollisionVisitor {
      */
     @Override
     public void visit(Bullet bullet, Collidable other) {
-        other.onCollision(new CollisionVisitor() {
-            @Override
-            public void visit(Player player, Collidable other) {
-                if(bullet.getOwner() == player) {
-                    LOGGER.debug("Bullet collides with its owner 2");
-                    return;
-                }
-
-                bullet.setState(false);
-                player.takeDamage(bullet.getDamage(), bullet.getOwner());
-            }
-
-            @Override
-            public void visit(Bullet bullet, Collidable other) {
-                bullet.setState(false);
-            }
-
-            @Override
-            public void visit(Bonus bonus, Collidable other) {
-                bullet.setState(false);
-            }
-
-            @Override
-            public void visit(SolidBlock block, Collidable other) {
-                bullet.setState(false);
-            }
-
-            @Override
-            public void visit(BreakableBlock block, Collidable other) {
-                bullet.setState(false);
-                block.takeDamage(2);
-            }
-        }, bullet);
+        bulletVisitor.bullet = bullet;
+        try {
+            other.onCollision(bulletVisitor, bullet);
+        } finally {
+            bulletVisitor.bullet = null;
+        }
     }
 
     /**
@@ -98,21 +155,12 @@ public class CollisionHandler implements CollisionVisitor {
      */
     @Override
     public void visit(Bonus bonus, Collidable other) {
-        other.onCollision(new CollisionVisitor() {
-            @Override
-            public void visit(Player player, Collidable other) {
-                bonus.applyEffect(player);
-            }
-
-            @Override
-            public void visit(Bullet bullet, Collidable other) {
-                bullet.setState(false);
-            }
-
-            @Override public void visit(Bonus bonus, Collidable other) {}
-            @Override public void visit(SolidBlock block, Collidable other) {}
-            @Override public void visit(BreakableBlock block, Collidable other) {}
-        }, bonus);
+        bonusVisitor.bonus = bonus;
+        try {
+            other.onCollision(bonusVisitor, bonus);
+        } finally {
+            bonusVisitor.bonus = null;
+        }
     }
 
     /**
@@ -123,18 +171,7 @@ public class CollisionHandler implements CollisionVisitor {
      */
     @Override
     public void visit(SolidBlock block, Collidable other) {
-        other.onCollision(new CollisionVisitor() {
-            @Override public void visit(Player player, Collidable other) {}
-
-            @Override
-            public void visit(Bullet bullet, Collidable other) {
-                bullet.setState(false);
-            }
-
-            @Override public void visit(Bonus bonus, Collidable other) {}
-            @Override public void visit(SolidBlock block, Collidable other) {}
-            @Override public void visit(BreakableBlock block, Collidable other) {}
-        }, block);
+        other.onCollision(blockVisitor, block);
     }
 
     /**
@@ -145,17 +182,109 @@ public class CollisionHandler implements CollisionVisitor {
      */
     @Override
     public void visit(BreakableBlock block, Collidable other) {
-        other.onCollision(new CollisionVisitor() {
-            @Override public void visit(Player player, Collidable other) {}
+        other.onCollision(blockVisitor, block);
+    }
+
+    /**
+     * Resolves the other side of a collision with a {@link Player}.
+     */
+    private static class PlayerVisitor implements CollisionVisitor {
+        private Player player;
+
+        @Override public void visit(Player player, Collidable other) {}
 
-            @Override
-            public void visit(Bullet bullet, Collidable other) {
-                bullet.setState(false);
+        @Override
+        public void visit(Bullet bullet, Collidable other) {
+            if(bullet.getOwner() == player) {
+                LOGGER.debug("Bullet collides with its owner");
+                return;
             }
+            bullet.setState(false);
+        }
+
+        @Override
+        public void visit(Bonus bonus, Collidable other) {
+            bonus.applyEffect(player);
+        }
+
+        @Override public void visit(SolidBlock block, Collidable other) {}
+        @Override public void visit(BreakableBlock block, Collidable other) {}
+    }
+
+    /**
+     * Resolves the other side of a collision with a {@link Bullet}.
+     */
+    private static class BulletVisitor implements CollisionVisitor {
+        private Bullet bullet;
+
+        @Override
+        public void visit(Player player, Collidable other) {
+            if(bullet.getOwner() == player) {
+                LOGGER.debug("Bullet collides with its owner 2");
+                return;
+            }
+
+            bullet.setState(false);
+            player.takeDamage(bullet.getDamage(), bullet.getOwner());
+        }
+
+        @Override
+        public void visit(Bullet bullet, Collidable other) {
+            bullet.setState(false);
+        }
+
+        @Override
+        public void visit(Bonus bonus, Collidable other) {
+            bullet.setState(false);
+        }
+
+        @Override
+        public void visit(SolidBlock block, Collidable other) {
+            bullet.setState(false);
+        }
+
+        @Override
+        public void visit(BreakableBlock block, Collidable other) {
+            bullet.setState(false);
+            block.takeDamage(2);
+        }
+    }
+
+    /**
+     * Resolves the other side of a collision with a {@link Bonus}.
+     */
+    private static class BonusVisitor implements CollisionVisitor {
+        private Bonus bonus;
+
+        @Override
+        public void visit(Player player, Collidable other) {
+            bonus.applyEffect(player);
+        }
+
+        @Override
+        public void visit(Bullet bullet, Collidable other) {
+            bullet.setState(false);
+        }
+
+        @Override public void visit(Bonus bonus, Collidable other) {}
+        @Override public void visit(SolidBlock block, Collidable other) {}
+        @Override public void visit(BreakableBlock block, Collidable other) {}
+    }
+
+    /**
+     * Resolves the other side of a collision with a {@link SolidBlock} or a {@link BreakableBlock},
+     * both of them only stop bullets.
+     */
+    private static class BlockVisitor implements CollisionVisitor {
+        @Override public void visit(Player player, Collidable other) {}
+
+        @Override
+        public void visit(Bullet bullet, Collidable other) {
+            bullet.setState(false);
+        }
 
-            @Override public void visit(Bonus bonus, Collidable other) {}
-            @Override public void visit(SolidBlock block, Collidable other) {}
-            @Override public void visit(BreakableBlock block, Collidable other) {}
-        }, block);
+        @Override public void visit(Bonus bonus, Collidable other) {}
+        @Override public void visit(SolidBlock block, Collidable other) {}
+        @Override public void visit(BreakableBlock block, Collidable other) {}
     }
 }
@@ -0,0 +1,19 @@
+package com.game.core.collisions;
+
+/**
+ * Small integer identifiers of the collidable object types. They are used as indexes of the
+ * collision dispatch table in {@link CollisionHandler}, so every known type has to be in range
+ * {@code [0, COUNT)}. Objects of type {@link #UNKNOWN} are resolved through the {@link CollisionVisitor}.
+ */
+public final class CollisionKind {
+    public static final int UNKNOWN = 0;
+    public static final int PLAYER = 1;
+    public static final int BULLET = 2;
+    public static final int BONUS = 3;
+    public static final int SOLID_BLOCK = 4;
+    public static final int BREAKABLE_BLOCK = 5;
+
+    public static final int COUNT = 6;
+
+    private CollisionKind() {}
+}
@@ -2,9 +2,14 @@ package com.game.core.collisions;
 
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.diagnostics.CollisionQueryEvent;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
 import com.game.core.scene.areas.Area;
+import com.game.core.scene.blocks.Block;
+import com.game.core.utils.FrameProfiler;
+import com.game.core.utils.Scaler;
+import jdk.jfr.EventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,21 +20,107 @@ import java.util.List;
  * Manages collision detection and area effects for all entities and collidable objects in the game.
  * This class is responsible for checking entity collisions, applying area effects, and managing
  * collidable objects and areas.
+ *
+ * <p>Static geometry ({@link Block}s) is kept in an immutable {@link StaticCollisionIndex} which is baked
+ * once after the scene is loaded, while moving objects are tracked in a {@link SpatialHashGrid}.</p>
  */
 public class CollisionManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(CollisionManager.class);
+    private static final float DEFAULT_CELL_SIZE = 32f;
+    // Objects touched within this fraction of the movement after the first one are touched at the same time
+    private static final float SWEEP_EPSILON = 1e-4f;
+    // Events are created only while they are recorded, so the checks don't allocate otherwise
+    private static final EventType QUERY_EVENT_TYPE = EventType.getEventType(CollisionQueryEvent.class);
 
-    private final CollisionVisitor collisionHandler = new CollisionHandler();
-    private final List<Collidable> collidableObjects = new ArrayList<>();
+    /**
+     * Bit of the {@link #checkCollisions(Collidable, float, float)} result which is set
+     * when the movement along the X-axis is blocked.
+     */
+    public static final int COLLIDES_X = 1;
+    /**
+     * Bit of the {@link #checkCollisions(Collidable, float, float)} result which is set
+     * when the movement along the Y-axis is blocked.
+     */
+    public static final int COLLIDES_Y = 2;
+
+    private final CollisionHandler collisionHandler = new CollisionHandler();
+    private final float cellWidth;
+    private final float cellHeight;
+    private final SpatialHashGrid grid;
+    private final List<Collidable> staticObjects = new ArrayList<>();
+    private StaticCollisionIndex staticIndex;
+    private final List<Collidable> candidates = new ArrayList<>();
+    private final List<Collidable> hits = new ArrayList<>();
     private final List<Area> areas = new ArrayList<>();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    // Statistics of the last collision check, reported to the Flight Recorder
+    private int hitsCount;
+    private boolean isSwept;
+
+    /**
+     * Constructs a collision manager whose broadphase cells match the scene's tile size.
+     * If the {@link Scaler} is not configured yet, a default cell size is used.
+     */
+    public CollisionManager() {
+        this(defaultCellWidth(), defaultCellHeight());
+    }
+
+    /**
+     * Constructs a collision manager with the specified broadphase cell size.
+     *
+     * @param cellWidth  the width of a broadphase cell
+     * @param cellHeight the height of a broadphase cell
+     */
+    public CollisionManager(float cellWidth, float cellHeight) {
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.grid = new SpatialHashGrid(cellWidth, cellHeight);
+    }
 
     /**
      * Removes entities from the list of collidable objects.
+     * Removed static objects (e.g. broken blocks) are only marked with a tombstone in the static index.
      *
      * @param toRemove a list of entities to be removed from the collision list
      */
     public void removeEntities(List<Entity> toRemove) {
-        collidableObjects.removeAll(toRemove);
+        for (Entity entity : toRemove) removeEntity(entity);
+    }
+
+    /**
+     * Removes an entity from the collidable objects. Dynamic entities are found in the broadphase grid
+     * through its identity map and swap-removed from their buckets, so the removal doesn't depend
+     * on the number of the other objects.
+     *
+     * @param entity the entity to be removed
+     */
+    public void removeEntity(Entity entity) {
+        if (entity instanceof Block) {
+            if (staticIndex != null) staticIndex.remove(entity);
+            else staticObjects.remove(entity);
+        } else {
+            grid.remove(entity);
+        }
+    }
+
+    /**
+     * Bakes the static index from all static objects added so far. Should be called once
+     * after the scene is loaded; if it's not, the index is baked lazily by the first query.
+     */
+    public void bakeStaticIndex() {
+        staticIndex = new StaticCollisionIndex(staticObjects, cellWidth, cellHeight);
+        staticObjects.clear();
+        LOGGER.debug("Baked static collision index with {} objects", staticIndex.size());
+    }
+
+    /**
+     * Refreshes the broadphase cells of an object after its position or hitbox size has changed.
+     * Objects which are not registered in the manager are ignored.
+     *
+     * @param obj the object to be refreshed
+     */
+    public void updateObject(Collidable obj) {
+        grid.update(obj);
     }
 
     /**
@@ -49,25 +140,333 @@ public class CollisionManager {
         Bounds newHitboxY = createTempBounds(originalHitbox, originalHitbox.getX(), newY);
         boolean[] resetStates = {false, false};
 
-        for (Collidable other : collidableObjects) {
+        collectCandidates(
+                Math.min(newHitboxX.getMinX(), newHitboxY.getMinX()),
+                Math.min(newHitboxX.getMinY(), newHitboxY.getMinY()),
+                Math.max(newHitboxX.getMaxX(), newHitboxY.getMaxX()),
+                Math.max(newHitboxX.getMaxY(), newHitboxY.getMaxY())
+        );
+
+        for (Collidable other : candidates) {
             boolean xIntersects = newHitboxX.intersects(other.getHitbox());
             boolean yIntersects = newHitboxY.intersects(other.getHitbox());
             if (other != entity && (xIntersects || yIntersects)) {
                 if (xIntersects) resetStates[0] = true;
                 if (yIntersects) resetStates[1] = true;
 
+                if (LOGGER.isDebugEnabled())
+                    LOGGER.debug(
+                            "{} collide with {}, reset states are x={}, y={}",
+                            entity.getClass().getSimpleName(),
+                            other.getClass().getSimpleName(),
+                            resetStates[0],
+                            resetStates[1]
+                    );
+                collisionHandler.resolve(entity, other);
+            }
+        }
+
+        return resetStates;
+    }
+
+    /**
+     * Allocation-free variant of {@link #checkCollisionsFor(Collidable, float, float)}.
+     * Instead of copying the entity's hitbox, the candidates are tested against the hitbox
+     * shifted to the proposed coordinates, and the result is packed into a single int.
+     * If the entity moves farther than its radius in one step, the movement is swept,
+     * so it can't pass through thin objects.
+     *
+     * @param entity the entity whose collisions need to be checked
+     * @param newX   the proposed new X-coordinate for the entity
+     * @param newY   the proposed new Y-coordinate for the entity
+     * @return a bit mask of {@link #COLLIDES_X} and {@link #COLLIDES_Y} flags,
+     * {@code 0} if the movement is not blocked at all
+     */
+    public int checkCollisions(Collidable entity, float newX, float newY) {
+        long startTime = profiler.start();
+        CollisionQueryEvent event = beginQueryEvent();
+
+        int result = resolveCollisions(entity, newX, newY);
+
+        if (event != null) commitQueryEvent(event, entity, candidates.size(), hitsCount, isSwept, false);
+        profiler.stop(FrameProfiler.Phase.COLLISIONS, startTime);
+
+        return result;
+    }
+
+    /**
+     * Prepares the collision check of a movement ahead of time, so the checks of many entities can run
+     * in parallel. Doesn't change any state of the manager or of the objects, but the manager must not be
+     * changed while plans are prepared, and {@link #ensureStaticIndex()} must be called before.
+     *
+     * <p>The plan is used by {@link #checkCollisions(Collidable, float, float, MovePlan)} if the entity
+     * still moves from the same position to the same target and none of the found objects has moved since.
+     * Objects which moved into the area after planning are not seen, as if the entity moved before them.</p>
+     *
+     * @param entity the entity whose collisions need to be checked
+     * @param newX   the proposed new X-coordinate for the entity
+     * @param newY   the proposed new Y-coordinate for the entity
+     * @param plan   the plan of the entity which receives the result
+     */
+    public void planCollisions(Collidable entity, float newX, float newY, MovePlan plan) {
+        Bounds hitbox = entity.getHitbox();
+        float x = hitbox.getX();
+        float y = hitbox.getY();
+        List<Collidable> planCandidates = plan.getCandidates();
+
+        plan.clear();
+        queryMovementArea(hitbox, newX, newY, planCandidates);
+        int result = findHits(entity, newX, newY, planCandidates, plan.getHits());
+        plan.prepare(x, y, newX, newY, result);
+    }
+
+    /**
+     * Variant of {@link #checkCollisions(Collidable, float, float)} which uses the collisions prepared
+     * by {@link #planCollisions(Collidable, float, float, MovePlan)} if the plan is still valid.
+     * Otherwise the collisions are checked now. The plan is cleared in both cases.
+     *
+     * @param entity the entity whose collisions need to be checked
+     * @param newX   the proposed new X-coordinate for the entity
+     * @param newY   the proposed new Y-coordinate for the entity
+     * @param plan   the plan of the entity, may be {@code null}
+     * @return a bit mask of {@link #COLLIDES_X} and {@link #COLLIDES_Y} flags,
+     * {@code 0} if the movement is not blocked at all
+     */
+    public int checkCollisions(Collidable entity, float newX, float newY, MovePlan plan) {
+        if (plan == null || !plan.isValidFor(entity.getHitbox(), newX, newY)) {
+            if (plan != null) plan.clear();
+            return checkCollisions(entity, newX, newY);
+        }
+
+        long startTime = profiler.start();
+        CollisionQueryEvent event = beginQueryEvent();
+        Bounds hitbox = entity.getHitbox();
+        boolean swept = event != null && needsSweep(hitbox, newX - hitbox.getX(), newY - hitbox.getY());
+
+        resolveHits(entity, plan.getHits());
+        int result = plan.getResult();
+
+        if (event != null) commitQueryEvent(event, entity, plan.getCandidates().size(), hitsCount, swept, true);
+        plan.clear();
+        profiler.stop(FrameProfiler.Phase.COLLISIONS, startTime);
+
+        return result;
+    }
+
+    /**
+     * Starts the Flight Recorder event of a collision check.
+     *
+     * @return the started event, or {@code null} if the events aren't recorded
+     */
+    private static CollisionQueryEvent beginQueryEvent() {
+        if (!QUERY_EVENT_TYPE.isEnabled()) return null;
+
+        CollisionQueryEvent event = new CollisionQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commitQueryEvent(
+            CollisionQueryEvent event,
+            Collidable entity,
+            int candidates,
+            int hits,
+            boolean swept,
+            boolean planned
+    ) {
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.entityKind = entity.getClass().getSimpleName();
+        event.candidates = candidates;
+        event.hits = hits;
+        event.swept = swept;
+        event.planned = planned;
+        event.commit();
+    }
+
+    private int resolveCollisions(Collidable entity, float newX, float newY) {
+        Bounds hitbox = entity.getHitbox();
+        isSwept = needsSweep(hitbox, newX - hitbox.getX(), newY - hitbox.getY());
+
+        ensureStaticIndex();
+        candidates.clear();
+        queryMovementArea(hitbox, newX, newY, candidates);
+
+        int result = findHits(entity, newX, newY, candidates, hits);
+        resolveHits(entity, hits);
+        hits.clear();
+
+        return result;
+    }
+
+    /**
+     * Collects the objects near the area swept by the hitbox moving to the new position.
+     */
+    private void queryMovementArea(Bounds hitbox, float newX, float newY, List<Collidable> out) {
+        float x = hitbox.getX();
+        float y = hitbox.getY();
+
+        float minX = Math.min(x, newX) + (hitbox.getMinX() - x);
+        float minY = Math.min(y, newY) + (hitbox.getMinY() - y);
+        float maxX = Math.max(x, newX) + (hitbox.getMaxX() - x);
+        float maxY = Math.max(y, newY) + (hitbox.getMaxY() - y);
+        staticIndex.query(minX, minY, maxX, maxY, out);
+        grid.query(minX, minY, maxX, maxY, out);
+    }
+
+    /**
+     * Finds the objects the movement collides with, in the order they must be resolved in. Reads the objects
+     * only, so it's safe to call from several threads while the manager isn't changed.
+     *
+     * @return the bit mask of the blocked axes
+     */
+    private int findHits(Collidable entity, float newX, float newY, List<Collidable> candidates, List<Collidable> hits) {
+        Bounds hitbox = entity.getHitbox();
+        if (needsSweep(hitbox, newX - hitbox.getX(), newY - hitbox.getY()))
+            return findSweptHits(entity, newX, newY, candidates, hits);
+
+        float x = hitbox.getX();
+        float y = hitbox.getY();
+        int result = 0;
+        for (int i = 0, size = candidates.size(); i < size; i++) {
+            Collidable other = candidates.get(i);
+            if (other == entity) continue;
+
+            boolean xIntersects = hitbox.intersectsAt(newX, y, other.getHitbox());
+            boolean yIntersects = hitbox.intersectsAt(x, newY, other.getHitbox());
+            if (xIntersects || yIntersects) {
+                if (xIntersects) result |= COLLIDES_X;
+                if (yIntersects) result |= COLLIDES_Y;
+
+                if (LOGGER.isDebugEnabled())
+                    LOGGER.debug(
+                            "{} collide with {}, reset states are x={}, y={}",
+                            entity.getClass().getSimpleName(),
+                            other.getClass().getSimpleName(),
+                            xIntersects,
+                            yIntersects
+                    );
+                hits.add(other);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Continuous variant of the collision check for fast entities. Only the objects touched first
+     * along the movement are collided with, the objects behind them are not reached in this step.
+     * The candidates must be already collected for the whole swept area.
+     */
+    private int findSweptHits(Collidable entity, float newX, float newY, List<Collidable> candidates, List<Collidable> hits) {
+        Bounds hitbox = entity.getHitbox();
+        float x = hitbox.getX();
+        float y = hitbox.getY();
+
+        float firstHit = Float.MAX_VALUE;
+        for (int i = 0, size = candidates.size(); i < size; i++) {
+            Collidable other = candidates.get(i);
+            if (other == entity) continue;
+
+            float t = hitbox.sweep(newX, newY, other.getHitbox());
+            if (t != Bounds.NO_HIT && t < firstHit) firstHit = t;
+        }
+        if (firstHit == Float.MAX_VALUE) return 0;
+
+        int result = 0;
+        for (int i = 0, size = candidates.size(); i < size; i++) {
+            Collidable other = candidates.get(i);
+            if (other == entity) continue;
+
+            float t = hitbox.sweep(newX, newY, other.getHitbox());
+            if (t == Bounds.NO_HIT || t > firstHit + SWEEP_EPSILON) continue;
+
+            boolean xIntersects = hitbox.sweep(newX, y, other.getHitbox()) != Bounds.NO_HIT;
+            boolean yIntersects = hitbox.sweep(x, newY, other.getHitbox()) != Bounds.NO_HIT;
+            // Touched only by the diagonal movement, e.g. a corner, so both axes are blocked
+            if (!xIntersects && !yIntersects) xIntersects = yIntersects = true;
+
+            if (xIntersects) result |= COLLIDES_X;
+            if (yIntersects) result |= COLLIDES_Y;
+
+            if (LOGGER.isDebugEnabled())
                 LOGGER.debug(
-                        "{} collide with {}, reset states are x={}, y={}",
+                        "{} swept into {} at t={}, reset states are x={}, y={}",
                         entity.getClass().getSimpleName(),
                         other.getClass().getSimpleName(),
-                        resetStates[0],
-                        resetStates[1]
+                        t,
+                        xIntersects,
+                        yIntersects
                 );
-                entity.onCollision(collisionHandler, other);
-            }
+            hits.add(other);
         }
 
-        return resetStates;
+        return result;
+    }
+
+    private void resolveHits(Collidable entity, List<Collidable> hits) {
+        hitsCount = hits.size();
+        for (int i = 0, size = hits.size(); i < size; i++) collisionHandler.resolve(entity, hits.get(i));
+    }
+
+    /**
+     * Checks if the displacement is longer than the radius of the hitbox, i.e. the hitbox at the new
+     * position doesn't overlap the old one and a discrete check could miss objects in between.
+     */
+    private static boolean needsSweep(Bounds hitbox, float dx, float dy) {
+        float radius = Math.min(hitbox.getMaxX() - hitbox.getMinX(), hitbox.getMaxY() - hitbox.getMinY()) / 2;
+        return radius > 0 && dx * dx + dy * dy > radius * radius;
+    }
+
+    /**
+     * Collects the static and dynamic objects located near the specified area, e.g. for systems which
+     * keep their objects outside of the manager. The result may contain objects which don't actually
+     * intersect the area, so a narrowphase check is still required.
+     *
+     * @param minX the minimum X-coordinate of the area
+     * @param minY the minimum Y-coordinate of the area
+     * @param maxX the maximum X-coordinate of the area
+     * @param maxY the maximum Y-coordinate of the area
+     * @param out  the list the found objects are appended to
+     */
+    public void queryArea(float minX, float minY, float maxX, float maxY, List<Collidable> out) {
+        collectCandidates(minX, minY, maxX, maxY);
+        for (int i = 0, size = candidates.size(); i < size; i++) out.add(candidates.get(i));
+    }
+
+    /**
+     * Fills the candidates buffer with static and dynamic objects located near the specified area.
+     */
+    private void collectCandidates(float minX, float minY, float maxX, float maxY) {
+        ensureStaticIndex();
+
+        candidates.clear();
+        staticIndex.query(minX, minY, maxX, maxY, candidates);
+        grid.query(minX, minY, maxX, maxY, candidates);
+    }
+
+    /**
+     * Bakes the static index if it's not baked yet or static objects were added after baking.
+     * Queries bake the index lazily, so this must be called before querying from several threads.
+     */
+    public void ensureStaticIndex() {
+        if (staticIndex != null && staticObjects.isEmpty()) return;
+
+        if (staticIndex != null) LOGGER.warn("Static objects were added after baking, rebuilding the index");
+        rebakeStaticIndex();
+    }
+
+    /**
+     * Bakes the static index again, keeping the objects which are already indexed and alive.
+     */
+    private void rebakeStaticIndex() {
+        if (staticIndex != null) {
+            List<Collidable> alive = new ArrayList<>();
+            staticIndex.collectAll(alive);
+            staticObjects.addAll(0, alive);
+        }
+        bakeStaticIndex();
     }
 
     /**
@@ -79,9 +478,10 @@ public class CollisionManager {
      */
     public void applyAreas(Entity entity) {
         if (entity instanceof Player player)
-            areas.stream()
-                    .filter(area -> area.contains(player))
-                    .forEach(area -> area.applyEffect(player));
+            for (int i = 0, size = areas.size(); i < size; i++) {
+                Area area = areas.get(i);
+                if (area.contains(player)) area.applyEffect(player);
+            }
     }
 
     /**
@@ -101,11 +501,13 @@ public class CollisionManager {
 
     /**
      * Adds a collidable object to the manager for collision detection.
+     * {@link Block}s are treated as static geometry and go to the static index.
      *
      * @param obj the collidable object to be added
      */
     public void addObject(Collidable obj) {
-        this.collidableObjects.add(obj);
+        if (obj instanceof Block) this.staticObjects.add(obj);
+        else this.grid.insert(obj);
     }
 
     /**
@@ -116,4 +518,14 @@ public class CollisionManager {
     public void addArea(Area area) {
         this.areas.add(area);
     }
+
+    private static float defaultCellWidth() {
+        Scaler scaler = Scaler.getInstance();
+        return scaler.isNotConfigured() ? DEFAULT_CELL_SIZE : scaler.getTileWidth();
+    }
+
+    private static float defaultCellHeight() {
+        Scaler scaler = Scaler.getInstance();
+        return scaler.isNotConfigured() ? DEFAULT_CELL_SIZE : scaler.getTileHeight();
+    }
 }
@@ -0,0 +1,17 @@
+package com.game.core.collisions;
+
+import com.game.core.behaviour.interfaces.Collidable;
+
+/**
+ * Resolves a collision between two objects whose {@link CollisionKind}s are known in advance.
+ */
+@FunctionalInterface
+public interface CollisionResolver {
+    /**
+     * Applies the effects of a collision.
+     *
+     * @param first  the object which initiated the collision, e.g. the moving entity
+     * @param second the object it collided with
+     */
+    void resolve(Collidable first, Collidable second);
+}
@@ -0,0 +1,77 @@
+package com.game.core.collisions;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.entities.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collisions of a movement checked ahead of time by {@link CollisionManager#planCollisions}.
+ * Every entity owns its plan, so plans of different entities can be prepared in parallel,
+ * and the buffers are reused from step to step.
+ *
+ * <p>The plan remembers the move versions of the found entities. If any of them has moved since,
+ * the plan is stale and the collisions are checked again when the entity moves.</p>
+ */
+public class MovePlan {
+    private final List<Collidable> candidates = new ArrayList<>();
+    private final List<Collidable> hits = new ArrayList<>();
+    private int[] versions = new int[16];
+    private float fromX;
+    private float fromY;
+    private float toX;
+    private float toY;
+    private int result;
+    private boolean isReady = false;
+
+    /**
+     * Drops the prepared collisions, so the plan is not used until it's prepared again.
+     */
+    public void clear() {
+        candidates.clear();
+        hits.clear();
+        isReady = false;
+    }
+
+    /**
+     * Checks whether the plan was prepared for the same movement and none of the found entities
+     * has moved since.
+     *
+     * @param hitbox the current hitbox of the moving entity
+     * @param newX   the proposed new X-coordinate of the entity
+     * @param newY   the proposed new Y-coordinate of the entity
+     * @return {@code true} if the prepared collisions can be used
+     */
+    public boolean isValidFor(Bounds hitbox, float newX, float newY) {
+        if (!isReady || hitbox.getX() != fromX || hitbox.getY() != fromY || newX != toX || newY != toY)
+            return false;
+
+        for (int i = 0, size = candidates.size(); i < size; i++)
+            if (candidates.get(i) instanceof Entity entity && entity.getMoveVersion() != versions[i]) return false;
+
+        return true;
+    }
+
+    void prepare(float fromX, float fromY, float toX, float toY, int result) {
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.toX = toX;
+        this.toY = toY;
+        this.result = result;
+
+        int size = candidates.size();
+        if (size > versions.length) versions = Arrays.copyOf(versions, Math.max(size, versions.length * 2));
+        for (int i = 0; i < size; i++)
+            versions[i] = candidates.get(i) instanceof Entity entity ? entity.getMoveVersion() : 0;
+
+        this.isReady = true;
+    }
+
+    List<Collidable> getCandidates() { return candidates; }
+    List<Collidable> getHits() { return hits; }
+    int getResult() { return result; }
+    public boolean isReady() { return isReady; }
+}
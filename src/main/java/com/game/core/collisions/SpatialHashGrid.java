@@ -0,0 +1,252 @@
+package com.game.core.collisions;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Uniform-grid spatial hash used as a broadphase for collision detection.
+ * The world is split into cells of a fixed size and every registered object is put
+ * into the buckets of all cells its hitbox overlaps, so a query only visits objects
+ * which are located near the queried area.
+ *
+ * <p>Every entry remembers its index in each of its buckets, so it's removed from a bucket in O(1)
+ * by moving the last entry of the bucket into its place. The order of entries in a bucket is not kept.</p>
+ */
+public class SpatialHashGrid {
+    private static final int DEFAULT_BUCKETS_COUNT = 1024;
+    private static final int HASH_PRIME_X = 73856093;
+    private static final int HASH_PRIME_Y = 19349663;
+
+    private final float cellWidth;
+    private final float cellHeight;
+    private final List<List<Entry>> buckets;
+    private final int bucketsMask;
+    private final Map<Collidable, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Constructs a grid with the specified cell size and the default buckets count.
+     *
+     * @param cellWidth  the width of a single cell
+     * @param cellHeight the height of a single cell
+     */
+    public SpatialHashGrid(float cellWidth, float cellHeight) {
+        this(cellWidth, cellHeight, DEFAULT_BUCKETS_COUNT);
+    }
+
+    /**
+     * Constructs a grid with the specified cell size and buckets count.
+     *
+     * @param cellWidth    the width of a single cell
+     * @param cellHeight   the height of a single cell
+     * @param bucketsCount the number of hash buckets, rounded up to a power of two
+     * @throws InvalidParameterException if any of the parameters is not positive
+     */
+    public SpatialHashGrid(float cellWidth, float cellHeight, int bucketsCount) {
+        if (cellWidth <= 0 || cellHeight <= 0 || bucketsCount <= 0)
+            throw new InvalidParameterException("Invalid params was passed to SpatialHashGrid");
+
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+
+        int size = Integer.highestOneBit(bucketsCount);
+        if (size < bucketsCount) size <<= 1;
+
+        this.bucketsMask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) buckets.add(new ArrayList<>());
+    }
+
+    /**
+     * Registers an object in the grid using the current position of its hitbox.
+     * Objects without a hitbox can't collide with anything, so they are skipped.
+     *
+     * @param obj the object to register
+     */
+    public void insert(Collidable obj) {
+        Objects.requireNonNull(obj);
+        if (entries.containsKey(obj)) {
+            update(obj);
+            return;
+        }
+
+        Bounds hitbox = obj.getHitbox();
+        if (hitbox == null) return;
+
+        Entry entry = new Entry(obj);
+        computeRange(hitbox, entry);
+        addToBuckets(entry);
+        entries.put(obj, entry);
+    }
+
+    /**
+     * Unregisters an object from the grid. Does nothing if the object is not registered.
+     *
+     * @param obj the object to unregister
+     */
+    public void remove(Collidable obj) {
+        Entry entry = entries.remove(obj);
+        if (entry != null) removeFromBuckets(entry);
+    }
+
+    /**
+     * Moves an already registered object to the cells which are overlapped by its hitbox now.
+     * The buckets are touched only if the object has crossed a cell border.
+     *
+     * @param obj the object whose position or size has changed
+     */
+    public void update(Collidable obj) {
+        Entry entry = entries.get(obj);
+        if (entry == null) return;
+
+        Bounds hitbox = obj.getHitbox();
+        if (hitbox == null) {
+            remove(obj);
+            return;
+        }
+
+        int minCx = cellX(hitbox.getMinX());
+        int minCy = cellY(hitbox.getMinY());
+        int maxCx = cellX(hitbox.getMaxX());
+        int maxCy = cellY(hitbox.getMaxY());
+        if (minCx == entry.minCx && minCy == entry.minCy && maxCx == entry.maxCx && maxCy == entry.maxCy)
+            return;
+
+        removeFromBuckets(entry);
+        entry.setRange(minCx, minCy, maxCx, maxCy);
+        addToBuckets(entry);
+    }
+
+    /**
+     * Collects every registered object whose cells overlap the specified area.
+     * Each object is reported at most once; the result may contain objects which
+     * don't actually intersect the area, so a narrowphase check is still required.
+     *
+     * @param minX the minimum X-coordinate of the area
+     * @param minY the minimum Y-coordinate of the area
+     * @param maxX the maximum X-coordinate of the area
+     * @param maxY the maximum Y-coordinate of the area
+     * @param out  the list the found objects are appended to
+     */
+    public void query(float minX, float minY, float maxX, float maxY, List<Collidable> out) {
+        int qMinCx = cellX(minX);
+        int qMinCy = cellY(minY);
+        int qMaxCx = cellX(maxX);
+        int qMaxCy = cellY(maxY);
+
+        for (int cx = qMinCx; cx <= qMaxCx; cx++) {
+            for (int cy = qMinCy; cy <= qMaxCy; cy++) {
+                List<Entry> bucket = buckets.get(bucketIndex(cx, cy));
+                for (int i = 0, size = bucket.size(); i < size; i++) {
+                    Entry entry = bucket.get(i);
+                    // Report an entry only from the first queried cell it occupies, this removes
+                    // duplicates of multi-cell objects and false positives of colliding hashes
+                    if (cx == Math.max(qMinCx, entry.minCx) && cy == Math.max(qMinCy, entry.minCy)
+                            && cx <= entry.maxCx && cy <= entry.maxCy)
+                        out.add(entry.obj);
+                }
+            }
+        }
+    }
+
+    public boolean contains(Collidable obj) { return entries.containsKey(obj); }
+    public int size() { return entries.size(); }
+
+    public float getCellWidth() { return cellWidth; }
+    public float getCellHeight() { return cellHeight; }
+
+    private void computeRange(Bounds hitbox, Entry entry) {
+        entry.setRange(
+                cellX(hitbox.getMinX()),
+                cellY(hitbox.getMinY()),
+                cellX(hitbox.getMaxX()),
+                cellY(hitbox.getMaxY())
+        );
+    }
+
+    private void addToBuckets(Entry entry) {
+        for (int cx = entry.minCx; cx <= entry.maxCx; cx++)
+            for (int cy = entry.minCy; cy <= entry.maxCy; cy++) {
+                int bucketIndex = bucketIndex(cx, cy);
+                // Different cells of one entry can share a bucket, it must be stored there only once
+                if (entry.indexOf(bucketIndex) >= 0) continue;
+
+                List<Entry> bucket = buckets.get(bucketIndex);
+                entry.addSlot(bucketIndex, bucket.size());
+                bucket.add(entry);
+            }
+    }
+
+    private void removeFromBuckets(Entry entry) {
+        for (int i = 0; i < entry.slotsCount; i++) {
+            int bucketIndex = entry.bucketIndices[i];
+            int position = entry.positions[i];
+            List<Entry> bucket = buckets.get(bucketIndex);
+
+            Entry last = bucket.removeLast();
+            if (last != entry) {
+                bucket.set(position, last);
+                last.positions[last.indexOf(bucketIndex)] = position;
+            }
+        }
+        entry.slotsCount = 0;
+    }
+
+    private int bucketIndex(int cx, int cy) {
+        return ((cx * HASH_PRIME_X) ^ (cy * HASH_PRIME_Y)) & bucketsMask;
+    }
+
+    private int cellX(float x) { return (int) Math.floor(x / cellWidth); }
+    private int cellY(float y) { return (int) Math.floor(y / cellHeight); }
+
+    /**
+     * Grid record of a registered object with the range of cells it currently occupies
+     * and its positions in the buckets of these cells.
+     */
+    private static class Entry {
+        private final Collidable obj;
+        private int minCx;
+        private int minCy;
+        private int maxCx;
+        private int maxCy;
+        private int[] bucketIndices = new int[4];
+        private int[] positions = new int[4];
+        private int slotsCount = 0;
+
+        private Entry(Collidable obj) {
+            this.obj = obj;
+        }
+
+        private int indexOf(int bucketIndex) {
+            for (int i = 0; i < slotsCount; i++)
+                if (bucketIndices[i] == bucketIndex) return i;
+
+            return -1;
+        }
+
+        private void addSlot(int bucketIndex, int position) {
+            if (slotsCount == bucketIndices.length) {
+                bucketIndices = Arrays.copyOf(bucketIndices, slotsCount * 2);
+                positions = Arrays.copyOf(positions, slotsCount * 2);
+            }
+
+            bucketIndices[slotsCount] = bucketIndex;
+            positions[slotsCount] = position;
+            slotsCount++;
+        }
+
+        private void setRange(int minCx, int minCy, int maxCx, int maxCy) {
+            this.minCx = minCx;
+            this.minCy = minCy;
+            this.maxCx = maxCx;
+            this.maxCy = maxCy;
+        }
+    }
+}
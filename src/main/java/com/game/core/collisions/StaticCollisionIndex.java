@@ -0,0 +1,183 @@
+package com.game.core.collisions;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable uniform-grid index of static collidable objects, e.g. blocks which never move
+ * after the scene is loaded. The grid is baked once into flat arrays where every cell
+ * stores the indexes of the objects overlapping it. Objects can't be added after baking,
+ * but they can be removed cheaply: a removed object is only marked with a tombstone.
+ */
+public class StaticCollisionIndex {
+    private final float cellWidth;
+    private final float cellHeight;
+    private final Collidable[] objects;
+    private final boolean[] removed;
+    private final int[] minCx;
+    private final int[] minCy;
+    private final int[] maxCx;
+    private final int[] maxCy;
+    private final Map<Collidable, Integer> indexes = new IdentityHashMap<>();
+
+    private final int originCx;
+    private final int originCy;
+    private final int cols;
+    private final int rows;
+    private final int[] cellStarts;
+    private final int[] cellItems;
+    private int removedCount = 0;
+
+    /**
+     * Bakes an index of the specified objects using their current hitbox positions.
+     * Objects without a hitbox can't collide with anything, so they are skipped.
+     *
+     * @param objects    the static objects to be indexed
+     * @param cellWidth  the width of a single cell
+     * @param cellHeight the height of a single cell
+     * @throws InvalidParameterException if the cell size is not positive
+     */
+    public StaticCollisionIndex(List<? extends Collidable> objects, float cellWidth, float cellHeight) {
+        if (cellWidth <= 0 || cellHeight <= 0)
+            throw new InvalidParameterException("Invalid params was passed to StaticCollisionIndex");
+
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+
+        int count = (int) objects.stream().filter(x -> x.getHitbox() != null).count();
+        this.objects = new Collidable[count];
+        this.removed = new boolean[count];
+        this.minCx = new int[count];
+        this.minCy = new int[count];
+        this.maxCx = new int[count];
+        this.maxCy = new int[count];
+
+        int gridMinCx = Integer.MAX_VALUE, gridMinCy = Integer.MAX_VALUE;
+        int gridMaxCx = Integer.MIN_VALUE, gridMaxCy = Integer.MIN_VALUE;
+        int i = 0;
+        for (Collidable obj : objects) {
+            Bounds hitbox = obj.getHitbox();
+            if (hitbox == null) continue;
+
+            this.objects[i] = obj;
+            minCx[i] = cellX(hitbox.getMinX());
+            minCy[i] = cellY(hitbox.getMinY());
+            maxCx[i] = cellX(hitbox.getMaxX());
+            maxCy[i] = cellY(hitbox.getMaxY());
+            indexes.put(obj, i);
+
+            gridMinCx = Math.min(gridMinCx, minCx[i]);
+            gridMinCy = Math.min(gridMinCy, minCy[i]);
+            gridMaxCx = Math.max(gridMaxCx, maxCx[i]);
+            gridMaxCy = Math.max(gridMaxCy, maxCy[i]);
+            i++;
+        }
+
+        if (count == 0) {
+            this.originCx = this.originCy = 0;
+            this.cols = this.rows = 0;
+            this.cellStarts = new int[1];
+            this.cellItems = new int[0];
+            return;
+        }
+
+        this.originCx = gridMinCx;
+        this.originCy = gridMinCy;
+        this.cols = gridMaxCx - gridMinCx + 1;
+        this.rows = gridMaxCy - gridMinCy + 1;
+
+        // Counting pass, then a prefix sum turns the counts into start offsets of every cell
+        this.cellStarts = new int[cols * rows + 1];
+        for (int obj = 0; obj < count; obj++)
+            for (int cy = minCy[obj]; cy <= maxCy[obj]; cy++)
+                for (int cx = minCx[obj]; cx <= maxCx[obj]; cx++)
+                    cellStarts[cellIndex(cx, cy) + 1]++;
+
+        for (int cell = 0; cell < cols * rows; cell++)
+            cellStarts[cell + 1] += cellStarts[cell];
+
+        this.cellItems = new int[cellStarts[cols * rows]];
+        int[] fill = new int[cols * rows];
+        for (int obj = 0; obj < count; obj++)
+            for (int cy = minCy[obj]; cy <= maxCy[obj]; cy++)
+                for (int cx = minCx[obj]; cx <= maxCx[obj]; cx++) {
+                    int cell = cellIndex(cx, cy);
+                    cellItems[cellStarts[cell] + fill[cell]++] = obj;
+                }
+    }
+
+    /**
+     * Marks an object as removed, so it's never reported by queries anymore.
+     *
+     * @param obj the object to be removed
+     * @return {@code true} if the object was indexed and not removed yet, {@code false} otherwise
+     */
+    public boolean remove(Collidable obj) {
+        Integer index = indexes.get(obj);
+        if (index == null || removed[index]) return false;
+
+        removed[index] = true;
+        removedCount++;
+        return true;
+    }
+
+    /**
+     * Collects every alive indexed object whose cells overlap the specified area.
+     * Each object is reported at most once; a narrowphase check is still required.
+     *
+     * @param minX the minimum X-coordinate of the area
+     * @param minY the minimum Y-coordinate of the area
+     * @param maxX the maximum X-coordinate of the area
+     * @param maxY the maximum Y-coordinate of the area
+     * @param out  the list the found objects are appended to
+     */
+    public void query(float minX, float minY, float maxX, float maxY, List<Collidable> out) {
+        if (cols == 0) return;
+
+        int qMinCx = Math.max(cellX(minX), originCx);
+        int qMinCy = Math.max(cellY(minY), originCy);
+        int qMaxCx = Math.min(cellX(maxX), originCx + cols - 1);
+        int qMaxCy = Math.min(cellY(maxY), originCy + rows - 1);
+
+        for (int cy = qMinCy; cy <= qMaxCy; cy++) {
+            for (int cx = qMinCx; cx <= qMaxCx; cx++) {
+                int cell = cellIndex(cx, cy);
+                for (int i = cellStarts[cell], end = cellStarts[cell + 1]; i < end; i++) {
+                    int obj = cellItems[i];
+                    // Report an object only from the first queried cell it occupies
+                    if (!removed[obj] && cx == Math.max(qMinCx, minCx[obj]) && cy == Math.max(qMinCy, minCy[obj]))
+                        out.add(objects[obj]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects every indexed object which is not removed yet, in the order they were indexed.
+     *
+     * @param out the list the objects are appended to
+     */
+    public void collectAll(List<Collidable> out) {
+        for (int i = 0; i < objects.length; i++)
+            if (!removed[i]) out.add(objects[i]);
+    }
+
+    public boolean contains(Collidable obj) {
+        Integer index = indexes.get(obj);
+        return index != null && !removed[index];
+    }
+
+    public int size() { return objects.length - removedCount; }
+
+    private int cellIndex(int cx, int cy) {
+        return (cy - originCy) * cols + (cx - originCx);
+    }
+
+    private int cellX(float x) { return (int) Math.floor(x / cellWidth); }
+    private int cellY(float y) { return (int) Math.floor(y / cellHeight); }
+}
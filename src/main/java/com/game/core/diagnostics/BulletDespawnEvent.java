@@ -0,0 +1,19 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a destroyed bullet removed from the game.
+ */
+@Name("com.game.BulletDespawn")
+@Label("Bullet Despawn")
+@Category({"Shooter Game", "Bullets"})
+@StackTrace(false)
+public class BulletDespawnEvent extends Event {
+    @Label("Bullet Type")
+    public String bulletType;
+}
@@ -0,0 +1,22 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a bullet added to the game.
+ */
+@Name("com.game.BulletSpawn")
+@Label("Bullet Spawn")
+@Category({"Shooter Game", "Bullets"})
+@StackTrace(false)
+public class BulletSpawnEvent extends Event {
+    @Label("Bullet Type")
+    public String bulletType;
+
+    @Label("Rotation Angle")
+    public float rotationAngle;
+}
@@ -0,0 +1,37 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a single collision check of a moving object.
+ */
+@Name("com.game.CollisionQuery")
+@Label("Collision Query")
+@Description("A collision check of a moving object against the objects around it")
+@Category({"Shooter Game", "Collisions"})
+@StackTrace(false)
+public class CollisionQueryEvent extends Event {
+    @Label("Entity Kind")
+    public String entityKind;
+
+    @Label("Candidates")
+    @Description("Number of the objects returned by the broadphase")
+    public int candidates;
+
+    @Label("Hits")
+    @Description("Number of the resolved collisions")
+    public int hits;
+
+    @Label("Swept")
+    @Description("Whether the movement was checked continuously")
+    public boolean swept;
+
+    @Label("Planned")
+    @Description("Whether the collisions were prepared ahead by the parallel update")
+    public boolean planned;
+}
@@ -0,0 +1,25 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of an effect applied to or removed from a player.
+ */
+@Name("com.game.Effect")
+@Label("Effect")
+@Category({"Shooter Game", "Effects"})
+public class EffectEvent extends Event {
+    @Label("Effect")
+    public String effect;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Applied")
+    @Description("Whether the effect was applied, otherwise it was removed")
+    public boolean applied;
+}
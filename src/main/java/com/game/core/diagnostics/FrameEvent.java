@@ -0,0 +1,27 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a single frame of the game loop, from its beginning
+ * until the frame is rendered.
+ */
+@Name("com.game.Frame")
+@Label("Frame")
+@Description("A frame of the game loop: the simulation steps and the rendering")
+@Category({"Shooter Game", "Game Loop"})
+@StackTrace(false)
+public class FrameEvent extends Event {
+    @Label("Steps")
+    @Description("Number of the fixed simulation steps performed in the frame")
+    public int steps;
+
+    @Label("Frame Time")
+    @Description("Time passed since the previous frame, in seconds")
+    public double frameTime;
+}
@@ -0,0 +1,22 @@
+package com.game.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning a single phase of a scene loading, e.g. loading of the blocks.
+ */
+@Name("com.game.SceneLoadPhase")
+@Label("Scene Load Phase")
+@Category({"Shooter Game", "Scene"})
+public class SceneLoadPhaseEvent extends Event {
+    @Label("Scene Id")
+    public String sceneId;
+
+    @Label("Phase")
+    @Description("Name of the loaded part of the scene")
+    public String phase;
+}
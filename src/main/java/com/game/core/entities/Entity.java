@@ -6,9 +6,11 @@ import com.game.core.behaviour.interfaces.Collidable;
 import com.game.core.behaviour.interfaces.Renderable;
 import com.game.core.behaviour.interfaces.Updatable;
 import com.game.core.collisions.CollisionManager;
+import com.game.core.collisions.MovePlan;
 import com.game.core.exceptions.NotConfiguredException;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.utils.DebugUtils;
+import com.game.core.utils.TimerScheduler;
 import javafx.scene.canvas.GraphicsContext;
 
 import java.util.Objects;
@@ -22,7 +24,15 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
     private float speed;
     private Tile tile;
     private float rotationAngle = 0f; // 0 angle is right
+    private float dirX = 1f;
+    private float dirY = 0f;
     private CollisionManager cm;
+    private TimerScheduler scheduler;
+    private boolean isSchedulerShared = false;
+    private float prevX;
+    private float prevY;
+    private int moveVersion = 0;
+    private MovePlan movePlan;
 
     /**
      * Constructs a new Entity with the given visual representation and hitbox bounds.
@@ -36,14 +46,13 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
     }
 
     /**
-     * Calculates and retrieves the current velocity vector of the entity
-     * based on its rotation angle.
+     * Retrieves the current velocity vector of the entity based on its rotation angle.
+     * Prefer {@link #getDirX()} and {@link #getDirY()} in hot paths, they don't allocate an array.
      *
      * @return an array containing the velocity components [x, y].
      */
     public float[] getVelocity() {
-        float angleInRads = (float) Math.toRadians(getRotationAngle());
-        return new float[]{(float) Math.cos(angleInRads), (float) Math.sin(angleInRads)};
+        return new float[]{dirX, dirY};
     }
 
     /**
@@ -54,19 +63,70 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
     protected void move(double deltaTime) {
         if (getCm() == null) throw new NotConfiguredException("Collision manager dont specified to " + this);
 
-        float[] dirs = getVelocity();
-        float dx = dirs[0] * (float) deltaTime;
-        float dy = dirs[1] * (float) deltaTime;
+        float newX = getTargetX(deltaTime);
+        float newY = getTargetY(deltaTime);
 
-        float newX = getX() + (getSpeed() * dx);
-        float newY = getY() + (getSpeed() * dy);
-
-        boolean[] resetStates = getCm().checkCollisionsFor(this, newX, newY);
-        setPos(!resetStates[0] ? newX : getX(), !resetStates[1] ? newY : getY());
+        int collisions = movePlan == null
+                ? getCm().checkCollisions(this, newX, newY)
+                : getCm().checkCollisions(this, newX, newY, movePlan);
+        setPos(
+                (collisions & CollisionManager.COLLIDES_X) == 0 ? newX : getX(),
+                (collisions & CollisionManager.COLLIDES_Y) == 0 ? newY : getY()
+        );
 
         getCm().applyAreas(this);
     }
 
+    /**
+     * Prepares the collisions of the movement of the next update ahead of time, so the entities
+     * can be planned in parallel. Must not change any state, it's called from worker threads.
+     * By default entities are not planned and check their collisions when they move.
+     *
+     * @param deltaTime the time of the next update.
+     */
+    public void planMove(double deltaTime) {}
+
+    /**
+     * Plans the movement {@link #move(double)} would make in the next update, if the entity
+     * moves from its current position in the direction of its velocity.
+     *
+     * @param deltaTime the time of the next update.
+     */
+    protected void planForwardMove(double deltaTime) {
+        if (getCm() == null) throw new NotConfiguredException("Collision manager dont specified to " + this);
+        if (movePlan == null) movePlan = new MovePlan();
+
+        getCm().planCollisions(this, getTargetX(deltaTime), getTargetY(deltaTime), movePlan);
+    }
+
+    private float getTargetX(double deltaTime) {
+        return getX() + (getSpeed() * (dirX * (float) deltaTime));
+    }
+
+    private float getTargetY(double deltaTime) {
+        return getY() + (getSpeed() * (dirY * (float) deltaTime));
+    }
+
+    /**
+     * Sets the position of the entity and refreshes its cells in the collision broadphase.
+     *
+     * @param x the new x-coordinate of the entity
+     * @param y the new y-coordinate of the entity
+     */
+    @Override
+    public void setPos(float x, float y) {
+        super.setPos(x, y);
+        moveVersion++;
+        if (getCm() != null) getCm().updateObject(this);
+    }
+
+    /**
+     * Returns the number of position changes of the entity, used to detect stale {@link MovePlan}s.
+     *
+     * @return the move version, it only grows and wraps around on overflow.
+     */
+    public int getMoveVersion() { return moveVersion; }
+
     /**
      * Draws the entity on the specified graphics context. If debugging is enabled,
      * the entity's hitbox will also be rendered.
@@ -79,12 +139,52 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
         DebugUtils.drawHitboxIfDebug(gc, getHitbox());
     }
 
+    /**
+     * Draws the entity at the position interpolated between the previous and the current simulation steps.
+     * Everything drawn by {@link #draw(GraphicsContext)} is shifted, including the debug hitbox.
+     *
+     * @param gc    the {@link GraphicsContext} to render the entity on.
+     * @param alpha the interpolation factor, {@code 0} is the previous position and {@code 1} is the current one.
+     */
+    @Override
+    public void draw(GraphicsContext gc, double alpha) {
+        double offsetX = (getPrevX() - getX()) * (1 - alpha);
+        double offsetY = (getPrevY() - getY()) * (1 - alpha);
+        if (offsetX == 0 && offsetY == 0) {
+            draw(gc);
+            return;
+        }
+
+        gc.save();
+        gc.translate(offsetX, offsetY);
+        draw(gc);
+        gc.restore();
+    }
+
+    /**
+     * Remembers the current position as the previous one. Called before every simulation step,
+     * and after teleporting the entity, so it's not interpolated across the whole move.
+     */
+    public void savePreviousPosition() {
+        this.prevX = getX();
+        this.prevY = getY();
+    }
+
+    public float getPrevX() { return prevX; }
+    public float getPrevY() { return prevY; }
+
     /**
      * Renders the visual appearance of the entity on the specified graphics context.
+     * Tiles with the cache of rotated variants are drawn without transforming the context.
      *
      * @param gc the {@link GraphicsContext} to render the entity on.
      */
     public void render(GraphicsContext gc) {
+        if (getTile().hasRotationCache()) {
+            getTile().drawRotated(gc, getX(), getY(), getRotationAngle());
+            return;
+        }
+
         gc.save();
         gc.translate(getX(), getY());
         gc.rotate(getRotationAngle());
@@ -93,7 +193,7 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
     }
 
     @Override public Tile getTile() { return tile; }
-    private void setTile(Tile tile) { this.tile = Objects.requireNonNull(tile); }
+    protected void setTile(Tile tile) { this.tile = Objects.requireNonNull(tile); }
 
     /**
      * Sets the active state of the entity, determining if it should be updated or rendered.
@@ -120,13 +220,23 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
 
     /**
      * Sets the rotation angle of the entity, constrained within a 0-360 degree range.
+     * The unit direction vector is recalculated only if the angle has changed.
      *
      * @param rotationAngle the new rotation angle to set.
      */
     protected void setRotationAngle(float rotationAngle) {
-        this.rotationAngle = rotationAngle % 360;
+        float angle = rotationAngle % 360;
+        if (angle == this.rotationAngle) return;
+
+        this.rotationAngle = angle;
+        double angleInRads = Math.toRadians(angle);
+        this.dirX = (float) Math.cos(angleInRads);
+        this.dirY = (float) Math.sin(angleInRads);
     }
 
+    public float getDirX() { return dirX; }
+    public float getDirY() { return dirY; }
+
     /**
      * Retrieves the collision manager assigned to the entity.
      *
@@ -146,6 +256,43 @@ public abstract class Entity extends CollidableGameObject implements Collidable,
         this.cm = Objects.requireNonNull(cm);
     }
 
+    /**
+     * Retrieves the scheduler the entity's delayed actions are scheduled on. Once the entity is added
+     * to a scene it's the scene's scheduler, a local one is created on demand only for entities
+     * which live on their own, e.g. in tests.
+     *
+     * @return the {@link TimerScheduler} of the entity.
+     */
+    public TimerScheduler getScheduler() {
+        if (scheduler == null) scheduler = new TimerScheduler();
+        return scheduler;
+    }
+
+    /**
+     * Makes the entity use the shared scheduler. Tasks pending on the local scheduler are moved
+     * to the shared one and keep their remaining time.
+     *
+     * @param scheduler the shared {@link TimerScheduler}, usually the scene's one.
+     * @throws NullPointerException if the specified scheduler is {@code null}.
+     */
+    public void setScheduler(TimerScheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        if (this.scheduler != null && !isSchedulerShared) this.scheduler.attachTo(scheduler);
+
+        this.scheduler = scheduler;
+        this.isSchedulerShared = true;
+    }
+
+    /**
+     * Advances the local scheduler of the entity. Does nothing once the entity uses a shared scheduler,
+     * since the shared one is advanced by its owner.
+     *
+     * @param deltaTime the time elapsed since the previous frame.
+     */
+    protected void advanceLocalScheduler(double deltaTime) {
+        if (scheduler != null && !isSchedulerShared) scheduler.advance(deltaTime);
+    }
+
     @Override
     public String toString() {
         return "Entity{" +
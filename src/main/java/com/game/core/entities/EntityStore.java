@@ -0,0 +1,217 @@
+package com.game.core.entities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Dense storage of the entities of a scene. Entities are kept packed in an array, so iterating
+ * over them is a plain indexed loop, and a removed entity is replaced by the last one (swap-remove),
+ * so removal costs O(1) instead of shifting the rest of the list.
+ *
+ * <p>Every added entity gets a handle of a stable slot combined with the generation of the slot.
+ * Slots of removed entities are reused, but the generation is increased, so a handle of a removed
+ * entity never resolves to another entity which took its slot.</p>
+ *
+ * <p>Removal changes the order of the remaining entities. The store isn't thread-safe.</p>
+ */
+public class EntityStore {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private Entity[] dense;
+    private int[] denseSlots;
+    private int[] slotIndices;
+    private int[] generations;
+    private int[] freeSlots;
+    private int size = 0;
+    private int slotsCount = 0;
+    private int freeCount = 0;
+    private final List<Entity> view = new View();
+
+    public EntityStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store with the specified initial capacity, it grows when needed.
+     *
+     * @param capacity the initial number of entities which fit into the store
+     */
+    public EntityStore(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        this.dense = new Entity[initialCapacity];
+        this.denseSlots = new int[initialCapacity];
+        this.slotIndices = new int[initialCapacity];
+        this.generations = new int[initialCapacity];
+        this.freeSlots = new int[initialCapacity];
+    }
+
+    /**
+     * Adds the entity to the end of the store.
+     *
+     * @param entity the added entity
+     * @return the handle of the entity
+     */
+    public long add(Entity entity) {
+        Objects.requireNonNull(entity);
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotsCount == slotIndices.length) growSlots();
+            slot = slotsCount++;
+        }
+        if (size == dense.length) growDense();
+
+        dense[size] = entity;
+        denseSlots[size] = slot;
+        slotIndices[slot] = size;
+        size++;
+
+        return handle(slot, generations[slot]);
+    }
+
+    /**
+     * Returns the entity of the handle.
+     *
+     * @param handle the handle returned by {@link #add(Entity)}
+     * @return the entity, or {@code null} if it was removed
+     */
+    public Entity get(long handle) {
+        int index = indexOf(handle);
+        return index >= 0 ? dense[index] : null;
+    }
+
+    /**
+     * Checks whether the entity of the handle is still in the store.
+     *
+     * @param handle the handle returned by {@link #add(Entity)}
+     * @return {@code true} if the entity wasn't removed
+     */
+    public boolean contains(long handle) {
+        return indexOf(handle) >= 0;
+    }
+
+    /**
+     * Removes the entity of the handle, the last entity of the store takes its place.
+     *
+     * @param handle the handle returned by {@link #add(Entity)}
+     * @return {@code true} if the entity was removed, {@code false} if the handle is stale
+     */
+    public boolean remove(long handle) {
+        int index = indexOf(handle);
+        if (index < 0) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes all entities which match the filter in a single pass over the store.
+     *
+     * @param filter    the filter of the removed entities
+     * @param onRemoved receives every removed entity
+     * @return the number of removed entities
+     */
+    public int removeIf(Predicate<Entity> filter, Consumer<Entity> onRemoved) {
+        int removed = 0;
+        // Backwards, so an entity swapped into the freed index has been visited already
+        for (int i = size - 1; i >= 0; i--) {
+            Entity entity = dense[i];
+            if (!filter.test(entity)) continue;
+
+            removeAt(i);
+            onRemoved.accept(entity);
+            removed++;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes all entities, the handles of all of them become stale.
+     */
+    public void clear() {
+        for (int i = size - 1; i >= 0; i--) removeAt(i);
+    }
+
+    /**
+     * Returns the entity at the specified position of the current order.
+     *
+     * @param index the position in range [0, size)
+     * @return the entity
+     */
+    public Entity getAt(int index) {
+        Objects.checkIndex(index, size);
+        return dense[index];
+    }
+
+    /**
+     * Returns a read-only view of the entities in their current order, it reflects all later changes.
+     *
+     * @return the view of the store
+     */
+    public List<Entity> asList() { return view; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    private void removeAt(int index) {
+        int slot = denseSlots[index];
+        int last = --size;
+
+        dense[index] = dense[last];
+        denseSlots[index] = denseSlots[last];
+        slotIndices[denseSlots[index]] = index;
+        dense[last] = null;
+
+        slotIndices[slot] = -1;
+        // Handles are non-negative, so the generation wraps around within 31 bits
+        generations[slot] = (generations[slot] + 1) & Integer.MAX_VALUE;
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int indexOf(long handle) {
+        if (handle < 0) return -1;
+
+        int slot = (int) handle;
+        int generation = (int) (handle >>> 32);
+        if (slot >= slotsCount || generations[slot] != generation) return -1;
+
+        return slotIndices[slot];
+    }
+
+    private void growDense() {
+        dense = Arrays.copyOf(dense, dense.length * 2);
+        denseSlots = Arrays.copyOf(denseSlots, denseSlots.length * 2);
+    }
+
+    private void growSlots() {
+        slotIndices = Arrays.copyOf(slotIndices, slotIndices.length * 2);
+        generations = Arrays.copyOf(generations, generations.length * 2);
+    }
+
+    private static long handle(int slot, int generation) {
+        return ((long) generation << 32) | slot;
+    }
+
+    /**
+     * Read-only list over the packed entities.
+     */
+    private class View extends AbstractList<Entity> implements RandomAccess {
+        @Override
+        public Entity get(int index) {
+            return getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
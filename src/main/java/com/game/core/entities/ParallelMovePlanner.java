@@ -0,0 +1,85 @@
+package com.game.core.entities;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * First phase of the two-phase update of a scene. The movements of the entities are planned in parallel
+ * on a {@link ForkJoinPool}: each entity checks the collisions of its next move into its own
+ * {@link com.game.core.collisions.MovePlan}. Then the scene updates the entities serially in their order,
+ * and the planned collisions are resolved there, so the outcome of a step doesn't depend on the threads.
+ *
+ * <p>Nothing may change the entities or the collision manager while they are planned.</p>
+ */
+public class ParallelMovePlanner {
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public ParallelMovePlanner() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a planner running on the specified pool.
+     *
+     * @param pool      the pool which plans the entities
+     * @param batchSize the number of entities planned by a single task
+     * @throws InvalidParameterException if the batch size is not positive
+     */
+    public ParallelMovePlanner(ForkJoinPool pool, int batchSize) {
+        if (batchSize <= 0) throw new InvalidParameterException("Batch size must be higher than 0");
+
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Plans the moves of all entities of the next update and waits until all of them are planned.
+     *
+     * @param entities  the entities of the scene, must support fast random access
+     * @param deltaTime the time of the next update, in seconds
+     */
+    public void plan(List<Entity> entities, double deltaTime) {
+        if (entities.isEmpty()) return;
+
+        pool.invoke(new PlanTask(entities, 0, entities.size(), deltaTime));
+    }
+
+    public int getBatchSize() { return batchSize; }
+
+    /**
+     * Plans a range of the entities, splitting it in halves until it fits into a batch.
+     */
+    private class PlanTask extends RecursiveAction {
+        private final List<Entity> entities;
+        private final int from;
+        private final int to;
+        private final double deltaTime;
+
+        private PlanTask(List<Entity> entities, int from, int to, double deltaTime) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.deltaTime = deltaTime;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                for (int i = from; i < to; i++) entities.get(i).planMove(deltaTime);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new PlanTask(entities, from, middle, deltaTime),
+                    new PlanTask(entities, middle, to, deltaTime)
+            );
+        }
+    }
+}
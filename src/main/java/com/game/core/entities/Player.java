@@ -2,8 +2,10 @@ package com.game.core.entities;
 
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.diagnostics.EffectEvent;
 import com.game.core.effects.Effect;
 import com.game.core.effects.NoEffect;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.exceptions.InvalidParameterException;
@@ -12,15 +14,13 @@ import com.game.core.scene.spawners.PlayerSpawner;
 import com.game.core.shooting.ShootingManager;
 import com.game.core.strategies.SingleShootStrategy;
 import com.game.core.utils.PositionUtils;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.SceneConfig;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 
@@ -44,9 +44,6 @@ public class Player extends Entity {
     private float rotationSpeed;
     private int rotationDirection = 1;
 
-    private final List<Timer<Player>> timers = new ArrayList<>();
-    private final List<Timer<Player>> timersToAdd = new ArrayList<>();
-
     private Effect activeEffect;
     private boolean hasShield = false;
     private float shieldHitboxMultiplier;
@@ -115,17 +112,35 @@ public class Player extends Entity {
 
         setActiveEffect(effect);
         effect.apply(this);
+        recordEffectEvent(effect, true);
 
-        timersToAdd.add(new Timer<>(effect.getDuration(), (x) -> {
+        getScheduler().schedule(effect.getDuration(), () -> {
             LOGGER.info("Effect removed");
-            x.getActiveEffect().remove(x);
-            x.setActiveEffect(null);
-        }));
+            getActiveEffect().remove(this);
+            recordEffectEvent(getActiveEffect(), false);
+            setActiveEffect(null);
+        });
 
         LOGGER.info("Effect applied = {}", effect.getClass().getSimpleName());
         return true;
     }
 
+    /**
+     * Reports an applied or removed effect to the Flight Recorder, if it's recording.
+     *
+     * @param effect  The effect.
+     * @param applied {@code true} if the effect was applied, {@code false} if it was removed.
+     */
+    private void recordEffectEvent(Effect effect, boolean applied) {
+        EffectEvent event = new EffectEvent();
+        if (!event.shouldCommit()) return;
+
+        event.effect = effect.getClass().getSimpleName();
+        event.player = toString();
+        event.applied = applied;
+        event.commit();
+    }
+
     /**
      * Reduces the player's health by the specified damage amount and marks the player as dead if health falls below zero.
      *
@@ -140,7 +155,7 @@ public class Player extends Entity {
             LOGGER.info("Took critical damage, player is dead");
             setDead(true);
             if (attacker != null) attacker.incrementKillsCount();
-            timersToAdd.add(new Timer<>(5f, (p) -> p.getSpawner().spawn()));
+            getScheduler().schedule(5f, () -> getSpawner().spawn());
         }
     }
 
@@ -154,11 +169,12 @@ public class Player extends Entity {
         LOGGER.info("Player respawned");
 
         setPos(x, y);
+        savePreviousPosition();
         setHealth(getMaxHealth());
         setDead(false);
         setHasShield(true);
 
-        timersToAdd.add(new Timer<>(5f, p -> p.setHasShield(false)));
+        getScheduler().schedule(5f, () -> setHasShield(false));
     }
 
     /**
@@ -192,12 +208,7 @@ public class Player extends Entity {
 
     @Override
     public void update(double deltaTime) {
-        List<Timer<Player>> toRemove = new ArrayList<>();
-        timers.forEach(t -> t.update(deltaTime, this, () -> toRemove.add(t)));
-        timers.removeAll(toRemove);
-        timers.addAll(timersToAdd);
-        timersToAdd.clear();
-
+        advanceLocalScheduler(deltaTime);
         getSm().update(deltaTime);
 
         // If player is dead it's not rotating and not moving
@@ -226,6 +237,8 @@ public class Player extends Entity {
         visitor.visit(this, other);
     }
 
+    @Override public int getCollisionKind() { return CollisionKind.PLAYER; }
+
     /**
      * Renders the player on the game canvas, including a visual effect if the shield is active.
      *
@@ -296,6 +309,7 @@ public class Player extends Entity {
         if (hasShield) multiplier = getShieldHitboxMultiplier();
 
         getHitbox().multiply(multiplier);
+        if (getCm() != null) getCm().updateObject(this);
     }
 
     public float getRotationSpeed() { return rotationSpeed; }
@@ -315,6 +329,17 @@ public class Player extends Entity {
         return sm;
     }
 
+    /**
+     * Attaches the schedulers of the player and of its shooting manager to the shared one.
+     *
+     * @param scheduler The shared scheduler, usually the scene's one.
+     */
+    @Override
+    public void setScheduler(TimerScheduler scheduler) {
+        super.setScheduler(scheduler);
+        getSm().setScheduler(scheduler);
+    }
+
     public float getShieldHitboxMultiplier() { return shieldHitboxMultiplier; }
     public void setShieldHitboxMultiplier(float shieldHitboxMultiplier) {
         if (shieldHitboxMultiplier <= 0)
@@ -335,7 +360,7 @@ public class Player extends Entity {
                 ", defaultSpeed=" + defaultSpeed +
                 ", rotationSpeed=" + rotationSpeed +
                 ", rotationDirection=" + rotationDirection +
-                ", timers=" + timers.size() +
+                ", timers=" + getScheduler().size() +
                 ", activeEffect=" + (activeEffect != null ? activeEffect.getClass().getSimpleName() : "null") +
                 ", hasShield=" + hasShield +
                 ", shieldHitboxMultiplier=" + shieldHitboxMultiplier +
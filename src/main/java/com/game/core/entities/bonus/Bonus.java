@@ -5,6 +5,7 @@ import com.game.core.behaviour.interfaces.Collidable;
 import com.game.core.effects.Effect;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.scene.graphics.Tile;
 
@@ -57,4 +58,6 @@ public class Bonus extends Entity {
     public void onCollision(CollisionVisitor visitor, Collidable other) {
         visitor.visit(this, other);
     }
+
+    @Override public int getCollisionKind() { return CollisionKind.BONUS; }
 }
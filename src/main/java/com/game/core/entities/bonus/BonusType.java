@@ -1,7 +1,7 @@
 package com.game.core.entities.bonus;
 
-import java.security.SecureRandom;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public enum BonusType {
     SPEED_BOOST,
@@ -10,11 +10,17 @@ public enum BonusType {
     CIRCULAR_SHOOT,
     SHIELD;
 
-    private static final SecureRandom RANDOM = new SecureRandom();
     private static final List<BonusType> VALUES = List.of(values());
     private static final int SIZE = VALUES.size();
 
-    public static BonusType randomBonus()  {
-        return VALUES.get(RANDOM.nextInt(SIZE));
+    /**
+     * Picks a bonus type with equal chances. The generator is passed by the caller,
+     * so a scene seeded with the same seed picks the same bonuses.
+     *
+     * @param random the random generator of the scene
+     * @return the picked bonus type
+     */
+    public static BonusType randomBonus(RandomGenerator random) {
+        return VALUES.get(random.nextInt(SIZE));
     }
 }
@@ -4,14 +4,16 @@ import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.bounds.CircleBounds;
 import com.game.core.behaviour.bounds.RectangleBounds;
 import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.exceptions.NotConfiguredException;
 import com.game.core.factories.BoundsFactory;
+import com.game.core.scene.graphics.TextureCache;
 import com.game.core.scene.graphics.Tile;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.SceneConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,16 +22,18 @@ import java.util.Objects;
 
 /**
  * Represents a bullet entity in the game, fired by a player.
- * A bullet has a specific owner, type, speed, damage, and a timer for automatic destruction.
+ * A bullet has a specific owner, type, speed, damage, and a scheduled task for automatic destruction.
  */
 public class Bullet extends Entity {
     private static final Logger LOGGER = LoggerFactory.getLogger(Bullet.class);
 
-    private final Player owner;
-    private final BulletType type;
-    private final int damage;
-    private final float timeToDestroy;
-    private Timer<Bullet> destroyTimer;
+    private Player owner;
+    private BulletType type;
+    private int damage;
+    private float timeToDestroy;
+    private TimerScheduler.Task destroyTask;
+    private boolean isPooled = false;
+    private boolean isAcquired = false;
 
     /**
      * Initializes a Bullet instance with the specified parameters.
@@ -54,15 +58,49 @@ public class Bullet extends Entity {
             float rotationAngle
     ) {
         super(tile, hitbox);
+        reset(owner, type, tile, hitbox, timeToDestroy, damage, speed, rotationAngle);
+    }
 
+    /**
+     * Reinitializes the bullet, so a destroyed instance taken from a {@link BulletPool}
+     * can be fired again. The bullet becomes alive and its pending destroy task is cancelled,
+     * a new one is scheduled by the first update after the bullet is fired. The builder passes
+     * the own hitbox of a pooled bullet re-initialized in place, so firing it allocates no bounds.
+     *
+     * @param owner         The player or entity that fired this bullet.
+     * @param type          The type of the bullet.
+     * @param tile          The graphical tile representing this bullet.
+     * @param hitbox        The hitbox used for collision detection.
+     * @param timeToDestroy The lifetime of the bullet in seconds before automatic destruction.
+     * @param damage        The damage inflicted by this bullet.
+     * @param speed         The speed at which the bullet moves.
+     * @param rotationAngle The initial rotation angle of the bullet in degrees.
+     */
+    public void reset(
+            Player owner,
+            BulletType type,
+            Tile tile,
+            Bounds hitbox,
+            float timeToDestroy,
+            int damage,
+            float speed,
+            float rotationAngle
+    ) {
         this.owner = owner;
         this.damage = damage;
         this.type = type;
         this.timeToDestroy = timeToDestroy;
 
+        setTile(tile);
+        setHitbox(hitbox);
         setRotationAngle(rotationAngle);
         setSpeed(speed);
-        createDestroyTimer();
+        setState(true);
+
+        if (getDestroyTask() != null) {
+            getDestroyTask().cancel();
+            setDestroyTask(null);
+        }
     }
 
     /**
@@ -76,18 +114,38 @@ public class Bullet extends Entity {
         visitor.visit(this, other);
     }
 
+    @Override public int getCollisionKind() { return CollisionKind.BULLET; }
+
+    /**
+     * Moves the bullet. The destroy task is scheduled lazily, so the lifetime of the bullet
+     * starts when it's fired rather than when it's created and waits in the shooting queue.
+     *
+     * @param deltaTime The time elapsed since the last update, in seconds.
+     */
     @Override
     public void update(double deltaTime) {
         move(deltaTime);
-        if (getDestroyTimer() != null)
-            getDestroyTimer().update(deltaTime, this, () -> setDestroyTimer(null));
+        if (getDestroyTask() == null) createDestroyTask();
+
+        advanceLocalScheduler(deltaTime);
+    }
+
+    /**
+     * Bullets are destroyed by their hits instead of being blocked by them, so the collisions
+     * of their flight are planned ahead of the update.
+     *
+     * @param deltaTime the time of the next update.
+     */
+    @Override
+    public void planMove(double deltaTime) {
+        planForwardMove(deltaTime);
     }
 
     /**
-     * Creates a timer that handles the automatic destruction of the bullet after its lifetime expires.
+     * Schedules a task that handles the automatic destruction of the bullet after its lifetime expires.
      */
-    private void createDestroyTimer() {
-        setDestroyTimer(new Timer<>(getTimeToDestroy(), (x) -> x.setState(false)));
+    private void createDestroyTask() {
+        setDestroyTask(getScheduler().schedule(getTimeToDestroy(), () -> setState(false)));
     }
 
     public BulletType getType() { return this.type; }
@@ -95,8 +153,14 @@ public class Bullet extends Entity {
     public int getDamage() { return this.damage; }
     public float getTimeToDestroy() { return this.timeToDestroy; }
 
-    public Timer<Bullet> getDestroyTimer() { return destroyTimer; }
-    private void setDestroyTimer(Timer<Bullet> timer) { destroyTimer = timer; }
+    public TimerScheduler.Task getDestroyTask() { return destroyTask; }
+    private void setDestroyTask(TimerScheduler.Task task) { destroyTask = task; }
+
+    boolean isPooled() { return isPooled; }
+    void setPooled(boolean isPooled) { this.isPooled = isPooled; }
+
+    boolean isAcquired() { return isAcquired; }
+    void setAcquired(boolean isAcquired) { this.isAcquired = isAcquired; }
 
 
     /**
@@ -104,7 +168,6 @@ public class Bullet extends Entity {
      * Accounts for the hitbox of the owner when determining start position.
      */
     public void setStartPosition() {
-        float[] dirs = getVelocity();
         float xOffset = 0, yOffset = 0;
         if (getOwner().getHitbox() instanceof CircleBounds circle) {
             xOffset = yOffset = circle.getRadius();
@@ -113,8 +176,8 @@ public class Bullet extends Entity {
             yOffset = rect.getHeight() / 2f;
         }
 
-        float x = owner.getX() + xOffset * 2f * dirs[0];
-        float y = owner.getY() + yOffset * 2f * dirs[1];
+        float x = owner.getX() + xOffset * 2f * getDirX();
+        float y = owner.getY() + yOffset * 2f * getDirY();
         LOGGER.debug("Bullet's start position is x={}, y={}, owner={}", x, y, getOwner());
 
         setPos(x, y);
@@ -133,6 +196,8 @@ public class Bullet extends Entity {
         private Tile tile;
         private String texture;
         private Bounds hitbox;
+        private SceneConfig.BoundsConfig hitboxConfig;
+        private BulletPool pool;
         private final BulletType type;
 
         /**
@@ -157,7 +222,8 @@ public class Bullet extends Entity {
         }
 
         /**
-         * Configures the builder using external configuration data.
+         * Configures the builder using external configuration data. The hitbox is created
+         * by {@link #build()}, a bullet taken from the pool reuses its own one.
          *
          * @param config The configuration object containing bullet settings.
          * @return The current builder instance.
@@ -168,8 +234,8 @@ public class Bullet extends Entity {
 
             this
                 .damage(config.getDamage())
-                .timeToDestroy(config.getTimeToDestroy())
-                .hitbox(BoundsFactory.createFromConfig(config.getHitbox()));
+                .timeToDestroy(config.getTimeToDestroy());
+            this.hitboxConfig = Objects.requireNonNull(config.getHitbox());
             this.texture = config.getTextures().get(type);
             return this;
         }
@@ -208,7 +274,20 @@ public class Bullet extends Entity {
         }
 
         /**
-         * Builds a new Bullet instance using the provided parameters.
+         * Specifies the pool the bullet is taken from. If the pool has no free bullets
+         * or isn't specified, a new instance is created.
+         *
+         * @param pool The pool of destroyed bullets, may be {@code null}.
+         * @return The current builder instance.
+         */
+        public builder pool(BulletPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Builds a Bullet instance using the provided parameters. A free bullet from the pool
+         * is reinitialized if possible, otherwise a new instance is created.
          *
          * @return A fully constructed Bullet instance.
          * @throws NotConfiguredException If required configuration (e.g., texture) is missing.
@@ -218,10 +297,28 @@ public class Bullet extends Entity {
 
             float coefficient = 1.5f + (float)Math.tanh(speed / 250.0f) * 0.5f;
             this.speed *= coefficient;
-            if (tile == null)
-                this.tile = new Tile(texture, null);
+            if (tile == null) this.tile = TextureCache.getInstance().getTile(texture, null, Tile.DEFAULT_ROTATION_STEPS);
+
+            Bullet bullet = pool != null ? pool.acquire() : null;
+            if (bullet != null) {
+                bullet.reset(owner, type, tile, getHitbox(bullet.getHitbox()), timeToDestroy, damage, speed, rotationAngle);
+                return bullet;
+            }
+
+            return new Bullet(owner, type, tile, getHitbox(null), timeToDestroy, damage, speed, rotationAngle);
+        }
+
+        /**
+         * Returns the explicitly specified hitbox, otherwise the configured one: the hitbox of a pooled
+         * bullet is re-initialized in place, and a new one is created only for a new bullet.
+         */
+        private Bounds getHitbox(Bounds pooledHitbox) {
+            if (hitbox != null) return hitbox;
+            if (hitboxConfig == null) throw new NotConfiguredException("Bullet's hitbox is not specified");
 
-            return new Bullet(owner, type, tile, hitbox, timeToDestroy, damage, speed, rotationAngle);
+            return pooledHitbox != null
+                    ? BoundsFactory.reuseFromConfig(pooledHitbox, hitboxConfig)
+                    : BoundsFactory.createFromConfig(hitboxConfig);
         }
     }
 }
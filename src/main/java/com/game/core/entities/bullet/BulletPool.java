@@ -0,0 +1,108 @@
+package com.game.core.entities.bullet;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded pool of dead bullets which can be reinitialized instead of creating new ones.
+ * Bullets are taken by {@link Bullet.builder} and returned by the scene once they are destroyed.
+ * The pool keeps statistics which help to tune its capacity. Only the bullets taken from the pool
+ * are counted as in use, new bullets created on a miss join the pool when they are returned.
+ */
+public class BulletPool {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Deque<Bullet> freeBullets = new ArrayDeque<>();
+    private final int capacity;
+    private long hits = 0;
+    private long misses = 0;
+    private long dropped = 0;
+    private int inUse = 0;
+    private int highWaterMark = 0;
+
+    /**
+     * Constructs a pool with the default capacity.
+     */
+    public BulletPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a pool which keeps at most the specified number of free bullets.
+     *
+     * @param capacity the maximum number of free bullets kept by the pool
+     * @throws InvalidParameterException if the capacity is not positive
+     */
+    public BulletPool(int capacity) {
+        if (capacity <= 0) throw new InvalidParameterException("Bullet pool capacity must be higher than 0");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes a free bullet from the pool. The returned bullet must be reinitialized with
+     * {@link Bullet#reset} before it's used. If the pool is empty, the caller is expected to
+     * create a new bullet, which can be returned to the pool later.
+     *
+     * @return a free bullet, or {@code null} if the pool is empty
+     */
+    public Bullet acquire() {
+        Bullet bullet = freeBullets.pollFirst();
+        if (bullet == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        bullet.setPooled(false);
+        bullet.setAcquired(true);
+        return bullet;
+    }
+
+    /**
+     * Returns a destroyed bullet to the pool. Bullets which are already in the pool are ignored,
+     * and bullets which don't fit into the pool are left to the garbage collector.
+     *
+     * @param bullet the destroyed bullet
+     */
+    public void release(Bullet bullet) {
+        if (bullet.isPooled()) return;
+
+        if (bullet.isAcquired()) {
+            bullet.setAcquired(false);
+            inUse--;
+        }
+        if (freeBullets.size() >= capacity) {
+            dropped++;
+            return;
+        }
+
+        bullet.setPooled(true);
+        freeBullets.addFirst(bullet);
+    }
+
+    public int getCapacity() { return capacity; }
+    public int getFreeCount() { return freeBullets.size(); }
+    public int getInUseCount() { return inUse; }
+    public int getHighWaterMark() { return highWaterMark; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getDropped() { return dropped; }
+
+    @Override
+    public String toString() {
+        return "BulletPool{" +
+                "capacity=" + capacity +
+                ", free=" + freeBullets.size() +
+                ", inUse=" + inUse +
+                ", highWaterMark=" + highWaterMark +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", dropped=" + dropped +
+                '}';
+    }
+}
@@ -0,0 +1,381 @@
+package com.game.core.entities.bullet;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.bounds.CircleBounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.collisions.CollisionKind;
+import com.game.core.collisions.CollisionManager;
+import com.game.core.diagnostics.BulletDespawnEvent;
+import com.game.core.entities.Player;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.blocks.BreakableBlock;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.simulation.WorldSnapshot;
+import com.game.core.utils.DebugUtils;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps flying bullets as a structure of arrays instead of {@link Bullet} entities. Every bullet is a row
+ * of primitive arrays (position, velocity, lifetime, damage, ...), all of them are moved by a single loop,
+ * and a destroyed bullet is replaced by the last one, so the system doesn't allocate per bullet.
+ *
+ * <p>Collisions are resolved against the broadphase of the {@link CollisionManager}: the movement of a bullet
+ * is swept against the objects near it and only the object touched first is hit, like in the swept path of
+ * the manager. The rules mirror the rules of bullets in {@link com.game.core.collisions.CollisionHandler},
+ * except for collisions between two bullets of the system, which are not checked.</p>
+ */
+public class BulletSystem {
+    public static final int DEFAULT_CAPACITY = 1024;
+    // The damage a bullet deals to a breakable block, the same as in CollisionHandler
+    private static final int BLOCK_DAMAGE = 2;
+
+    private final CollisionManager cm;
+    private final List<Collidable> candidates = new ArrayList<>();
+    // Circles used to sweep and draw hitboxes, bullets of a scene share a few radiuses only
+    private final List<CircleBounds> probes = new ArrayList<>();
+    private int size = 0;
+
+    private float[] x;
+    private float[] y;
+    private float[] prevX;
+    private float[] prevY;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] rotationAngles;
+    private float[] timesToLive;
+    private int[] probeIndices;
+    private int[] damages;
+    private Player[] owners;
+    private BulletType[] types;
+    private Tile[] tiles;
+
+    /**
+     * Creates a system with the default capacity, it grows when needed.
+     *
+     * @param cm the collision manager of the scene
+     */
+    public BulletSystem(CollisionManager cm) {
+        this(cm, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a system with the specified initial capacity, it grows when needed.
+     *
+     * @param cm       the collision manager of the scene
+     * @param capacity the initial number of bullets which fit into the system
+     * @throws InvalidParameterException if the capacity is not positive
+     */
+    public BulletSystem(CollisionManager cm, int capacity) {
+        if (capacity <= 0) throw new InvalidParameterException("Bullet system capacity must be higher than 0");
+
+        this.cm = Objects.requireNonNull(cm);
+        allocate(capacity);
+    }
+
+    /**
+     * Adds a bullet with the state of a fired bullet entity. The entity isn't referenced by the system
+     * afterward, so it can be returned to its pool right away.
+     *
+     * @param bullet the fired bullet, placed at its start position
+     */
+    public void spawn(Bullet bullet) {
+        Bounds hitbox = bullet.getHitbox();
+        float radius = Math.min(hitbox.getMaxX() - hitbox.getMinX(), hitbox.getMaxY() - hitbox.getMinY()) / 2;
+
+        spawn(
+                bullet.getOwner(), bullet.getType(), bullet.getTile(),
+                bullet.getX(), bullet.getY(), bullet.getRotationAngle(), bullet.getSpeed(),
+                bullet.getTimeToDestroy(), bullet.getDamage(), radius
+        );
+    }
+
+    /**
+     * Adds a bullet.
+     *
+     * @param owner         the player who fired the bullet, it's never hit by the bullet
+     * @param type          the type of the bullet
+     * @param tile          the tile the bullet is drawn with
+     * @param x             the X-coordinate of the center
+     * @param y             the Y-coordinate of the center
+     * @param rotationAngle the direction of the flight in degrees
+     * @param speed         the speed in pixels per second
+     * @param timeToLive    the lifetime in seconds
+     * @param damage        the damage dealt to a hit player
+     * @param radius        the radius of the circular hitbox
+     */
+    public void spawn(
+            Player owner, BulletType type, Tile tile,
+            float x, float y, float rotationAngle, float speed,
+            float timeToLive, int damage, float radius
+    ) {
+        if (size == this.x.length) grow();
+
+        double angleInRads = Math.toRadians(rotationAngle);
+        int i = size++;
+        this.x[i] = this.prevX[i] = x;
+        this.y[i] = this.prevY[i] = y;
+        this.velocityX[i] = (float) Math.cos(angleInRads) * speed;
+        this.velocityY[i] = (float) Math.sin(angleInRads) * speed;
+        this.rotationAngles[i] = rotationAngle;
+        this.timesToLive[i] = timeToLive;
+        this.probeIndices[i] = probeIndexOf(radius);
+        this.damages[i] = damage;
+        this.owners[i] = owner;
+        this.types[i] = type;
+        this.tiles[i] = Objects.requireNonNull(tile);
+    }
+
+    /**
+     * Moves all bullets, resolves their collisions and removes the bullets which hit something
+     * or whose lifetime is over.
+     *
+     * @param deltaTime the time elapsed since the previous update, in seconds
+     */
+    public void update(double deltaTime) {
+        float dt = (float) deltaTime;
+
+        int i = 0;
+        while (i < size) {
+            float moveX = velocityX[i] * dt;
+            float moveY = velocityY[i] * dt;
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            timesToLive[i] -= dt;
+
+            if (collide(i, moveX, moveY) || timesToLive[i] <= 0) {
+                // The last bullet takes this row and is updated in the next iteration
+                remove(i);
+                continue;
+            }
+
+            x[i] += moveX;
+            y[i] += moveY;
+            i++;
+        }
+    }
+
+    /**
+     * Draws all bullets at the positions interpolated between the previous and the current updates.
+     *
+     * @param gc    the graphics context of the game canvas
+     * @param alpha the interpolation factor, {@code 0} is the previous position and {@code 1} is the current one
+     */
+    public void draw(GraphicsContext gc, double alpha) {
+        for (int i = 0; i < size; i++) {
+            float drawX = (float) (prevX[i] + (x[i] - prevX[i]) * alpha);
+            float drawY = (float) (prevY[i] + (y[i] - prevY[i]) * alpha);
+            Tile tile = tiles[i];
+
+            if (tile.hasRotationCache()) {
+                tile.drawRotated(gc, drawX, drawY, rotationAngles[i]);
+            } else {
+                gc.save();
+                gc.translate(drawX, drawY);
+                gc.rotate(rotationAngles[i]);
+                tile.draw(gc, 0, 0);
+                gc.restore();
+            }
+
+            CircleBounds probe = probes.get(probeIndices[i]);
+            probe.setPos(drawX, drawY);
+            DebugUtils.drawHitboxIfDebug(gc, probe);
+        }
+    }
+
+    /**
+     * Returns a snapshot of a bullet, e.g. for tests and tools. The renderer should use {@link #draw}.
+     *
+     * @param index the index of the bullet in range [0, size)
+     * @return the state of the bullet
+     */
+    public BulletView getView(int index) {
+        Objects.checkIndex(index, size);
+
+        return new BulletView(
+                x[index], y[index], rotationAngles[index], timesToLive[index],
+                damages[index], owners[index], types[index]
+        );
+    }
+
+    /**
+     * Adds all bullets to the snapshot of the world.
+     *
+     * @param snapshot the snapshot being captured
+     */
+    public void capture(WorldSnapshot snapshot) {
+        for (int i = 0; i < size; i++) {
+            float diameter = probes.get(probeIndices[i]).getRadius() * 2;
+            snapshot.addSprite(
+                    tiles[i], x[i], y[i], prevX[i], prevY[i], rotationAngles[i], diameter, diameter,
+                    WorldSnapshot.ACTIVE | WorldSnapshot.CIRCLE_HITBOX
+            );
+        }
+    }
+
+    /**
+     * Removes all bullets.
+     */
+    public void clear() {
+        while (size > 0) remove(size - 1);
+    }
+
+    public int size() { return size; }
+    public int getCapacity() { return x.length; }
+
+    /**
+     * Sweeps the movement of the bullet against the objects near it and resolves the hit of the object
+     * touched first.
+     *
+     * @return {@code true} if the bullet is destroyed by the hit
+     */
+    private boolean collide(int i, float moveX, float moveY) {
+        CircleBounds probe = probes.get(probeIndices[i]);
+        float radius = probe.getRadius();
+        float fromX = x[i];
+        float fromY = y[i];
+
+        candidates.clear();
+        cm.queryArea(
+                Math.min(fromX, fromX + moveX) - radius, Math.min(fromY, fromY + moveY) - radius,
+                Math.max(fromX, fromX + moveX) + radius, Math.max(fromY, fromY + moveY) + radius,
+                candidates
+        );
+
+        probe.setPos(fromX, fromY);
+
+        Collidable first = null;
+        float firstTime = Bounds.NO_HIT;
+        for (int c = 0, count = candidates.size(); c < count; c++) {
+            Collidable other = candidates.get(c);
+            Bounds hitbox = other.getHitbox();
+            if (other == owners[i] || hitbox == null) continue;
+
+            // The object moves against the resting bullet, that's the same as the bullet moving to it
+            float time = hitbox.sweep(hitbox.getX() - moveX, hitbox.getY() - moveY, probe);
+            if (time != Bounds.NO_HIT && (first == null || time < firstTime)) {
+                first = other;
+                firstTime = time;
+            }
+        }
+
+        return first != null && resolveHit(i, first);
+    }
+
+    /**
+     * Applies the hit of the bullet to the object.
+     *
+     * @return {@code true} if the bullet is destroyed by the hit
+     */
+    private boolean resolveHit(int i, Collidable other) {
+        switch (other.getCollisionKind()) {
+            case CollisionKind.PLAYER -> {
+                ((Player) other).takeDamage(damages[i], owners[i]);
+                return true;
+            }
+            case CollisionKind.BREAKABLE_BLOCK -> {
+                ((BreakableBlock) other).takeDamage(BLOCK_DAMAGE);
+                return true;
+            }
+            case CollisionKind.SOLID_BLOCK, CollisionKind.BONUS -> {
+                return true;
+            }
+            case CollisionKind.BULLET -> {
+                ((Bullet) other).setState(false);
+                return false;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private void remove(int i) {
+        BulletDespawnEvent event = new BulletDespawnEvent();
+        if (event.shouldCommit()) {
+            event.bulletType = String.valueOf(types[i]);
+            event.commit();
+        }
+
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        rotationAngles[i] = rotationAngles[last];
+        timesToLive[i] = timesToLive[last];
+        probeIndices[i] = probeIndices[last];
+        damages[i] = damages[last];
+        owners[i] = owners[last];
+        types[i] = types[last];
+        tiles[i] = tiles[last];
+
+        owners[last] = null;
+        types[last] = null;
+        tiles[last] = null;
+    }
+
+    /**
+     * Returns the index of the circle of the radius, creating the circle on the first request.
+     * The probe is picked once per bullet, so the update and drawing loops only index the list.
+     */
+    private int probeIndexOf(float radius) {
+        for (int i = 0, count = probes.size(); i < count; i++)
+            if (probes.get(i).getRadius() == radius) return i;
+
+        probes.add(new CircleBounds(radius, 1));
+        return probes.size() - 1;
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        rotationAngles = new float[capacity];
+        timesToLive = new float[capacity];
+        probeIndices = new int[capacity];
+        damages = new int[capacity];
+        owners = new Player[capacity];
+        types = new BulletType[capacity];
+        tiles = new Tile[capacity];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        rotationAngles = Arrays.copyOf(rotationAngles, capacity);
+        timesToLive = Arrays.copyOf(timesToLive, capacity);
+        probeIndices = Arrays.copyOf(probeIndices, capacity);
+        damages = Arrays.copyOf(damages, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        types = Arrays.copyOf(types, capacity);
+        tiles = Arrays.copyOf(tiles, capacity);
+    }
+
+    /**
+     * Read-only snapshot of a bullet of the system.
+     */
+    public record BulletView(
+            float x,
+            float y,
+            float rotationAngle,
+            float timeToLive,
+            int damage,
+            Player owner,
+            BulletType type
+    ) {}
+}
@@ -4,6 +4,7 @@ import com.game.core.behaviour.bounds.RectangleBounds;
 import com.game.core.effects.*;
 import com.game.core.entities.bonus.Bonus;
 import com.game.core.entities.bonus.BonusType;
+import com.game.core.scene.graphics.TextureCache;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.utils.config.ConfigManager;
 import com.game.core.utils.config.SceneConfig;
@@ -23,7 +24,7 @@ public class BonusFactory {
      */
     public static Bonus create(BonusType type) {
         SceneConfig config = ConfigManager.getInstance().getConfig();
-        Tile tile = new Tile(config.getBonus().getTexture(), null);
+        Tile tile = TextureCache.getInstance().getTile(config.getBonus().getTexture(), null);
         RectangleBounds hitbox = BoundsFactory.createForBlock(config.getBonus().getHitbox());
 
         return switch (type) {
@@ -3,8 +3,10 @@ package com.game.core.factories;
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.bounds.CircleBounds;
 import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.utils.Scaler;
 import com.game.core.utils.config.ConfigManager;
 import com.game.core.utils.config.SceneConfig;
+import com.game.core.utils.config.enums.BoundsTypeEnum;
 
 /**
  * A factory class for creating different types of {@link Bounds} objects
@@ -25,6 +27,28 @@ public class BoundsFactory {
         };
     }
 
+    /**
+     * Re-initializes existing bounds with the configuration, so objects taken from a pool keep their bounds.
+     * The sizes are scaled the same way as by {@link #createFromConfig(SceneConfig.BoundsConfig)}.
+     *
+     * @param bounds the bounds to re-initialize, may be {@code null}.
+     * @param c      the {@link SceneConfig.BoundsConfig} containing the bounds configuration.
+     * @return the same bounds if they have the configured type, otherwise new bounds.
+     */
+    public static Bounds reuseFromConfig(Bounds bounds, SceneConfig.BoundsConfig c) {
+        float scale = Scaler.getInstance().getScale();
+        if (bounds instanceof CircleBounds circle && c.getType() == BoundsTypeEnum.CIRCLE) {
+            circle.resize(c.getRadius() * scale);
+            return circle;
+        }
+        if (bounds instanceof RectangleBounds rect && c.getType() == BoundsTypeEnum.RECTANGLE) {
+            rect.resize(c.getWidth() * scale, c.getHeight() * scale);
+            return rect;
+        }
+
+        return createFromConfig(c);
+    }
+
     /**
      * Creates a {@link RectangleBounds} object based on the provided block configuration.
      * If no configuration is provided, it uses default tile dimensions from the scene configuration.
@@ -3,6 +3,7 @@ package com.game.core.factories;
 import com.game.core.entities.Entity;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.exceptions.NotConfiguredException;
+import com.game.core.scene.graphics.TextureCache;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.scene.spawners.BonusSpawner;
 import com.game.core.scene.spawners.PlayerSpawner;
@@ -38,12 +39,14 @@ public class SpawnerFactory {
         if (c.getType() == null)
             throw new InvalidParameterException("Spawner type cannot be null");
 
-        Tile tile = new Tile(c.getTexture(), null);
+        Tile tile = TextureCache.getInstance().getTile(c.getTexture(), null);
         Spawner spawner = switch (c.getType()) {
-            case PLAYER -> new PlayerSpawner(
-                    tile,
-                    new Tile(c.getPlayerTexture(), null)
-            );
+            case PLAYER -> {
+                // Players are rotated continuously, so their tile is drawn from pre-rotated variants
+                Tile playerTile = TextureCache.getInstance()
+                        .getTile(c.getPlayerTexture(), null, Tile.DEFAULT_ROTATION_STEPS);
+                yield new PlayerSpawner(tile, playerTile);
+            }
             case BONUS -> new BonusSpawner(tile, c.getCooldown());
         };
 
@@ -3,6 +3,7 @@ package com.game.core.scene.blocks;
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.interfaces.Collidable;
 import com.game.core.entities.Entity;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.scene.graphics.Tile;
 import org.slf4j.Logger;
@@ -37,6 +38,8 @@ public class BreakableBlock extends Entity implements Block {
         visitor.visit(this, other);
     }
 
+    @Override public int getCollisionKind() { return CollisionKind.BREAKABLE_BLOCK; }
+
     @Override
     public void update(double deltaTime) {
 
@@ -3,6 +3,7 @@ package com.game.core.scene.blocks;
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.interfaces.Collidable;
 import com.game.core.behaviour.base.CollidableGameObject;
+import com.game.core.collisions.CollisionKind;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.utils.DebugUtils;
@@ -40,6 +41,8 @@ public class SolidBlock extends CollidableGameObject implements Block {
         visitor.visit(this, other);
     }
 
+    @Override public int getCollisionKind() { return CollisionKind.SOLID_BLOCK; }
+
     /**
      * Draws this block to the specified graphics context.
      * The block's tile is rendered at the block's position, and its hitbox
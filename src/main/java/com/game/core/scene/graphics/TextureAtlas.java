@@ -0,0 +1,149 @@
+package com.game.core.scene.graphics;
+
+import com.game.core.exceptions.InvalidParameterException;
+import javafx.geometry.Dimension2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single image which contains many textures. Tiles draw their sub-rectangle of the atlas instead of
+ * separate images, so the renderer doesn't switch textures between them.
+ *
+ * <p>Textures are placed by a shelf packer: sorted by height, they fill rows from left to right,
+ * and a new row is started when the current one is full. Textures are separated by a transparent
+ * gap, so neighbours don't bleed into each other when scaled.</p>
+ *
+ * <p>The size of the atlas is limited. Textures which don't fit are left out of it,
+ * and their tiles keep drawing their own images.</p>
+ */
+public class TextureAtlas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TextureAtlas.class);
+    public static final int DEFAULT_MAX_WIDTH = 2048;
+    public static final int DEFAULT_MAX_HEIGHT = 2048;
+    public static final int PADDING = 1;
+
+    private final Image image;
+    private final Map<String, Region> regions;
+
+    private TextureAtlas(Image image, Map<String, Region> regions) {
+        this.image = image;
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Packs the images into a new atlas. Images which are not loaded yet or don't fit
+     * into {@link #DEFAULT_MAX_HEIGHT} are skipped.
+     *
+     * @param images the images by their texture names
+     * @return the atlas containing the images
+     * @throws InvalidParameterException if an image is wider than {@link #DEFAULT_MAX_WIDTH}
+     */
+    public static TextureAtlas pack(Map<String, Image> images) {
+        Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+        images.forEach((texture, image) -> {
+            if (image.getPixelReader() != null && image.getWidth() > 0 && image.getHeight() > 0)
+                sizes.put(texture, new Dimension2D(image.getWidth(), image.getHeight()));
+        });
+
+        Map<String, Region> regions = layout(sizes, DEFAULT_MAX_WIDTH, DEFAULT_MAX_HEIGHT);
+        if (regions.size() < sizes.size())
+            LOGGER.warn("{} textures don't fit into the atlas and are drawn separately", sizes.size() - regions.size());
+
+        int width = 1;
+        int height = 1;
+        for (Region region : regions.values()) {
+            width = Math.max(width, region.x() + region.width());
+            height = Math.max(height, region.y() + region.height());
+        }
+
+        WritableImage atlas = new WritableImage(width, height);
+        regions.forEach((texture, region) -> {
+            PixelReader reader = images.get(texture).getPixelReader();
+            atlas.getPixelWriter().setPixels(region.x(), region.y(), region.width(), region.height(), reader, 0, 0);
+        });
+
+        LOGGER.info("Packed {} textures into an atlas {}x{}", regions.size(), width, height);
+        return new TextureAtlas(atlas, regions);
+    }
+
+    /**
+     * Places rectangles of the specified sizes into an area of the specified width.
+     *
+     * @param sizes    the sizes of the textures by their names, fractional sizes are rounded up
+     * @param maxWidth the width of the area
+     * @return the regions of the textures by their names
+     * @throws InvalidParameterException if a texture is wider than the area
+     */
+    public static Map<String, Region> layout(Map<String, Dimension2D> sizes, int maxWidth) {
+        return layout(sizes, maxWidth, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Places rectangles of the specified sizes into an area of the specified width and height.
+     * Rectangles which don't fit into the height are left out of the result.
+     *
+     * @param sizes     the sizes of the textures by their names, fractional sizes are rounded up
+     * @param maxWidth  the width of the area
+     * @param maxHeight the height of the area
+     * @return the regions of the placed textures by their names
+     * @throws InvalidParameterException if a texture is wider than the area
+     */
+    public static Map<String, Region> layout(Map<String, Dimension2D> sizes, int maxWidth, int maxHeight) {
+        List<Map.Entry<String, Dimension2D>> entries = new ArrayList<>(sizes.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<String, Dimension2D> e) -> e.getValue().getHeight()).reversed());
+
+        Map<String, Region> regions = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Map.Entry<String, Dimension2D> entry : entries) {
+            int width = (int) Math.ceil(entry.getValue().getWidth());
+            int height = (int) Math.ceil(entry.getValue().getHeight());
+            if (width > maxWidth)
+                throw new InvalidParameterException("Texture " + entry.getKey() + " is wider than the atlas");
+
+            if (x + width > maxWidth) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            // Textures are sorted by height, so the lower ones may still fit into this shelf
+            if ((long) y + height > maxHeight) continue;
+
+            regions.put(entry.getKey(), new Region(x, y, width, height));
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+
+        return regions;
+    }
+
+    /**
+     * Returns the region of the texture in the atlas.
+     *
+     * @param texture the file name of the texture
+     * @return the region, or {@code null} if the texture isn't packed into the atlas
+     */
+    public Region getRegion(String texture) {
+        return regions.get(texture);
+    }
+
+    public Image getImage() { return image; }
+    public int getTexturesCount() { return regions.size(); }
+
+    /**
+     * A rectangle of a single texture in the atlas, in pixels.
+     */
+    public record Region(int x, int y, int width, int height) {}
+}
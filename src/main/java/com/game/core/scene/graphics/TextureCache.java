@@ -0,0 +1,232 @@
+package com.game.core.scene.graphics;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.SceneConfig;
+import javafx.scene.image.Image;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Process-wide cache of textures. Every texture file is decoded into an {@link Image} only once,
+ * and tiles with the same texture and sizing parameters are shared as flyweights instead of
+ * being created for every bullet, bonus or scene element.
+ *
+ * <p>Shared tiles must not be modified by their users. Tiles drawn from pre-rotated variants are requested
+ * with the number of rotation steps, which is a part of the key, so the rotation cache is configured once
+ * when the tile is created and is never added to the tiles of other users.</p>
+ *
+ * <p>The textures of a scene can be packed into a {@link TextureAtlas}, then all tiles draw from it.</p>
+ */
+public class TextureCache {
+    private static TextureCache instance;
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+    private final Map<TileKey, Tile> tiles = new ConcurrentHashMap<>();
+    private volatile boolean isHeadless = false;
+    private volatile TextureAtlas atlas;
+    private volatile Set<String> atlasTextures = Set.of();
+
+    private TextureCache() {}
+
+    public static synchronized TextureCache getInstance() {
+        if (instance == null) instance = new TextureCache();
+
+        return instance;
+    }
+
+    /**
+     * Returns a shared tile of type {@link TileType#OBJECT} with the default size.
+     *
+     * @param texture the file name of the texture.
+     * @param scale   the scaling factor of the tile, or {@code null} to use the current scale.
+     * @return the shared tile.
+     */
+    public Tile getTile(String texture, Float scale) {
+        return getTile(texture, scale, 0);
+    }
+
+    /**
+     * Returns a shared tile of type {@link TileType#OBJECT} with the default size, drawn rotated
+     * from the cache of pre-rotated variants.
+     *
+     * @param texture       the file name of the texture.
+     * @param scale         the scaling factor of the tile, or {@code null} to use the current scale.
+     * @param rotationSteps the number of rotated variants, or 0 to draw the tile without the rotation cache.
+     * @return the shared tile.
+     * @throws InvalidParameterException if the number of rotation steps is negative.
+     */
+    public Tile getTile(String texture, Float scale, int rotationSteps) {
+        return getTile(texture, TileType.OBJECT, scale, true, rotationSteps);
+    }
+
+    /**
+     * Returns a shared tile with the specified parameters, creating it on the first request.
+     * The current tile size of the {@link Scaler} is a part of the key, so tiles created for
+     * another scene configuration are never reused.
+     *
+     * @param texture        the file name of the texture.
+     * @param type           the type of the tile.
+     * @param scale          the scaling factor of the tile, or {@code null} to use the current scale.
+     * @param hasDefaultSize specifies whether the default size should be used or not.
+     * @return the shared tile.
+     */
+    public Tile getTile(String texture, TileType type, Float scale, boolean hasDefaultSize) {
+        return getTile(texture, type, scale, hasDefaultSize, 0);
+    }
+
+    /**
+     * Returns a shared tile with the specified parameters, creating it on the first request.
+     * The rotation cache of the tile is configured once when the tile is created.
+     *
+     * @param texture        the file name of the texture.
+     * @param type           the type of the tile.
+     * @param scale          the scaling factor of the tile, or {@code null} to use the current scale.
+     * @param hasDefaultSize specifies whether the default size should be used or not.
+     * @param rotationSteps  the number of rotated variants, or 0 to draw the tile without the rotation cache.
+     * @return the shared tile.
+     * @throws InvalidParameterException if the number of rotation steps is negative.
+     */
+    public Tile getTile(String texture, TileType type, Float scale, boolean hasDefaultSize, int rotationSteps) {
+        if (rotationSteps < 0) throw new InvalidParameterException("Rotation steps count cannot be negative");
+
+        Scaler scaler = Scaler.getInstance();
+        TileKey key = new TileKey(
+                texture,
+                type,
+                scale != null ? scale : scaler.getScale(),
+                hasDefaultSize,
+                scaler.getTileWidth(),
+                scaler.getTileHeight(),
+                rotationSteps
+        );
+
+        return tiles.computeIfAbsent(key, k -> {
+            Tile tile = new Tile(k.texture(), k.type(), k.scale(), k.hasDefaultSize());
+            if (k.rotationSteps() > 0) tile.setRotationSteps(k.rotationSteps());
+            tile.setAtlas(atlas);
+            return tile;
+        });
+    }
+
+    /**
+     * Packs all textures referenced by the scene configuration into a single atlas and switches
+     * all cached tiles, and the tiles created later, to it. Does nothing in the headless mode.
+     *
+     * @param config the configuration of the scene
+     * @return the new atlas, or {@code null} in the headless mode
+     */
+    public TextureAtlas buildAtlas(SceneConfig config) {
+        return buildAtlas(config, progress -> {});
+    }
+
+    /**
+     * Packs all textures referenced by the scene configuration into a single atlas, reporting the progress
+     * after each decoded texture. Images and atlases may be created outside the JavaFX application thread,
+     * so the textures can be decoded in the background. Textures of other scenes kept by the cache are
+     * not packed, and the current atlas is reused if it was packed from the same textures, e.g. on restart.
+     *
+     * @param config     the configuration of the scene
+     * @param onProgress receives the share of the decoded textures in range (0, 1]
+     * @return the new atlas, or {@code null} in the headless mode
+     */
+    public TextureAtlas buildAtlas(SceneConfig config, DoubleConsumer onProgress) {
+        if (isHeadless()) {
+            onProgress.accept(1);
+            return null;
+        }
+
+        Set<String> textures = new LinkedHashSet<>();
+        config.getMappings().getTiles().values().forEach(x -> textures.add(x.getTexture()));
+        config.getMappings().getBlocks().values().forEach(x -> textures.add(x.getTexture()));
+        config.getSpawners().forEach(x -> {
+            textures.add(x.getTexture());
+            if (x.getPlayerTexture() != null) textures.add(x.getPlayerTexture());
+        });
+        textures.addAll(config.getBullet().getTextures().values());
+        textures.add(config.getBonus().getTexture());
+
+        // Tiles decode their textures, so textures not used by the scene yet are decoded here
+        Map<String, Image> sceneImages = new LinkedHashMap<>();
+        int decoded = 0;
+        for (String texture : textures) {
+            // Missing textures are replaced by the undefined one, so the texture of the tile is packed
+            String loaded = getTile(texture, null).getTexture();
+            Image image = loaded != null ? images.get(loaded) : null;
+            if (image != null) sceneImages.putIfAbsent(loaded, image);
+            onProgress.accept((double) ++decoded / textures.size());
+        }
+
+        TextureAtlas current = atlas;
+        if (current != null && atlasTextures.equals(sceneImages.keySet())) return current;
+
+        TextureAtlas newAtlas = TextureAtlas.pack(sceneImages);
+        this.atlasTextures = Set.copyOf(sceneImages.keySet());
+        this.atlas = newAtlas;
+        tiles.values().forEach(tile -> tile.setAtlas(newAtlas));
+
+        return newAtlas;
+    }
+
+    /**
+     * Returns an already decoded image of the texture.
+     *
+     * @param texture the file name of the texture.
+     * @return the decoded image, or {@code null} if the texture wasn't decoded yet.
+     */
+    public Image getImage(String texture) {
+        return images.get(texture);
+    }
+
+    /**
+     * Stores a decoded image of the texture, so it's not decoded again.
+     *
+     * @param texture the file name of the texture.
+     * @param image   the decoded image.
+     */
+    public void putImage(String texture, Image image) {
+        images.putIfAbsent(texture, image);
+    }
+
+    /**
+     * Drops all cached images and tiles.
+     */
+    public void clear() {
+        images.clear();
+        tiles.clear();
+        atlas = null;
+        atlasTextures = Set.of();
+    }
+
+    /**
+     * Switches the headless mode. In this mode textures are never decoded and all tiles are created
+     * with an undefined texture, so no graphics toolkit is required.
+     *
+     * @param headless {@code true} to stop decoding textures, {@code false} to decode them again.
+     */
+    public void setHeadless(boolean headless) {
+        if (headless != isHeadless) clear();
+        this.isHeadless = headless;
+    }
+
+    public boolean isHeadless() { return isHeadless; }
+    public TextureAtlas getAtlas() { return atlas; }
+
+    public int getImagesCount() { return images.size(); }
+    public int getTilesCount() { return tiles.size(); }
+
+    private record TileKey(
+            String texture,
+            TileType type,
+            float scale,
+            boolean hasDefaultSize,
+            float tileWidth,
+            float tileHeight,
+            int rotationSteps
+    ) {}
+}
@@ -1,11 +1,15 @@
 package com.game.core.scene.graphics;
 
 import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.utils.PositionUtils;
 import com.game.core.utils.ResourceUtils;
 import com.game.core.utils.Scaler;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,8 +24,13 @@ import java.net.URL;
 public class Tile {
     private static final Logger LOGGER = LoggerFactory.getLogger(Tile.class);
     private static final String UNDEFINED_TEXTURE = "undefined.png";
+    public static final int DEFAULT_ROTATION_STEPS = 64;
 
     private Image sprite;
+    private String texture;
+    private TextureAtlas atlas;
+    private TextureAtlas.Region atlasRegion;
+    private Image[] rotatedSprites;
     private boolean isTextureUndefined = false;
     private TileType type;
     private float scale;
@@ -80,10 +89,24 @@ public class Tile {
 
     /**
      * Loads the specified texture into the tile or assigns a default texture if the specified resource is unavailable.
+     * Decoded images are shared through the {@link TextureCache}. In the headless mode nothing is decoded.
      *
      * @param texture the file name of the texture to load.
      */
     private void loadImage(String texture) {
+        TextureCache cache = TextureCache.getInstance();
+        if (cache.isHeadless()) {
+            setTextureIsUndefined(true);
+            return;
+        }
+
+        Image cached = cache.getImage(texture);
+        if (cached != null) {
+            setSprite(cached);
+            this.texture = texture;
+            return;
+        }
+
         boolean isUndefinedTexture = texture.equals(UNDEFINED_TEXTURE);
         boolean isError = false;
 
@@ -93,7 +116,10 @@ public class Tile {
             isError = true;
         } else {
             try {
-                setSprite(new Image(String.valueOf(tileURL.toURI())));
+                Image image = new Image(String.valueOf(tileURL.toURI()));
+                cache.putImage(texture, image);
+                setSprite(image);
+                this.texture = texture;
             } catch (URISyntaxException e) {
                 LOGGER.warn("Tile texture={} url is bad", tileURL);
                 isError = true;
@@ -113,9 +139,22 @@ public class Tile {
         }
     }
 
+    /**
+     * Makes the tile draw its texture from the atlas. Tiles whose texture isn't packed
+     * into the atlas keep drawing their own image.
+     *
+     * @param atlas the atlas, or {@code null} to draw the own image
+     */
+    void setAtlas(TextureAtlas atlas) {
+        TextureAtlas.Region region = atlas != null && texture != null ? atlas.getRegion(texture) : null;
+        this.atlas = region != null ? atlas : null;
+        this.atlasRegion = region;
+    }
+
     /**
      * Renders the tile on the given canvas at the specified coordinates.
      * If the texture is undefined, it draws a placeholder rectangle.
+     * If the texture is packed into an atlas, its region of the atlas is drawn.
      *
      * @param gc the `GraphicsContext` used for rendering the tile.
      * @param x  the x-coordinate of the tile's position.
@@ -125,6 +164,18 @@ public class Tile {
         double[] displayPos = PositionUtils.generateDisplayPos(x, y, getSize());
         if (isTextureUndefined()) {
             gc.fillRect(displayPos[0], displayPos[1], getSize().getWidth(), getSize().getHeight());
+        } else if (atlasRegion != null) {
+            gc.drawImage(
+                    atlas.getImage(),
+                    atlasRegion.x(),
+                    atlasRegion.y(),
+                    atlasRegion.width(),
+                    atlasRegion.height(),
+                    displayPos[0],
+                    displayPos[1],
+                    getSize().getWidth(),
+                    getSize().getHeight()
+            );
         } else {
             gc.drawImage(
                     getSprite(),
@@ -136,7 +187,77 @@ public class Tile {
         }
     }
 
+    /**
+     * Enables the cache of rotated variants of the tile. The full turn is split into the specified number
+     * of steps, and each variant is pre-rendered on its first use, so rotated tiles are drawn without
+     * transforming the graphics context. Does nothing if the cache already has the same number of steps.
+     * Shared tiles of the {@link TextureCache} are requested with the number of steps instead.
+     *
+     * @param steps the number of rotated variants
+     * @throws InvalidParameterException if the number of steps is not positive
+     */
+    public void setRotationSteps(int steps) {
+        if (steps <= 0) throw new InvalidParameterException("Rotation steps count must be higher than 0");
+        if (rotatedSprites != null && rotatedSprites.length == steps) return;
+
+        this.rotatedSprites = new Image[steps];
+    }
+
+    /**
+     * Checks whether the tile is drawn rotated from the cache of rotated variants.
+     *
+     * @return {@code true} if the cache is enabled and the tile has a texture
+     */
+    public boolean hasRotationCache() {
+        return rotatedSprites != null && !isTextureUndefined();
+    }
+
+    /**
+     * Renders the variant of the tile rotated by the nearest step to the specified angle,
+     * centered at the specified coordinates. Requires the cache of rotated variants.
+     *
+     * @param gc    the `GraphicsContext` used for rendering the tile.
+     * @param x     the x-coordinate of the tile's center.
+     * @param y     the y-coordinate of the tile's center.
+     * @param angle the rotation angle in degrees.
+     */
+    public void drawRotated(GraphicsContext gc, float x, float y, float angle) {
+        int steps = rotatedSprites.length;
+        int step = Math.floorMod(Math.round(angle * steps / 360f), steps);
+
+        Image rotated = rotatedSprites[step];
+        if (rotated == null) {
+            rotated = renderRotated(step * 360.0 / steps);
+            rotatedSprites[step] = rotated;
+        }
+
+        gc.drawImage(rotated, x - rotated.getWidth() / 2, y - rotated.getHeight() / 2);
+    }
+
+    /**
+     * Renders the tile rotated by the specified angle into a transparent square image
+     * which fits the tile at any angle. Must be called on the JavaFX application thread.
+     *
+     * @param angle the rotation angle in degrees.
+     * @return the rotated image.
+     */
+    private Image renderRotated(double angle) {
+        int side = (int) Math.ceil(Math.hypot(getSize().getWidth(), getSize().getHeight()));
+        Canvas canvas = new Canvas(side, side);
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.translate(side / 2.0, side / 2.0);
+        gc.rotate(angle);
+        draw(gc, 0, 0);
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(params, null);
+    }
+
     public Image getSprite() { return sprite; }
+    public String getTexture() { return texture; }
+    public TextureAtlas.Region getAtlasRegion() { return atlasRegion; }
     private void setSprite(Image sprite) { this.sprite = sprite; }
 
     public TileType getType() { return type; }
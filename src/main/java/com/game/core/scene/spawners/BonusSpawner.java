@@ -6,13 +6,15 @@ import com.game.core.entities.bonus.Bonus;
 import com.game.core.entities.bonus.BonusType;
 import com.game.core.factories.BonusFactory;
 import com.game.core.scene.graphics.Tile;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import javafx.scene.canvas.GraphicsContext;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * The BonusSpawner class is responsible for spawning bonus entities in the game.
@@ -21,9 +23,11 @@ import java.util.function.Consumer;
 public class BonusSpawner extends GameObject implements Spawner {
     private final float cooldown;
     private final Map<String, Consumer<Entity>> events = new HashMap<>();
-    private Timer<BonusSpawner> spawnTimer;
+    private final TimerScheduler scheduler = new TimerScheduler();
+    private TimerScheduler.Task spawnTask;
     private final Tile tile;
     private Bonus currentBonus;
+    private RandomGenerator random = new SplittableRandom();
 
     /**
      * Constructs a BonusSpawner with the specified tile and cooldown period.
@@ -35,7 +39,7 @@ public class BonusSpawner extends GameObject implements Spawner {
         this.tile = Objects.requireNonNull(tile);
         this.cooldown = cooldown;
 
-        createSpawnTimer();
+        createSpawnTask();
     }
 
     /**
@@ -46,7 +50,7 @@ public class BonusSpawner extends GameObject implements Spawner {
     public void spawn() {
         if (currentBonus != null && currentBonus.getState()) return;
 
-        Bonus bonus = BonusFactory.create(BonusType.randomBonus());
+        Bonus bonus = BonusFactory.create(BonusType.randomBonus(random));
         bonus.setPos(getX(), getY());
         currentBonus = bonus;
 
@@ -86,25 +90,50 @@ public class BonusSpawner extends GameObject implements Spawner {
         getTile().draw(gc, getX(), getY());
     }
 
+    /**
+     * Advances the spawn task. Does nothing once the spawner is attached to a shared scheduler.
+     *
+     * @param deltaTime The time elapsed since the last update, in seconds.
+     */
     @Override
     public void update(double deltaTime) {
-        getSpawnTimer().update(deltaTime, this, null);
+        scheduler.advance(deltaTime);
     }
 
-    public Timer<BonusSpawner> getSpawnTimer() {
-        return this.spawnTimer;
+    /**
+     * Attaches the scheduler of the spawn task to the shared one, so it's advanced by its owner.
+     *
+     * @param scheduler The shared scheduler, usually the scene's one.
+     */
+    @Override
+    public void setScheduler(TimerScheduler scheduler) {
+        this.scheduler.attachTo(scheduler);
+    }
+
+    public TimerScheduler.Task getSpawnTask() {
+        return this.spawnTask;
     }
 
     /**
-     * Initializes the spawn timer for this spawner.
-     * The timer is configured to trigger the spawn action after the set cooldown period
-     * and repeats its execution as long as the timer remains active.
+     * Schedules the spawn task for this spawner.
+     * The task triggers the spawn action after the set cooldown period
+     * and repeats its execution as long as the spawner exists.
      */
-    private void createSpawnTimer() {
-        this.spawnTimer = new Timer<>(getCooldown(), BonusSpawner::spawn, true);
+    private void createSpawnTask() {
+        // Without a cooldown a new bonus is spawned as soon as the previous one is picked up
+        double period = Math.max(getCooldown(), 1.0 / scheduler.getTicksPerSecond());
+        this.spawnTask = scheduler.scheduleRepeating(period, this::spawn);
     }
 
     public float getCooldown() { return cooldown; }
 
+    /**
+     * Sets the generator the types of the spawned bonuses are picked with.
+     * Until it's set, the spawner uses its own unseeded generator.
+     *
+     * @param random The random generator, usually split from the scene's one.
+     */
+    public void setRandom(RandomGenerator random) { this.random = Objects.requireNonNull(random); }
+
     @Override public Tile getTile() { return tile; }
 }
@@ -3,6 +3,7 @@ package com.game.core.scene.spawners;
 import com.game.core.behaviour.base.GameObject;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.factories.PlayerFactory;
 import com.game.core.scene.graphics.Tile;
 import javafx.scene.canvas.GraphicsContext;
@@ -25,6 +26,7 @@ public class PlayerSpawner extends GameObject implements Spawner {
     private final Tile playerTile;
     private final Map<String, Consumer<Entity>> events = new HashMap<>();
     private Player player = null;
+    private BulletPool bulletPool = null;
 
     /**
      * Constructs a new PlayerSpawner with specified tiles for spawning and rendering the Player.
@@ -49,6 +51,7 @@ public class PlayerSpawner extends GameObject implements Spawner {
             LOGGER.info("PlayerSpawner's first player spawn");
             setPlayer(PlayerFactory.create(this));
             getPlayer().getSm().setOnBulletCreated(getEvent("onEntityCreated"));
+            getPlayer().getSm().setBulletPool(getBulletPool());
 
             Consumer<Entity> event = getEvent("onEntityCreated");
             if (event != null) event.accept(getPlayer());
@@ -100,5 +103,8 @@ public class PlayerSpawner extends GameObject implements Spawner {
     public Player getPlayer() { return player; }
     public void setPlayer(Player player) { this.player = player; }
 
+    public BulletPool getBulletPool() { return bulletPool; }
+    public void setBulletPool(BulletPool bulletPool) { this.bulletPool = bulletPool; }
+
     public int getPlayerKillsCount() { return getPlayer().getKillsCount(); }
 }
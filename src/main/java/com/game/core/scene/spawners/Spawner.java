@@ -4,6 +4,7 @@ import com.game.core.behaviour.interfaces.Positionable;
 import com.game.core.behaviour.interfaces.Renderable;
 import com.game.core.behaviour.interfaces.Updatable;
 import com.game.core.entities.Entity;
+import com.game.core.utils.TimerScheduler;
 
 import java.util.function.Consumer;
 
@@ -11,4 +12,11 @@ public interface Spawner extends Updatable, Positionable, Renderable {
     void spawn();
     void addEvent(String name, Consumer<Entity> event);
     Consumer<Entity> getEvent(String name);
+
+    /**
+     * Attaches the spawner's delayed actions to the shared scheduler. Spawners without such actions ignore it.
+     *
+     * @param scheduler the shared scheduler, usually the scene's one
+     */
+    default void setScheduler(TimerScheduler scheduler) {}
 }
@@ -41,4 +41,6 @@ public class DelayedWrapper<T> {
         }
         return false;
     }
+
+    public T getObj() { return obj; }
 }
@@ -1,13 +1,15 @@
 package com.game.core.shooting;
 
 import com.game.core.behaviour.interfaces.Updatable;
+import com.game.core.diagnostics.BulletSpawnEvent;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
 import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.strategies.ShootingStrategy;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.SceneConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +27,8 @@ public class ShootingManager implements Updatable {
 
     private final Queue<DelayedWrapper<Bullet>> bulletsQueue = new LinkedList<>();
     private final Map<Float, Integer> bulletsCountByRotation = new HashMap<>();
-    private final Timer<ShootingManager> reloadingTimer;
+    private final TimerScheduler scheduler = new TimerScheduler();
+    private final TimerScheduler.Task reloadingTask;
     private final Player player;
     private boolean isShooting = false;
     private final boolean isInfinityBulletsMode;
@@ -37,6 +40,7 @@ public class ShootingManager implements Updatable {
     private BulletType bulletType;
     private final SceneConfig.BulletConfig bulletConfig;
     private ShootingStrategy shootingStrategy;
+    private BulletPool bulletPool;
 
     /**
      * Creates a new ShootingManager instance with the specified parameters.
@@ -72,15 +76,15 @@ public class ShootingManager implements Updatable {
         setBulletsCount(maxBulletsCount);
 
         if (!isInfinityBulletsMode())
-            reloadingTimer = new Timer<>(getBulletsReloadDelay(), (x) -> {
-                if (x.getBulletsCount() == x.getMaxBulletsCount()) return;
+            reloadingTask = scheduler.scheduleRepeating(getBulletsReloadDelay(), () -> {
+                if (getBulletsCount() == getMaxBulletsCount()) return;
 
-                x.setBulletsCount(x.getBulletsCount() + 1);
+                setBulletsCount(getBulletsCount() + 1);
 
                 LOGGER.debug("Reloaded bullets for {}", getPlayer());
-            }, true);
+            });
         else
-            reloadingTimer = null;
+            reloadingTask = null;
     }
 
     /**
@@ -100,14 +104,14 @@ public class ShootingManager implements Updatable {
     public boolean isShooting() { return isShooting; }
 
     /**
-     * Updates the state of the shooting manager, including handling reloading timers and bullet queues.
+     * Updates the state of the shooting manager, including handling reloading and bullet queues.
+     * The reloading is advanced here only until the manager is attached to a shared scheduler.
      *
      * @param deltaTime The time difference since the last update, used for timing calculations.
      */
     @Override
     public void update(double deltaTime) {
-        if (reloadingTimer != null)
-            reloadingTimer.update(deltaTime, this, null);
+        scheduler.advance(deltaTime);
 
         while (!bulletsQueue.isEmpty()) {
             DelayedWrapper<Bullet> shot = bulletsQueue.peek();
@@ -116,6 +120,16 @@ public class ShootingManager implements Updatable {
         }
     }
 
+    /**
+     * Drops the bullets which are queued but not fired yet, they are returned to the bullet pool.
+     */
+    public void clearBulletsQueue() {
+        if (getBulletPool() != null) bulletsQueue.forEach(shot -> getBulletPool().release(shot.getObj()));
+
+        bulletsQueue.clear();
+        bulletsCountByRotation.clear();
+    }
+
     /**
      * Fires bullets based on the player's current shooting strategy and game configuration.
      * If infinite bullets mode is disabled, the method ensures there are enough bullets to fire,
@@ -143,6 +157,13 @@ public class ShootingManager implements Updatable {
                     b -> {
                         b.setStartPosition();
                         getOnBulletCreated().accept(b);
+
+                        BulletSpawnEvent event = new BulletSpawnEvent();
+                        if (event.shouldCommit()) {
+                            event.bulletType = String.valueOf(b.getType());
+                            event.rotationAngle = b.getRotationAngle();
+                            event.commit();
+                        }
                         bulletsCountByRotation.computeIfPresent(
                                 bulletRotation,
                                 (key, oldValue) -> Math.max(0, oldValue - 1)
@@ -178,9 +199,32 @@ public class ShootingManager implements Updatable {
     public void setShootingStrategy(ShootingStrategy shootingStrategy) {
         LOGGER.info("Set shooting strategy={} for {}", shootingStrategy.getClass().getSimpleName(), getPlayer());
         shootingStrategy.setBulletConfig(getBulletConfig());
+        shootingStrategy.setBulletPool(getBulletPool());
         this.shootingStrategy = shootingStrategy;
     }
 
+    public BulletPool getBulletPool() { return bulletPool; }
+
+    /**
+     * Sets the pool the fired bullets are taken from, it's shared with the current
+     * and all future shooting strategies.
+     *
+     * @param bulletPool The pool of destroyed bullets, may be {@code null}.
+     */
+    public void setBulletPool(BulletPool bulletPool) {
+        this.bulletPool = bulletPool;
+        if (getShootingStrategy() != null) getShootingStrategy().setBulletPool(bulletPool);
+    }
+
+    /**
+     * Attaches the scheduler of the reloading to the shared one, so it's advanced by its owner.
+     *
+     * @param scheduler The shared scheduler, usually the scene's one.
+     */
+    public void setScheduler(TimerScheduler scheduler) {
+        this.scheduler.attachTo(scheduler);
+    }
+
     public Consumer<Entity> getOnBulletCreated() { return onBulletCreated; }
     public void setOnBulletCreated(Consumer<Entity> onBulletCreated) { this.onBulletCreated = onBulletCreated; }
 
@@ -0,0 +1,75 @@
+package com.game.core.simulation;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A scripted sequence of player inputs for a {@link Simulation}. Each event presses or releases
+ * the key of a player at the specified time since the start of the match.
+ */
+public class InputScript {
+    private final List<InputEvent> events = new ArrayList<>();
+
+    /**
+     * Adds a key press of the specified player.
+     *
+     * @param time   the time since the start of the match, in seconds
+     * @param player the index of the player
+     * @return this script
+     */
+    public InputScript press(double time, int player) {
+        return addEvent(time, player, true);
+    }
+
+    /**
+     * Adds a key release of the specified player.
+     *
+     * @param time   the time since the start of the match, in seconds
+     * @param player the index of the player
+     * @return this script
+     */
+    public InputScript release(double time, int player) {
+        return addEvent(time, player, false);
+    }
+
+    /**
+     * Adds a key press of the specified player followed by a release after the specified duration.
+     *
+     * @param time     the time of the press since the start of the match, in seconds
+     * @param duration the time the key is held, in seconds
+     * @param player   the index of the player
+     * @return this script
+     */
+    public InputScript hold(double time, double duration, int player) {
+        return press(time, player).release(time + duration, player);
+    }
+
+    private InputScript addEvent(double time, int player, boolean isPressed) {
+        if (time < 0 || player < 0)
+            throw new InvalidParameterException("Invalid params was passed to InputScript");
+
+        events.add(new InputEvent(time, player, isPressed));
+        return this;
+    }
+
+    /**
+     * Returns the events of the script ordered by their time.
+     *
+     * @return an unmodifiable list of the events
+     */
+    public List<InputEvent> getEvents() {
+        return events.stream().sorted(Comparator.comparingDouble(InputEvent::time)).toList();
+    }
+
+    /**
+     * A single scripted input.
+     *
+     * @param time      the time since the start of the match, in seconds
+     * @param player    the index of the player
+     * @param isPressed {@code true} for a key press, {@code false} for a key release
+     */
+    public record InputEvent(double time, int player, boolean isPressed) {}
+}
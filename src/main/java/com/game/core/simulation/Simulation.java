@@ -0,0 +1,154 @@
+package com.game.core.simulation;
+
+import com.game.core.entities.Player;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.spawners.PlayerSpawner;
+import com.game.core.scene.spawners.Spawner;
+import com.game.core.utils.GameSceneLoader;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import com.game.gui.scenes.game.GameModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Headless runner of a single match. Loads a scene from a {@link SceneConfig} and steps its {@link GameModel}
+ * at a fixed time step without a JavaFX toolkit or a screen: textures are not decoded and the scene is scaled
+ * to its native size. Inputs are applied directly or from an {@link InputScript}.
+ *
+ * <p>The scene configuration, the {@link Scaler} and the {@link TextureCache} are process-wide singletons,
+ * so simulations of different scenes in the same process must be run one after another.</p>
+ */
+public class Simulation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Simulation.class);
+    public static final double DEFAULT_DELTA_TIME = 1.0 / 60;
+
+    private final GameModel model;
+    private final double deltaTime;
+    private long steps = 0;
+    private boolean isFinished = false;
+
+    /**
+     * Creates a simulation of the scene stepped at the tick rate of the scene, 60 times
+     * per simulated second by default.
+     *
+     * @param config the configuration of the scene
+     */
+    public Simulation(SceneConfig config) {
+        this(config, 1.0 / config.getTicksPerSecond());
+    }
+
+    /**
+     * Creates a simulation of the scene stepped at the specified fixed time step.
+     * The spawners of the scene are spawned immediately, as when a match is started.
+     *
+     * @param config    the configuration of the scene
+     * @param deltaTime the fixed time step, in seconds
+     * @throws InvalidParameterException if the time step is not positive
+     */
+    public Simulation(SceneConfig config, double deltaTime) {
+        if (deltaTime <= 0) throw new InvalidParameterException("Simulation time step must be higher than 0");
+        this.deltaTime = deltaTime;
+
+        ConfigManager.getInstance().useSceneConfig(config);
+        TextureCache.getInstance().setHeadless(true);
+
+        Scaler scaler = Scaler.getInstance();
+        scaler.setSettings(config);
+        scaler.setScreenSize(
+                Math.round(scaler.getHorizontalTilesCount() * scaler.getDefaultTileWidth()),
+                Math.round(scaler.getVerticalTilesCount() * scaler.getDefaultTileHeight())
+        );
+
+        this.model = new GameSceneLoader(config, scaler).loadScene();
+        model.getScheduler().schedule(model.getGameDuration(), () -> isFinished = true);
+        model.getSpawners().forEach(Spawner::spawn);
+
+        LOGGER.info("Simulation of scene {} created with time step {}", model.getSceneId(), deltaTime);
+    }
+
+    /**
+     * Advances the match by one fixed time step. The match is ended by the step after which
+     * its duration is over, then the bullets left in the scene are returned to the pool.
+     */
+    public void step() {
+        model.update(deltaTime);
+        steps++;
+
+        if (isFinished) model.endMatch();
+    }
+
+    /**
+     * Advances the match by the specified number of time steps, stopping early if the match is over.
+     *
+     * @param count the number of time steps
+     */
+    public void run(long count) {
+        for (long i = 0; i < count && !isFinished(); i++) step();
+    }
+
+    /**
+     * Advances the match until its duration is over.
+     */
+    public void runToEnd() {
+        while (!isFinished()) step();
+    }
+
+    /**
+     * Schedules the events of the script. Event times are counted from the start of the match,
+     * events which are already in the past are applied by the next step.
+     *
+     * @param script the script of inputs
+     */
+    public void play(InputScript script) {
+        for (InputScript.InputEvent event : script.getEvents()) {
+            Runnable action = event.isPressed() ? () -> press(event.player()) : () -> release(event.player());
+            model.getScheduler().schedule(event.time() - getTime(), action);
+        }
+    }
+
+    /**
+     * Presses the key of the specified player, as the player's key in the game would do.
+     *
+     * @param player the index of the player
+     */
+    public void press(int player) {
+        getPlayer(player).onKeyPressed();
+    }
+
+    /**
+     * Releases the key of the specified player.
+     *
+     * @param player the index of the player
+     */
+    public void release(int player) {
+        getPlayer(player).onKeyReleased();
+    }
+
+    /**
+     * Returns the player of the specified player spawner.
+     *
+     * @param index the index of the player
+     * @return the player
+     * @throws InvalidParameterException if there is no player with the specified index
+     */
+    public Player getPlayer(int index) {
+        List<PlayerSpawner> spawners = model.getPlayerSpawners();
+        if (index < 0 || index >= spawners.size())
+            throw new InvalidParameterException("Scene has no player with index " + index);
+
+        return spawners.get(index).getPlayer();
+    }
+
+    public PlayerSpawner getWinner() { return model.getWinnerPlayerSpawner(); }
+
+    public GameModel getModel() { return model; }
+    public double getDeltaTime() { return deltaTime; }
+    public long getSteps() { return steps; }
+    public double getTime() { return steps * deltaTime; }
+    public boolean isFinished() { return isFinished; }
+}
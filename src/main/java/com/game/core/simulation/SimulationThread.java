@@ -0,0 +1,165 @@
+package com.game.core.simulation;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.utils.FixedTimestep;
+import com.game.core.utils.TripleBuffer;
+import com.game.gui.scenes.game.GameModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Runs the simulation of a {@link GameModel} on a dedicated thread at its own tick rate, so a slow frame
+ * doesn't slow the simulation down and the other way around. The model, its timers and spawners are
+ * updated only by this thread.
+ *
+ * <p>Other threads talk to the simulation without locks: commands, e.g. the input of the players,
+ * are handed over through a queue and run before the next step, and after every step the state of the
+ * model is captured into a {@link WorldSnapshot} published through a {@link TripleBuffer}.
+ * The snapshots must be read by a single thread, usually the render one.</p>
+ */
+public class SimulationThread {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationThread.class);
+    private static final long JOIN_TIMEOUT_MILLIS = 1000;
+
+    private final GameModel model;
+    private final FixedTimestep timestep;
+    private final long stepNanos;
+    private final DoubleConsumer stepper;
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private volatile boolean isRunning = false;
+    private boolean isPaused = false;
+    private Thread thread;
+
+    /**
+     * Creates a simulation of the model, it's not started yet.
+     *
+     * @param model           the simulated model, must not be changed by other threads once started
+     * @param ticksPerSecond  the number of updates per second
+     * @param maxCatchUpSteps the maximum number of updates between two snapshots
+     * @throws InvalidParameterException if any of the numbers is not positive
+     */
+    public SimulationThread(GameModel model, int ticksPerSecond, int maxCatchUpSteps) {
+        this.model = model;
+        this.timestep = new FixedTimestep(ticksPerSecond, maxCatchUpSteps);
+        this.stepNanos = Math.round(timestep.getStepTime() * 1_000_000_000);
+        this.stepper = model::update;
+    }
+
+    /**
+     * Starts the simulation thread. The first snapshot is published before the first update.
+     */
+    public synchronized void start() {
+        if (isRunning) return;
+
+        isRunning = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation and waits until the current step is finished.
+     */
+    public synchronized void stop() {
+        if (!isRunning) return;
+
+        isRunning = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(JOIN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) LOGGER.warn("Simulation thread didn't stop in {} ms", JOIN_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Hands a command over to the simulation thread, it runs before the next update.
+     * Can be called from any thread.
+     *
+     * @param command the command changing the model
+     */
+    public void submit(Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * Pauses or resumes the updates. Snapshots are not published while the simulation is paused.
+     *
+     * @param paused {@code true} to pause the simulation
+     */
+    public void setPaused(boolean paused) {
+        submit(() -> {
+            if (isPaused && !paused) timestep.reset();
+            isPaused = paused;
+        });
+    }
+
+    /**
+     * Returns the latest published snapshot. Must be called by a single reader thread.
+     *
+     * @return the snapshot, it stays unchanged until this method is called again
+     */
+    public WorldSnapshot getSnapshot() {
+        return snapshots.acquire();
+    }
+
+    /**
+     * Returns the interpolation factor of the snapshot: the part of a step passed since it was published.
+     *
+     * @param snapshot the snapshot returned by {@link #getSnapshot()}
+     * @param now      the current time in nanoseconds
+     * @return the factor in range [0, 1]
+     */
+    public double getAlpha(WorldSnapshot snapshot, long now) {
+        return Math.clamp((double) (now - snapshot.getPublishTime()) / stepNanos, 0, 1);
+    }
+
+    public boolean isRunning() { return isRunning; }
+
+    private void run() {
+        LOGGER.info("Simulation of scene {} started", model.getSceneId());
+        long lastTime = System.nanoTime();
+        long nextTick = lastTime + stepNanos;
+        publish(lastTime);
+
+        try {
+            while (isRunning) {
+                runCommands();
+
+                long now = System.nanoTime();
+                if (!isPaused && timestep.advance((now - lastTime) / 1_000_000_000.0, stepper) > 0) publish(now);
+                lastTime = now;
+
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(this, wait);
+                // Behind the schedule, the time is caught up by the timestep instead of skipping the waits
+                else nextTick = System.nanoTime();
+                nextTick += stepNanos;
+            }
+        } catch (RuntimeException e) {
+            isRunning = false;
+            LOGGER.error("Simulation of scene {} failed", model.getSceneId(), e);
+        }
+
+        LOGGER.info("Simulation of scene {} stopped", model.getSceneId());
+    }
+
+    private void runCommands() {
+        Runnable command;
+        while ((command = commands.poll()) != null) command.run();
+    }
+
+    private void publish(long now) {
+        WorldSnapshot snapshot = snapshots.getBack();
+        snapshot.capture(model);
+        snapshot.setPublishTime(now);
+        snapshots.publish();
+    }
+}
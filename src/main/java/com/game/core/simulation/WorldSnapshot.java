@@ -0,0 +1,250 @@
+package com.game.core.simulation;
+
+import com.game.core.behaviour.bounds.Bounds;
+import com.game.core.behaviour.bounds.CircleBounds;
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.entities.Entity;
+import com.game.core.entities.Player;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletSystem;
+import com.game.core.scene.blocks.Block;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.scene.spawners.PlayerSpawner;
+import com.game.core.utils.DebugUtils;
+import com.game.gui.scenes.game.GameModel;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copy of everything the renderer needs from a {@link GameModel} after a simulation step: the sprites
+ * of the entities and bullets with their previous and current positions, the positions of the player
+ * spawners with the kills of their players and the time of the match. The simulation thread captures it, and the render thread draws it, so the
+ * renderer never reads the model while it's updated.
+ *
+ * <p>Snapshots are reused by a {@link com.game.core.utils.TripleBuffer}: a snapshot is overwritten by
+ * {@link #capture(GameModel)} and must not be changed after it's published.</p>
+ */
+public class WorldSnapshot {
+    public static final int ACTIVE = 1;
+    public static final int SHIELD = 1 << 1;
+    public static final int SMALL_HEALTH = 1 << 2;
+    public static final int CIRCLE_HITBOX = 1 << 3;
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final Color SHIELD_COLOR = Color.web("#949494", 0.5f);
+    private static final Color SMALL_HEALTH_COLOR = Color.web("#b52218", 0.5f);
+
+    private Tile[] tiles;
+    private float[] x;
+    private float[] y;
+    private float[] prevX;
+    private float[] prevY;
+    private float[] rotationAngles;
+    private float[] hitboxWidths;
+    private float[] hitboxHeights;
+    private int[] flags;
+    private int size = 0;
+    private int entitiesCount = 0;
+    private int bulletsCount = 0;
+    private float[] spawnerX = new float[0];
+    private float[] spawnerY = new float[0];
+    private int[] killsCounts = new int[0];
+    private double time = 0;
+    private long publishTime = 0;
+
+    public WorldSnapshot() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Overwrites the snapshot with the current state of the model. Blocks are skipped,
+     * they are drawn by the static layer.
+     *
+     * @param model the model, must not be updated during the capture
+     */
+    public void capture(GameModel model) {
+        clear();
+
+        List<Entity> entities = model.getEntities();
+        entitiesCount = entities.size();
+        for (int i = 0; i < entitiesCount; i++) {
+            Entity entity = entities.get(i);
+            if (!(entity instanceof Block)) addEntity(entity);
+        }
+
+        BulletSystem bulletSystem = model.getBulletSystem();
+        if (bulletSystem != null) {
+            bulletsCount += bulletSystem.size();
+            bulletSystem.capture(this);
+        }
+
+        List<PlayerSpawner> spawners = model.getPlayerSpawners();
+        if (killsCounts.length != spawners.size()) {
+            spawnerX = new float[spawners.size()];
+            spawnerY = new float[spawners.size()];
+            killsCounts = new int[spawners.size()];
+        }
+        for (int i = 0; i < killsCounts.length; i++) {
+            PlayerSpawner spawner = spawners.get(i);
+            Player player = spawner.getPlayer();
+            spawnerX[i] = spawner.getX();
+            spawnerY[i] = spawner.getY();
+            killsCounts[i] = player != null ? player.getKillsCount() : 0;
+        }
+
+        time = model.getScheduler().getTime();
+    }
+
+    /**
+     * Adds a sprite to the snapshot.
+     *
+     * @param tile          the tile the sprite is drawn with
+     * @param x             the current X-coordinate of the center
+     * @param y             the current Y-coordinate of the center
+     * @param prevX         the X-coordinate of the center before the last step
+     * @param prevY         the Y-coordinate of the center before the last step
+     * @param rotationAngle the rotation of the tile in degrees
+     * @param hitboxWidth   the width of the hitbox
+     * @param hitboxHeight  the height of the hitbox
+     * @param flags         the combination of {@link #ACTIVE}, {@link #SHIELD}, {@link #SMALL_HEALTH}
+     *                      and {@link #CIRCLE_HITBOX}
+     */
+    public void addSprite(
+            Tile tile, float x, float y, float prevX, float prevY,
+            float rotationAngle, float hitboxWidth, float hitboxHeight, int flags
+    ) {
+        if (size == tiles.length) allocate(size * 2);
+
+        int i = size++;
+        this.tiles[i] = tile;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = prevX;
+        this.prevY[i] = prevY;
+        this.rotationAngles[i] = rotationAngle;
+        this.hitboxWidths[i] = hitboxWidth;
+        this.hitboxHeights[i] = hitboxHeight;
+        this.flags[i] = flags;
+    }
+
+    /**
+     * Draws the sprites at the positions interpolated between the previous and the current steps.
+     *
+     * @param gc    the graphics context of the game canvas
+     * @param alpha the interpolation factor, {@code 0} is the previous position and {@code 1} is the current one
+     */
+    public void draw(GraphicsContext gc, double alpha) {
+        for (int i = 0; i < size; i++) {
+            float drawX = (float) (prevX[i] + (x[i] - prevX[i]) * alpha);
+            float drawY = (float) (prevY[i] + (y[i] - prevY[i]) * alpha);
+            int spriteFlags = flags[i];
+
+            if ((spriteFlags & ACTIVE) != 0) {
+                drawTile(gc, tiles[i], drawX, drawY, rotationAngles[i]);
+                if ((spriteFlags & SHIELD) != 0) drawEffectCircle(gc, i, drawX, drawY, SHIELD_COLOR);
+                if ((spriteFlags & SMALL_HEALTH) != 0) drawEffectCircle(gc, i, drawX, drawY, SMALL_HEALTH_COLOR);
+            }
+
+            DebugUtils.drawHitboxIfDebug(
+                    gc, drawX, drawY, hitboxWidths[i], hitboxHeights[i], (spriteFlags & CIRCLE_HITBOX) != 0
+            );
+        }
+    }
+
+    /**
+     * Removes all sprites, the buffers are kept for the next capture.
+     */
+    public void clear() {
+        Arrays.fill(tiles, 0, size, null);
+        size = 0;
+        entitiesCount = 0;
+        bulletsCount = 0;
+    }
+
+    public int size() { return size; }
+    public float getX(int index) { return x[index]; }
+    public float getY(int index) { return y[index]; }
+    public float getRotationAngle(int index) { return rotationAngles[index]; }
+    public int getFlags(int index) { return flags[index]; }
+    public int getEntitiesCount() { return entitiesCount; }
+    public int getBulletsCount() { return bulletsCount; }
+    public float getSpawnerX(int spawnerIndex) { return spawnerX[spawnerIndex]; }
+    public float getSpawnerY(int spawnerIndex) { return spawnerY[spawnerIndex]; }
+    public int getKillsCount(int spawnerIndex) { return killsCounts[spawnerIndex]; }
+    public int getPlayersCount() { return killsCounts.length; }
+    public double getTime() { return time; }
+
+    public long getPublishTime() { return publishTime; }
+    public void setPublishTime(long publishTime) { this.publishTime = publishTime; }
+
+    private void addEntity(Entity entity) {
+        if (entity instanceof Bullet) bulletsCount++;
+
+        int entityFlags = entity.getState() ? ACTIVE : 0;
+        if (entity instanceof Player player) {
+            if (player.isHasShield()) entityFlags |= SHIELD;
+            if (player.hasSmallHealth()) entityFlags |= SMALL_HEALTH;
+        }
+
+        float width = 0;
+        float height = 0;
+        Bounds hitbox = entity.getHitbox();
+        if (hitbox instanceof CircleBounds circle) {
+            width = height = circle.getRadius() * 2;
+            entityFlags |= CIRCLE_HITBOX;
+        } else if (hitbox instanceof RectangleBounds rect) {
+            width = rect.getWidth();
+            height = rect.getHeight();
+        }
+
+        addSprite(
+                entity.getTile(), entity.getX(), entity.getY(), entity.getPrevX(), entity.getPrevY(),
+                entity.getRotationAngle(), width, height, entityFlags
+        );
+    }
+
+    private static void drawTile(GraphicsContext gc, Tile tile, float x, float y, float angle) {
+        if (tile.hasRotationCache()) {
+            tile.drawRotated(gc, x, y, angle);
+            return;
+        }
+
+        gc.save();
+        gc.translate(x, y);
+        gc.rotate(angle);
+        tile.draw(gc, 0, 0);
+        gc.restore();
+    }
+
+    /**
+     * Draws the circle of an effect the same way as {@link Player#drawEffectCircle}.
+     */
+    private void drawEffectCircle(GraphicsContext gc, int i, float x, float y, Color color) {
+        float width = hitboxWidths[i];
+        float height = hitboxHeights[i];
+        boolean isCircle = (flags[i] & CIRCLE_HITBOX) != 0;
+        float maxSize = isCircle ? width : (float) Math.hypot(width, height);
+
+        gc.setFill(color);
+        gc.fillOval(x - (width / 2), y - (height / 2), maxSize, maxSize);
+    }
+
+    private void allocate(int capacity) {
+        tiles = tiles == null ? new Tile[capacity] : Arrays.copyOf(tiles, capacity);
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        prevX = copy(prevX, capacity);
+        prevY = copy(prevY, capacity);
+        rotationAngles = copy(rotationAngles, capacity);
+        hitboxWidths = copy(hitboxWidths, capacity);
+        hitboxHeights = copy(hitboxHeights, capacity);
+        flags = flags == null ? new int[capacity] : Arrays.copyOf(flags, capacity);
+    }
+
+    private static float[] copy(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
@@ -2,6 +2,7 @@ package com.game.core.strategies;
 
 import com.game.core.entities.bullet.Bullet;
 import com.game.core.entities.Player;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.utils.config.SceneConfig;
 
@@ -14,6 +15,7 @@ import java.util.Objects;
  */
 public class CircularShootStrategy implements ShootingStrategy {
     private SceneConfig.BulletConfig bulletConfig;
+    private BulletPool bulletPool;
 
     /**
      * Shoots bullets in a circular pattern around the player.
@@ -31,6 +33,7 @@ public class CircularShootStrategy implements ShootingStrategy {
             bullets.add(
                 new Bullet.builder(bulletType)
                         .config(getBulletConfig())
+                        .pool(getBulletPool())
                         .owner(player)
                         .rotationAngle(i % 360)
                         .build()
@@ -46,4 +49,9 @@ public class CircularShootStrategy implements ShootingStrategy {
     }
     @Override
     public SceneConfig.BulletConfig getBulletConfig() { return bulletConfig; }
+
+    @Override
+    public void setBulletPool(BulletPool pool) { this.bulletPool = pool; }
+    @Override
+    public BulletPool getBulletPool() { return bulletPool; }
 }
@@ -2,6 +2,7 @@ package com.game.core.strategies;
 
 import com.game.core.entities.bullet.Bullet;
 import com.game.core.entities.Player;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.utils.config.SceneConfig;
 
@@ -14,6 +15,7 @@ import java.util.Objects;
  */
 public class DoubleShootStrategy implements ShootingStrategy {
     private SceneConfig.BulletConfig bulletConfig;
+    private BulletPool bulletPool;
 
     /**
      * Fires two bullets of the specified {@link BulletType}, using the given {@link Player} as the owner.
@@ -25,8 +27,8 @@ public class DoubleShootStrategy implements ShootingStrategy {
     @Override
     public List<Bullet> shoot(Player player, BulletType bulletType) {
         return List.of(
-            new Bullet.builder(bulletType).config(getBulletConfig()).owner(player).build(),
-            new Bullet.builder(bulletType).config(getBulletConfig()).owner(player).build()
+            new Bullet.builder(bulletType).config(getBulletConfig()).pool(getBulletPool()).owner(player).build(),
+            new Bullet.builder(bulletType).config(getBulletConfig()).pool(getBulletPool()).owner(player).build()
         );
     }
 
@@ -36,4 +38,9 @@ public class DoubleShootStrategy implements ShootingStrategy {
     }
     @Override
     public SceneConfig.BulletConfig getBulletConfig() { return bulletConfig; }
+
+    @Override
+    public void setBulletPool(BulletPool pool) { this.bulletPool = pool; }
+    @Override
+    public BulletPool getBulletPool() { return bulletPool; }
 }
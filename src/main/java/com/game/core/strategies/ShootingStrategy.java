@@ -2,6 +2,7 @@ package com.game.core.strategies;
 
 import com.game.core.entities.bullet.Bullet;
 import com.game.core.entities.Player;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.utils.config.SceneConfig;
 
@@ -11,4 +12,6 @@ public interface ShootingStrategy {
     List<Bullet> shoot(Player player, BulletType bulletType);
     void setBulletConfig(SceneConfig.BulletConfig config);
     SceneConfig.BulletConfig getBulletConfig();
+    void setBulletPool(BulletPool pool);
+    BulletPool getBulletPool();
 }
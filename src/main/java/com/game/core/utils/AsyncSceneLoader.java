@@ -0,0 +1,103 @@
+package com.game.core.utils;
+
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import com.game.gui.scenes.game.GameModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Loads game scenes on a background executor: parses and validates the scene configuration,
+ * decodes the textures into the {@link TextureCache} atlas and builds the {@link GameModel}.
+ * Only showing the loaded model is left to the caller, e.g. to the JavaFX application thread.
+ *
+ * <p>The loader configures the process-wide {@link ConfigManager} and {@link Scaler}, so scenes
+ * must not be loaded concurrently with each other or with a running game.</p>
+ */
+public class AsyncSceneLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncSceneLoader.class);
+    private static final double CONFIG_PROGRESS = 0.1;
+    private static final double TEXTURES_PROGRESS = 0.7;
+
+    private final Executor executor;
+
+    /**
+     * Creates a loader which runs on the specified executor.
+     *
+     * @param executor the executor of the loading, usually a single background thread
+     */
+    public AsyncSceneLoader(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Starts loading the scene with the specified ID.
+     *
+     * @param sceneId    the ID of the scene
+     * @param onProgress receives the overall progress in range [0, 1], called on the thread of the executor
+     * @return the future completed with the loaded model, or completed exceptionally if the scene can't be loaded
+     */
+    public CompletableFuture<GameModel> load(String sceneId, DoubleConsumer onProgress) {
+        return CompletableFuture.supplyAsync(() -> loadScene(sceneId, onProgress), executor);
+    }
+
+    /**
+     * Starts loading a scene from an already parsed configuration, e.g. to restart the current map.
+     *
+     * @param config     the configuration of the scene
+     * @param onProgress receives the overall progress in range [0, 1], called on the thread of the executor
+     * @return the future completed with the loaded model, or completed exceptionally if the scene can't be loaded
+     */
+    public CompletableFuture<GameModel> load(SceneConfig config, DoubleConsumer onProgress) {
+        Objects.requireNonNull(config);
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            onProgress.accept(0);
+            ConfigManager.getInstance().useSceneConfig(config);
+            onProgress.accept(CONFIG_PROGRESS);
+
+            return buildScene(config, onProgress, startTime);
+        }, executor);
+    }
+
+    private GameModel loadScene(String sceneId, DoubleConsumer onProgress) {
+        long startTime = System.nanoTime();
+        onProgress.accept(0);
+
+        SceneConfig config;
+        try {
+            config = ConfigManager.getInstance().loadSceneConfig(sceneId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        onProgress.accept(CONFIG_PROGRESS);
+
+        return buildScene(config, onProgress, startTime);
+    }
+
+    private GameModel buildScene(SceneConfig config, DoubleConsumer onProgress, long startTime) {
+        Scaler scaler = Scaler.getInstance();
+        scaler.setSettings(config);
+        TextureCache.getInstance().buildAtlas(config, progress ->
+                onProgress.accept(CONFIG_PROGRESS + (TEXTURES_PROGRESS - CONFIG_PROGRESS) * progress)
+        );
+
+        GameModel model = new GameSceneLoader(config, scaler).loadScene(progress ->
+                onProgress.accept(TEXTURES_PROGRESS + (1 - TEXTURES_PROGRESS) * progress)
+        );
+
+        LOGGER.info("Scene {} loaded in {} ms", config.getId(), (System.nanoTime() - startTime) / 1_000_000);
+        return model;
+    }
+}
@@ -49,4 +49,23 @@ public final class DebugUtils {
         if (!ConfigManager.getInstance().getConfig().isDebug()) return;
         drawHitbox(gc, hitbox);
     }
+
+    /**
+     * Draws a hitbox described by its size instead of its bounds, e.g. one copied into a snapshot.
+     *
+     * @param gc       the graphics context
+     * @param x        the X-coordinate of the center
+     * @param y        the Y-coordinate of the center
+     * @param width    the width of the hitbox, the diameter of a circle
+     * @param height   the height of the hitbox, the diameter of a circle
+     * @param isCircle {@code true} to draw a circle, {@code false} to draw a rectangle
+     */
+    public static void drawHitboxIfDebug(GraphicsContext gc, float x, float y, float width, float height, boolean isCircle) {
+        if (!ConfigManager.getInstance().getConfig().isDebug()) return;
+
+        gc.setStroke(HITBOX_COLOR);
+        gc.setLineWidth(1.5);
+        if (isCircle) gc.strokeOval(x - (width / 2), y - (height / 2), width, height);
+        else gc.strokeRect(x - (width / 2), y - (height / 2), width, height);
+    }
 }
@@ -0,0 +1,79 @@
+package com.game.core.utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Accumulator which splits variable frame times into fixed simulation steps. The time left after
+ * the performed steps is carried over to the next frame and exposed as an interpolation factor,
+ * so rendering can blend the previous and the current states of the simulation.
+ *
+ * <p>The number of steps per frame is limited: if the simulation can't keep up (e.g. after a hitch),
+ * the rest of the frame time is dropped and the game slows down instead of freezing.</p>
+ */
+public class FixedTimestep {
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    public static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+
+    private final double stepTime;
+    private final int maxStepsPerFrame;
+    private double accumulator = 0;
+
+    /**
+     * Constructs an accumulator with the specified tick rate.
+     *
+     * @param ticksPerSecond   the number of simulation steps per second
+     * @param maxStepsPerFrame the maximum number of steps performed to catch up in a single frame
+     * @throws InvalidParameterException if any of the provided parameters is not positive
+     */
+    public FixedTimestep(int ticksPerSecond, int maxStepsPerFrame) {
+        if (ticksPerSecond <= 0 || maxStepsPerFrame <= 0)
+            throw new InvalidParameterException("Invalid params was passed to FixedTimestep");
+
+        this.stepTime = 1.0 / ticksPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds the frame time to the accumulator and performs all complete steps which fit into it.
+     *
+     * @param frameTime the time passed since the previous frame, in seconds
+     * @param step      the step of the simulation, receives the fixed step time in seconds
+     * @return the number of performed steps
+     */
+    public int advance(double frameTime, DoubleConsumer step) {
+        accumulator += Math.max(0, frameTime);
+
+        int steps = 0;
+        while (accumulator >= stepTime && steps < maxStepsPerFrame) {
+            step.accept(stepTime);
+            accumulator -= stepTime;
+            steps++;
+        }
+
+        // Not caught up within the limit, the whole steps left are dropped
+        if (accumulator >= stepTime) accumulator %= stepTime;
+
+        return steps;
+    }
+
+    /**
+     * Returns the part of a step accumulated since the last performed step.
+     *
+     * @return the interpolation factor in range [0, 1)
+     */
+    public double getAlpha() {
+        return accumulator / stepTime;
+    }
+
+    /**
+     * Drops the accumulated time, e.g. after the game is resumed.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    public double getStepTime() { return stepTime; }
+    public int getMaxStepsPerFrame() { return maxStepsPerFrame; }
+}
@@ -0,0 +1,163 @@
+package com.game.core.utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight profiler of the game frames. The time spent in each {@link Phase} is summed up during a frame
+ * and, when the frame ends, stored into a ring buffer of the last frames, from which percentiles are calculated.
+ *
+ * <p>The profiler is disabled by default, then measuring a phase costs a single check of a field.
+ * While it's enabled, the frames are guarded by the lock of the profiler, so the simulation phases
+ * can be recorded by a simulation thread while the render thread records the rest.</p>
+ */
+public class FrameProfiler {
+    public static final int DEFAULT_CAPACITY = 240;
+    private static FrameProfiler instance;
+
+    private final long[][] samples;
+    private final long[] currentFrame = new long[Phase.values().length];
+    private final long[] sortBuffer;
+    private int head = 0;
+    private int framesCount = 0;
+    private volatile boolean isEnabled = false;
+
+    /**
+     * Phases of a frame. Moves are planned and collisions are checked while entities are updated,
+     * so the times of {@link #PLANNING} and {@link #COLLISIONS} are also a part of the time of {@link #ENTITIES}.
+     */
+    public enum Phase {
+        TIMERS,
+        ENTITIES,
+        PLANNING,
+        COLLISIONS,
+        SPAWNERS,
+        REMOVAL,
+        RENDER_STATIC,
+        RENDER_ENTITIES,
+        RENDER_OVERLAY,
+        RENDER_HUD
+    }
+
+    /**
+     * Creates a profiler which keeps the specified number of the last frames.
+     *
+     * @param capacity the number of kept frames
+     * @throws InvalidParameterException if the capacity is not positive
+     */
+    public FrameProfiler(int capacity) {
+        if (capacity <= 0) throw new InvalidParameterException("Profiler capacity must be higher than 0");
+
+        this.samples = new long[Phase.values().length][capacity];
+        this.sortBuffer = new long[capacity];
+    }
+
+    public static synchronized FrameProfiler getInstance() {
+        if (instance == null) instance = new FrameProfiler(DEFAULT_CAPACITY);
+
+        return instance;
+    }
+
+    /**
+     * Returns the start time of a measured phase.
+     *
+     * @return the current time in nanoseconds, or {@code 0} if the profiler is disabled
+     */
+    public long start() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time passed since the start to the phase of the current frame.
+     *
+     * @param phase     the measured phase
+     * @param startTime the value returned by {@link #start()}
+     */
+    public void stop(Phase phase, long startTime) {
+        if (isEnabled) record(phase, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Adds the time to the phase of the current frame.
+     *
+     * @param phase the measured phase
+     * @param nanos the time in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        if (!isEnabled) return;
+
+        synchronized (this) {
+            currentFrame[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Stores the times of the current frame into the history and starts a new frame.
+     */
+    public synchronized void endFrame() {
+        if (!isEnabled) return;
+
+        for (int i = 0; i < currentFrame.length; i++) {
+            samples[i][head] = currentFrame[i];
+            currentFrame[i] = 0;
+        }
+
+        head = (head + 1) % getCapacity();
+        framesCount = Math.min(framesCount + 1, getCapacity());
+    }
+
+    /**
+     * Returns the time of the phase which the specified share of the kept frames doesn't exceed.
+     *
+     * @param phase      the phase
+     * @param percentile the share of the frames in range [0, 1], e.g. {@code 0.99}
+     * @return the time in nanoseconds, or {@code 0} if there are no frames yet
+     */
+    public synchronized long getPercentile(Phase phase, double percentile) {
+        if (framesCount == 0) return 0;
+
+        System.arraycopy(samples[phase.ordinal()], 0, sortBuffer, 0, framesCount);
+        Arrays.sort(sortBuffer, 0, framesCount);
+
+        int index = (int) Math.ceil(Math.clamp(percentile, 0, 1) * framesCount) - 1;
+        return sortBuffer[Math.max(index, 0)];
+    }
+
+    /**
+     * Returns the longest time of the phase among the kept frames.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds, or {@code 0} if there are no frames yet
+     */
+    public synchronized long getMax(Phase phase) {
+        long max = 0;
+        long[] phaseSamples = samples[phase.ordinal()];
+        for (int i = 0; i < framesCount; i++) max = Math.max(max, phaseSamples[i]);
+
+        return max;
+    }
+
+    /**
+     * Drops the kept frames and the times of the current frame.
+     */
+    public synchronized void reset() {
+        Arrays.fill(currentFrame, 0);
+        head = 0;
+        framesCount = 0;
+    }
+
+    /**
+     * Enables or disables the profiler. The kept frames are dropped on every change.
+     *
+     * @param enabled {@code true} to start measuring, {@code false} to stop
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled != isEnabled) reset();
+        this.isEnabled = enabled;
+    }
+
+    public boolean isEnabled() { return isEnabled; }
+    public int getCapacity() { return sortBuffer.length; }
+    public int getFramesCount() { return framesCount; }
+}
@@ -2,6 +2,7 @@ package com.game.core.utils;
 
 import com.game.core.entities.Entity;
 import com.game.core.factories.AreaFactory;
+import com.game.core.diagnostics.SceneLoadPhaseEvent;
 import com.game.core.factories.BlockFactory;
 import com.game.core.factories.SpawnerFactory;
 import com.game.core.scene.areas.Area;
@@ -10,6 +11,7 @@ import com.game.core.scene.spawners.Spawner;
 import com.game.core.utils.config.SceneConfig;
 import com.game.gui.scenes.game.GameModel;
 import com.game.core.scene.graphics.SceneTile;
+import com.game.core.scene.graphics.TextureCache;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.scene.graphics.TileType;
 import org.slf4j.Logger;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 /**
  * Responsible for loading and initializing game scenes from a configuration.
@@ -27,6 +30,7 @@ import java.util.function.Consumer;
  */
 public class GameSceneLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameSceneLoader.class);
+    private static final int LOADING_PHASES = 6;
 
     private final SceneConfig config;
     private final Scaler scaler;
@@ -48,19 +52,62 @@ public class GameSceneLoader {
      * @return a fully constructed {@link GameModel} containing the game scene
      */
     public GameModel loadScene() {
+        return loadScene(progress -> {});
+    }
+
+    /**
+     * Loads and initializes the game scene based on the configuration, reporting the progress after each phase.
+     * Doesn't require the JavaFX application thread.
+     *
+     * @param onProgress receives the share of the finished phases in range (0, 1]
+     * @return a fully constructed {@link GameModel} containing the game scene
+     */
+    public GameModel loadScene(DoubleConsumer onProgress) {
         LOGGER.debug("Load game scene from a config");
         SceneConfig config = getConfig();
 
-        GameModel newScene = new GameModel(config.getId(), config.getName(), config.getGameDuration());
-        loadTiles(newScene, config.getBackgroundTiles(), TileType.BACKGROUND);
-        loadTiles(newScene, config.getOverlayTiles(), TileType.OVERLAY);
-        loadBlocks(newScene, config.getBlocks());
-        loadSpawners(newScene);
-        loadAreas(newScene);
+        GameModel newScene = config.getSeed() != null
+                ? new GameModel(config.getId(), config.getName(), config.getGameDuration(), config.getSeed())
+                : new GameModel(config.getId(), config.getName(), config.getGameDuration());
+        LOGGER.info("Scene is seeded with {}", newScene.getSeed());
+        newScene.setBulletSystemEnabled(config.isBulletSystemEnabled());
+        newScene.setParallelUpdateEnabled(config.isParallelUpdateEnabled());
+        recordPhase(config, "backgroundTiles", () -> loadTiles(newScene, config.getBackgroundTiles(), TileType.BACKGROUND));
+        onProgress.accept(1.0 / LOADING_PHASES);
+        recordPhase(config, "overlayTiles", () -> loadTiles(newScene, config.getOverlayTiles(), TileType.OVERLAY));
+        onProgress.accept(2.0 / LOADING_PHASES);
+        recordPhase(config, "blocks", () -> loadBlocks(newScene, config.getBlocks()));
+        onProgress.accept(3.0 / LOADING_PHASES);
+        recordPhase(config, "spawners", () -> loadSpawners(newScene));
+        onProgress.accept(4.0 / LOADING_PHASES);
+        recordPhase(config, "areas", () -> loadAreas(newScene));
+        onProgress.accept(5.0 / LOADING_PHASES);
+        recordPhase(config, "finish", newScene::finishLoading);
+        onProgress.accept(1.0);
 
         return newScene;
     }
 
+    /**
+     * Runs a phase of the scene loading, reporting its duration to the Flight Recorder if it's recording.
+     *
+     * @param config the config of the loaded scene
+     * @param phase  the name of the phase
+     * @param loader the loading of the phase
+     */
+    private static void recordPhase(SceneConfig config, String phase, Runnable loader) {
+        SceneLoadPhaseEvent event = new SceneLoadPhaseEvent();
+        event.begin();
+        loader.run();
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sceneId = config.getId();
+            event.phase = phase;
+            event.commit();
+        }
+    }
+
     /**
      * Generates the position of an element based on its column and row.
      *
@@ -177,7 +224,7 @@ public class GameSceneLoader {
                 T mappingElement = texturesMapping.get(elementStr);
                 if (mappingElement == null) continue;
 
-                Tile tile = new Tile(
+                Tile tile = TextureCache.getInstance().getTile(
                         mappingElement.getTexture(),
                         tileType,
                         null,
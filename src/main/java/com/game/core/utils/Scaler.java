@@ -3,20 +3,39 @@ package com.game.core.utils;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.exceptions.NotConfiguredException;
 import com.game.core.utils.config.SceneConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.awt.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleConsumer;
 
 /**
  * Scaler is a singleton utility class responsible for scaling graphical tiles and scenes based on screen dimensions.
  * It can calculate the scaled size of individual tiles or the entire scene and manages configuration settings.
+ *
+ * <p>The scale is calculated once after the settings or the screen size change and then cached, so bounds and
+ * tiles created in hot paths don't query the screen. When the screen may have changed (e.g. the window was moved
+ * to another monitor), {@link #recalculate()} refreshes the scale of the screen and notifies the scale listeners.
+ * The scale of the objects stays the same until the settings are changed again, i.e. until the next scene is
+ * loaded, so the objects created during a game have the same unit as the loaded ones.</p>
+ *
+ * <p>The scale is changed on the JavaFX thread and read by the simulation and loading threads.</p>
  */
 public class Scaler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Scaler.class);
     private static Scaler instance;
     private int horizontalTilesCount;
     private int verticalTilesCount;
     private float defaultTileWidth;
     private float defaultTileHeight;
-    private boolean isConfigured = false;
+    private volatile boolean isConfigured = false;
+    private volatile Dimension screenSize;
+    private volatile float scale = 1;
+    private volatile float screenScale = 1;
+    private volatile boolean isScaleValid = false;
+    private final List<DoubleConsumer> scaleListeners = new CopyOnWriteArrayList<>();
 
     private Scaler() {}
 
@@ -27,14 +46,92 @@ public class Scaler {
     }
 
     /**
-     * Calculates the scale factor based on the screen size and tile configuration.
+     * Returns the scale factor of the objects based on the screen size and tile configuration. The factor
+     * is calculated on the first call after the settings or the screen size were changed and cached until
+     * the next change, {@link #recalculate()} doesn't change it.
      *
-     * @return The calculated scale factor. Returns 1 if not configured.
+     * @return The scale factor. Returns 1 if not configured.
      */
     public float getScale() {
         if (isNotConfigured()) return 1;
+        if (!isScaleValid) validateScale();
 
-        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+        return scale;
+    }
+
+    /**
+     * Returns the scale factor of the current screen. It differs from {@link #getScale()} after the screen
+     * has changed during a game, until the settings are changed by loading the next scene.
+     *
+     * @return The scale factor of the screen. Returns 1 if not configured.
+     */
+    public float getScreenScale() {
+        if (isNotConfigured()) return 1;
+        if (!isScaleValid) validateScale();
+
+        return screenScale;
+    }
+
+    /**
+     * Calculates the scale factor of the screen again, e.g. after the window was moved to another monitor
+     * or the screen resolution was changed, and notifies the scale listeners if the factor has changed.
+     * The scale of the objects is recalculated when the next scene is loaded.
+     *
+     * @return The new scale factor of the screen. Returns 1 if not configured.
+     */
+    public float recalculate() {
+        if (isNotConfigured()) return 1;
+
+        float oldScale;
+        float newScale;
+        synchronized (this) {
+            oldScale = getScreenScale();
+            newScale = calculateScale();
+            screenScale = newScale;
+        }
+
+        if (newScale != oldScale) {
+            LOGGER.info("Screen scale changed from {} to {}", oldScale, newScale);
+            for (DoubleConsumer listener : scaleListeners) listener.accept(newScale);
+        }
+
+        return newScale;
+    }
+
+    private synchronized void validateScale() {
+        if (isScaleValid) return;
+
+        scale = calculateScale();
+        screenScale = scale;
+        isScaleValid = true;
+    }
+
+    /**
+     * Adds a listener notified with the new scale factor when {@link #recalculate()} changes it.
+     *
+     * @param listener The listener of the scale changes.
+     */
+    public void addScaleListener(DoubleConsumer listener) {
+        scaleListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addScaleListener(DoubleConsumer)}.
+     *
+     * @param listener The listener of the scale changes.
+     */
+    public void removeScaleListener(DoubleConsumer listener) {
+        scaleListeners.remove(listener);
+    }
+
+    /**
+     * Calculates the scale factor from the screen size, taken from the AWT toolkit
+     * unless it was overridden by {@link #setScreenSize(int, int)}.
+     *
+     * @return The calculated scale factor.
+     */
+    private float calculateScale() {
+        Dimension screenSize = getScreenSize();
 
         return (float) Math.min(
                 screenSize.getWidth() / (getHorizontalTilesCount() * getDefaultTileWidth()),
@@ -131,15 +228,52 @@ public class Scaler {
         this.verticalTilesCount = verticalTilesCount;
         this.defaultTileWidth = tileWidth;
         this.defaultTileHeight = tileHeight;
+        this.isScaleValid = false;
 
         setConfigured(true);
     }
 
+    /**
+     * Overrides the screen size used for scaling, so the scale can be calculated without a display,
+     * e.g. in a headless simulation.
+     *
+     * @param width  The width of the screen in pixels.
+     * @param height The height of the screen in pixels.
+     * @throws InvalidParameterException If any of the provided sizes is not positive.
+     */
+    public void setScreenSize(int width, int height) {
+        if (width <= 0 || height <= 0)
+            throw new InvalidParameterException("Invalid params was passed to Scaler.setScreenSize");
+
+        this.screenSize = new Dimension(width, height);
+        this.isScaleValid = false;
+    }
+
+    /**
+     * Drops the overridden screen size, so the size of the real screen is used again.
+     */
+    public void resetScreenSize() {
+        this.screenSize = null;
+        this.isScaleValid = false;
+    }
+
+    /**
+     * Returns the overridden screen size or, if it's not overridden, the size of the real screen.
+     *
+     * @return The screen size in pixels.
+     */
+    public Dimension getScreenSize() {
+        return screenSize != null ? screenSize : Toolkit.getDefaultToolkit().getScreenSize();
+    }
+
     public int getHorizontalTilesCount() { return horizontalTilesCount; }
     public int getVerticalTilesCount() { return verticalTilesCount; }
     public float getDefaultTileWidth() { return defaultTileWidth; }
     public float getDefaultTileHeight() { return defaultTileHeight; }
 
     public boolean isNotConfigured() { return !isConfigured; }
-    public void setConfigured(boolean configured) { isConfigured = configured; }
+    public void setConfigured(boolean configured) {
+        isConfigured = configured;
+        isScaleValid = false;
+    }
 }
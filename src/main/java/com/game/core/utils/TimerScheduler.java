@@ -0,0 +1,315 @@
+package com.game.core.utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+
+import java.util.Objects;
+
+/**
+ * Central scheduler of delayed and repeating tasks based on a hierarchical timing wheel.
+ * The time is split into ticks; tasks which expire within the nearest 256 ticks are kept in
+ * the slots of the first wheel, farther tasks are kept in coarser wheels and are cascaded down
+ * when their time comes. Advancing the scheduler visits only the slots of the passed ticks and
+ * runs only the expired tasks, so its cost doesn't depend on the number of pending tasks.
+ *
+ * <p>A scheduler can be attached to another one with {@link #attachTo(TimerScheduler)}: its pending
+ * tasks are moved to the parent, and all further calls are delegated to the parent. It allows objects
+ * to own a local scheduler while they live on their own (e.g. in tests) and share the scene's one
+ * once they are added to it.</p>
+ */
+public class TimerScheduler {
+    public static final int DEFAULT_TICKS_PER_SECOND = 1000;
+
+    private static final int FIRST_WHEEL_BITS = 8;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEELS_COUNT = 4;
+    private static final int FIRST_WHEEL_SIZE = 1 << FIRST_WHEEL_BITS;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int SLOTS_COUNT = FIRST_WHEEL_SIZE + (WHEELS_COUNT - 1) * WHEEL_SIZE;
+    private static final int EXPIRED_SLOT = SLOTS_COUNT;
+    private static final long MAX_DELAY_TICKS = (1L << (FIRST_WHEEL_BITS + (WHEELS_COUNT - 1) * WHEEL_BITS)) - 1;
+    // Compensates floating point errors of converting seconds into ticks, e.g. 0.3 * 10 = 2.9999999999999996
+    private static final double EPSILON = 1e-6;
+
+    private final int ticksPerSecond;
+    private Task[] slots;
+    private long currentTick = 0;
+    private double time = 0;
+    private int size = 0;
+    private TimerScheduler parent;
+
+    /**
+     * Constructs a scheduler with the default resolution of one millisecond.
+     */
+    public TimerScheduler() {
+        this(DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Constructs a scheduler with the specified resolution.
+     *
+     * @param ticksPerSecond the number of ticks in one second
+     * @throws InvalidParameterException if the resolution is not positive
+     */
+    public TimerScheduler(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) throw new InvalidParameterException("Ticks per second must be higher than 0");
+
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Schedules a task which is run once after the specified delay.
+     *
+     * @param delay  the delay in seconds
+     * @param action the action to run
+     * @return the handle of the scheduled task
+     */
+    public Task schedule(double delay, Runnable action) {
+        return schedule(delay, 0, action);
+    }
+
+    /**
+     * Schedules a task which is run every {@code period} seconds, starting after the first period.
+     *
+     * @param period the period in seconds
+     * @param action the action to run
+     * @return the handle of the scheduled task
+     * @throws InvalidParameterException if the period is not positive
+     */
+    public Task scheduleRepeating(double period, Runnable action) {
+        if (period <= 0) throw new InvalidParameterException("Period of a repeating task must be higher than 0");
+
+        return schedule(period, period, action);
+    }
+
+    private Task schedule(double delay, double period, Runnable action) {
+        Objects.requireNonNull(action);
+        if (parent != null) return parent.schedule(delay, period, action);
+
+        Task task = new Task(action, toTicks(period));
+        task.scheduler = this;
+        task.deadline = currentTick + Math.max(1, toTicks(delay));
+        insert(task);
+
+        return task;
+    }
+
+    /**
+     * Advances the time of the scheduler and runs all tasks which have expired.
+     * Does nothing if the scheduler is attached to another one, since the parent is advanced by its owner.
+     *
+     * @param deltaTime the time passed since the previous call, in seconds
+     */
+    public void advance(double deltaTime) {
+        if (parent != null) return;
+
+        time += deltaTime;
+        long targetTick = (long) Math.floor(time * ticksPerSecond + EPSILON);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return;
+        }
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            int index = (int) (currentTick & (FIRST_WHEEL_SIZE - 1));
+            if (index == 0) cascade(1);
+
+            moveSlot(index, EXPIRED_SLOT);
+            runExpired();
+
+            // Nothing is left to wait for, the rest of the passed ticks can be skipped
+            if (size == 0) currentTick = targetTick;
+        }
+    }
+
+    /**
+     * Moves all pending tasks to the specified scheduler and delegates all further calls to it.
+     * The remaining time of the moved tasks is preserved, and their handles stay valid.
+     *
+     * @param scheduler the scheduler to attach to
+     */
+    public void attachTo(TimerScheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        TimerScheduler root = scheduler.getRoot();
+        if (root == this || parent == root) return;
+
+        if (slots != null) {
+            for (int slot = 0; slot <= EXPIRED_SLOT; slot++) {
+                while (slots[slot] != null) {
+                    Task task = slots[slot];
+                    long remaining = task.deadline - currentTick;
+                    unlink(task);
+
+                    task.scheduler = root;
+                    task.deadline = root.currentTick + Math.max(1, remaining);
+                    root.insert(task);
+                }
+            }
+            slots = null;
+        }
+
+        this.parent = root;
+    }
+
+    public boolean isAttached() { return parent != null; }
+
+    /**
+     * Returns the number of pending tasks. An attached scheduler has no own tasks.
+     *
+     * @return the number of pending tasks
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns the time passed since the scheduler was created.
+     *
+     * @return the time in seconds
+     */
+    public double getTime() { return parent != null ? parent.getTime() : time; }
+    public int getTicksPerSecond() { return ticksPerSecond; }
+
+    private TimerScheduler getRoot() {
+        return parent != null ? parent.getRoot() : this;
+    }
+
+    /**
+     * Moves the tasks of the current slot of the specified wheel to the lower wheels.
+     * If the wheel has also completed its turn, its parent wheel is cascaded first.
+     */
+    private void cascade(int wheel) {
+        if (wheel >= WHEELS_COUNT) return;
+
+        int shift = FIRST_WHEEL_BITS + (wheel - 1) * WHEEL_BITS;
+        int index = (int) ((currentTick >>> shift) & (WHEEL_SIZE - 1));
+        if (index == 0) cascade(wheel + 1);
+
+        // The slot is detached first, so a task can never be filed back into the slot being emptied
+        int slot = wheelOffset(wheel) + index;
+        Task task = slots[slot];
+        slots[slot] = null;
+        while (task != null) {
+            Task next = task.next;
+            task.prev = task.next = null;
+            size--;
+            insert(task);
+            task = next;
+        }
+    }
+
+    private void runExpired() {
+        while (slots[EXPIRED_SLOT] != null) {
+            Task task = slots[EXPIRED_SLOT];
+            unlink(task);
+
+            // A repeating task is rescheduled before it runs, so it can cancel itself
+            if (task.period > 0) {
+                task.deadline = Math.max(task.deadline + task.period, currentTick + 1);
+                insert(task);
+            }
+
+            task.action.run();
+        }
+    }
+
+    private void insert(Task task) {
+        if (slots == null) slots = new Task[SLOTS_COUNT + 1];
+
+        long delay = Math.min(task.deadline - currentTick, MAX_DELAY_TICKS);
+        long deadline = currentTick + delay;
+
+        int slot;
+        if (delay <= 0) {
+            slot = EXPIRED_SLOT;
+        } else if (delay < FIRST_WHEEL_SIZE) {
+            slot = (int) (deadline & (FIRST_WHEEL_SIZE - 1));
+        } else {
+            int wheel = 1;
+            while (delay >= 1L << (FIRST_WHEEL_BITS + wheel * WHEEL_BITS)) wheel++;
+
+            int shift = FIRST_WHEEL_BITS + (wheel - 1) * WHEEL_BITS;
+            slot = wheelOffset(wheel) + (int) ((deadline >>> shift) & (WHEEL_SIZE - 1));
+        }
+
+        task.slot = slot;
+        task.prev = null;
+        task.next = slots[slot];
+        if (task.next != null) task.next.prev = task;
+        slots[slot] = task;
+        size++;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev != null) task.prev.next = task.next;
+        else slots[task.slot] = task.next;
+        if (task.next != null) task.next.prev = task.prev;
+
+        task.prev = task.next = null;
+        task.slot = -1;
+        size--;
+    }
+
+    private void moveSlot(int from, int to) {
+        while (slots[from] != null) {
+            Task task = slots[from];
+            unlink(task);
+
+            task.slot = to;
+            task.next = slots[to];
+            if (task.next != null) task.next.prev = task;
+            slots[to] = task;
+            size++;
+        }
+    }
+
+    private long toTicks(double seconds) {
+        return (long) Math.ceil(seconds * ticksPerSecond - EPSILON);
+    }
+
+    private static int wheelOffset(int wheel) {
+        return wheel == 0 ? 0 : FIRST_WHEEL_SIZE + (wheel - 1) * WHEEL_SIZE;
+    }
+
+    /**
+     * Handle of a scheduled task, allows to cancel it and to check its remaining time.
+     */
+    public static final class Task {
+        private final Runnable action;
+        private final long period;
+        private TimerScheduler scheduler;
+        private long deadline;
+        private int slot = -1;
+        private Task prev;
+        private Task next;
+
+        private Task(Runnable action, long period) {
+            this.action = action;
+            this.period = period;
+        }
+
+        /**
+         * Cancels the task. Does nothing if the task has already run or was cancelled.
+         */
+        public void cancel() {
+            if (slot >= 0) scheduler.unlink(this);
+        }
+
+        /**
+         * Checks if the task is still waiting to be run.
+         *
+         * @return {@code true} if the task is pending, {@code false} otherwise
+         */
+        public boolean isScheduled() { return slot >= 0; }
+
+        /**
+         * Returns the time left until the next run of the task.
+         *
+         * @return the time in seconds, {@code 0} if the task is not scheduled anymore
+         */
+        public double getTimeLeft() {
+            if (slot < 0) return 0;
+
+            return Math.max(0, (double) (deadline - scheduler.currentTick) / scheduler.ticksPerSecond);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.core.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer which hands over the latest state from a single writer thread
+ * to a single reader thread. The writer fills the back buffer and publishes it, the reader
+ * takes the latest published buffer. Neither of them waits for the other one: the writer always
+ * has a free buffer, and the reader keeps its buffer until it asks for a newer one.
+ *
+ * <p>Buffers are reused, so the writer must fully overwrite the back buffer before publishing it.
+ * A published buffer must not be changed by the writer anymore.</p>
+ *
+ * @param <T> the type of the buffers
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers = new Object[3];
+    // Index of the buffer between the writer and the reader, with the flag of an unread publication
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 2;
+    private int front = 0;
+
+    /**
+     * Creates the buffer with three instances of the state.
+     *
+     * @param factory creates the instances of the state
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) buffers[i] = factory.get();
+    }
+
+    /**
+     * Returns the buffer owned by the writer. Must be called by the writer thread only.
+     *
+     * @return the buffer to be filled
+     */
+    public T getBack() {
+        return get(back);
+    }
+
+    /**
+     * Publishes the back buffer to the reader and gives the writer another one.
+     * Must be called by the writer thread only.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published buffer, or the buffer returned last time if nothing was published since.
+     * Must be called by the reader thread only.
+     *
+     * @return the buffer to be read
+     */
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) front = middle.getAndSet(front) & INDEX_MASK;
+
+        return get(front);
+    }
+
+    /**
+     * Checks whether a buffer was published since the reader acquired its buffer.
+     *
+     * @return {@code true} if {@link #acquire()} returns a newer buffer
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T get(int index) {
+        return (T) buffers[index];
+    }
+}
@@ -70,6 +70,24 @@ public class ConfigManager {
         return config;
     }
 
+    /**
+     * Uses an already built scene configuration, e.g. one prepared by a simulation, instead of reading it from a file.
+     *
+     * @param config The {@link SceneConfig} object to be used.
+     * @return The same {@link SceneConfig} object.
+     * @throws InvalidParameterException     If the provided config is null.
+     * @throws InvalidConfigurationException If the configuration does not pass validation.
+     */
+    public SceneConfig useSceneConfig(SceneConfig config) {
+        if (config == null)
+            throw new InvalidParameterException("Scene config should not be null");
+
+        validateConfig(config);
+
+        setConfig(config);
+        return config;
+    }
+
     /**
      * Validates the provided {@link SceneConfig} object against its constraints.
      *
@@ -1,6 +1,7 @@
 package com.game.core.utils.config;
 
 import com.game.core.entities.bullet.BulletType;
+import com.game.core.utils.FixedTimestep;
 import com.game.core.utils.config.enums.AreaTypeEnum;
 import com.game.core.utils.config.enums.BoundsTypeEnum;
 import com.game.core.utils.config.enums.SpawnerTypeEnum;
@@ -15,7 +16,13 @@ public class SceneConfig {
     @NotNull @Positive private float tileWidth;
     @NotNull @Positive private float tileHeight;
     private boolean isDebug;
+    private boolean isBulletSystemEnabled;
+    private boolean isParallelUpdateEnabled;
+    private boolean isSimulationThreadEnabled;
+    @Positive private int ticksPerSecond = FixedTimestep.DEFAULT_TICKS_PER_SECOND;
+    @Positive private int maxCatchUpSteps = FixedTimestep.DEFAULT_MAX_CATCH_UP_STEPS;
     @Positive private int gameDuration;
+    private Long seed;
     @NotBlank private String name;
     @NotNull @Valid private List<@Valid AreaConfig> areas;
     @NotEmpty @Valid private List<@Valid SpawnerConfig> spawners;
@@ -69,9 +76,42 @@ public class SceneConfig {
     public boolean isDebug() { return isDebug; }
     public void setDebug(boolean debug) { isDebug = debug; }
 
+    public boolean isBulletSystemEnabled() { return isBulletSystemEnabled; }
+    public void setBulletSystemEnabled(boolean bulletSystemEnabled) { isBulletSystemEnabled = bulletSystemEnabled; }
+
+    public boolean isParallelUpdateEnabled() { return isParallelUpdateEnabled; }
+    public void setParallelUpdateEnabled(boolean parallelUpdateEnabled) { isParallelUpdateEnabled = parallelUpdateEnabled; }
+
+    public boolean isSimulationThreadEnabled() { return isSimulationThreadEnabled; }
+    public void setSimulationThreadEnabled(boolean simulationThreadEnabled) { isSimulationThreadEnabled = simulationThreadEnabled; }
+
+    /**
+     * Returns the number of updates of the game logic per second, independent of the frame rate.
+     *
+     * @return the tick rate, 60 if not specified
+     */
+    public int getTicksPerSecond() { return ticksPerSecond; }
+    public void setTicksPerSecond(int ticksPerSecond) { this.ticksPerSecond = ticksPerSecond; }
+
+    /**
+     * Returns the maximum number of updates performed at once to catch up after a hitch.
+     *
+     * @return the number of updates, 5 if not specified
+     */
+    public int getMaxCatchUpSteps() { return maxCatchUpSteps; }
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) { this.maxCatchUpSteps = maxCatchUpSteps; }
+
     public int getGameDuration() { return gameDuration; }
     public void setGameDuration(int gameDuration) { this.gameDuration = gameDuration; }
 
+    /**
+     * Returns the seed of the random generator of the scene, set to reproduce matches.
+     *
+     * @return the seed, or {@code null} if every match is seeded randomly
+     */
+    public Long getSeed() { return seed; }
+    public void setSeed(Long seed) { this.seed = seed; }
+
     public static class BonusConfig {
         @NotBlank private String texture;
         @Valid private BoundsConfig hitbox;
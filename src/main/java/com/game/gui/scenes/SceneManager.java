@@ -1,18 +1,24 @@
 package com.game.gui.scenes;
 
-import com.game.core.utils.Scaler;
+import com.game.core.utils.AsyncSceneLoader;
 import com.game.core.utils.config.ConfigManager;
 import com.game.core.utils.config.SceneConfig;
+import com.game.gui.scenes.game.GameModel;
 import com.game.gui.scenes.game.GameScene;
 import com.game.gui.scenes.menu.MenuScene;
+import com.game.gui.utils.LoadingOverlay;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
 
 /**
  * Manages the lifecycle and transitions of scenes in the application.
@@ -21,34 +27,71 @@ import java.net.URISyntaxException;
 public class SceneManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(SceneManager.class);
 
+    private final AsyncSceneLoader sceneLoader = new AsyncSceneLoader(Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "scene-loader");
+        thread.setDaemon(true);
+        return thread;
+    }));
     private Scene currentScene;
     private Stage primaryStage;
+    private boolean isLoading = false;
 
     public SceneManager(Stage primaryStage) {
         setPrimaryStage(primaryStage);
     }
 
     /**
-     * Loads and displays the game scene identified by the given scene ID.
-     * Exits the current scene (if any) before transitioning to the new scene.
+     * Loads the game scene identified by the given scene ID in the background, showing a loading screen
+     * over the current scene meanwhile. Once the scene is loaded, exits the current scene (if any) and
+     * displays the new one on the JavaFX application thread. Ignored while another scene is loading.
      *
      * @param sceneId the ID of the scene to load
      */
     public void loadGameScene(String sceneId) {
         LOGGER.info("Loading game scene with id {}", sceneId);
-        if (getCurrentScene() != null) getCurrentScene().onExit();
+        loadInBackground(sceneId, onProgress -> sceneLoader.load(sceneId, onProgress), model -> {
+            if (getCurrentScene() != null) getCurrentScene().onExit();
+            setCurrentScene(new GameScene(getPrimaryStage(), this, model));
+            getCurrentScene().onEnter();
+        });
+    }
+
+    /**
+     * Reloads the game scene from the current scene configuration in the background, showing a loading screen
+     * over the current scene meanwhile, e.g. to restart the map. The configuration isn't parsed again.
+     * Ignored while another scene is loading.
+     *
+     * @param onLoaded receives the new model on the JavaFX application thread
+     */
+    public void reloadGameScene(Consumer<GameModel> onLoaded) {
+        SceneConfig config = ConfigManager.getInstance().getConfig();
+        LOGGER.info("Reloading game scene with id {}", config.getId());
+        loadInBackground(config.getId(), onProgress -> sceneLoader.load(config, onProgress), onLoaded);
+    }
 
-        SceneConfig config;
-        try {
-            config = ConfigManager.getInstance().loadSceneConfig(sceneId);
-        } catch (IOException | URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
-        Scaler scaler = Scaler.getInstance();
-        scaler.setSettings(config);
+    private void loadInBackground(
+            String sceneId,
+            Function<DoubleConsumer, CompletableFuture<GameModel>> loading,
+            Consumer<GameModel> onLoaded
+    ) {
+        if (isLoading) return;
 
-        setCurrentScene(new GameScene(getPrimaryStage(), this));
-        getCurrentScene().onEnter();
+        isLoading = true;
+        LoadingOverlay loadingOverlay = new LoadingOverlay();
+        loadingOverlay.show(getPrimaryStage());
+
+        loading.apply(loadingOverlay::setProgress)
+                .whenComplete((model, error) -> Platform.runLater(() -> {
+                    isLoading = false;
+                    loadingOverlay.hide();
+                    if (error != null) {
+                        LOGGER.error("Failed to load game scene with id {}", sceneId, error);
+                        throwError("Failed to load the map " + sceneId);
+                        return;
+                    }
+
+                    onLoaded.accept(model);
+                }));
     }
 
     /**
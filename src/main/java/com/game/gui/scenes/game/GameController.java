@@ -1,15 +1,20 @@
 package com.game.gui.scenes.game;
 
+import com.game.core.scene.graphics.SceneTile;
+import com.game.core.scene.graphics.TextureCache;
 import com.game.core.scene.graphics.TileType;
 import com.game.core.scene.spawners.PlayerSpawner;
 import com.game.core.scene.spawners.Spawner;
+import com.game.core.simulation.SimulationThread;
+import com.game.core.simulation.WorldSnapshot;
 import com.game.core.utils.GameSceneLoader;
 import com.game.core.utils.Scaler;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.ConfigManager;
 import com.game.core.utils.config.SceneConfig;
 import com.game.gui.scenes.SceneManager;
 import com.game.gui.utils.GameLoop;
+import javafx.application.Platform;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
@@ -20,21 +25,41 @@ import java.util.List;
  * The GameController class serves as the main controller for the game logic and interactions.
  * It manages the game flow, including loading the scene, handling user inputs,
  * controlling the game loop, and rendering updates.
+ *
+ * <p>If the scene enables the simulation thread, the model is updated by a {@link SimulationThread}
+ * and the game loop only renders its snapshots. Input is then handed over to the simulation thread,
+ * and the events of the model are passed back to the JavaFX thread.</p>
  */
 public class GameController {
     private static final String[] KEYS = {"W", "Up", "Space", "Backspace"};
+    private static final KeyCode PROFILER_KEY = KeyCode.F3;
     private final SceneManager sm;
     private final GameView view;
     private GameModel model;
     private GameLoop loop;
+    private SimulationThread simulation;
+    // Overlay tiles drawn from snapshots, copied before the simulation thread is started
+    private List<SceneTile> overlayTiles = List.of();
 
     private boolean isOnPause = false;
-    private Timer<GameController> mainTimer;
+    private TimerScheduler.Task mainTask;
 
     public GameController(GameView view, SceneManager sm) {
+        this(view, sm, null);
+    }
+
+    /**
+     * Creates a controller of an already loaded model, e.g. one loaded in the background.
+     *
+     * @param view  the view of the game
+     * @param sm    the scene manager
+     * @param model the loaded model, or {@code null} to load it from the current scene configuration
+     */
+    public GameController(GameView view, SceneManager sm, GameModel model) {
         view.setController(this);
 
-        generateModel();
+        if (model != null) this.model = model;
+        else generateModel();
         this.view = view;
         this.sm = sm;
     }
@@ -46,19 +71,24 @@ public class GameController {
     private void generateModel() {
         Scaler scaler = Scaler.getInstance();
         SceneConfig config = ConfigManager.getInstance().getConfig();
+        TextureCache.getInstance().buildAtlas(config);
 
         GameSceneLoader loader = new GameSceneLoader(config, scaler);
         this.model = loader.loadScene();
     }
 
     /**
-     * Restarts the game by resetting the view, regenerating the model,
-     * and starting the game loop.
+     * Restarts the game: the model is regenerated in the background by the scene manager,
+     * then the view is reset and the game loop is started with the new model.
      */
     public void restart() {
-        view.restart();
-        generateModel();
-        start();
+        // The old model must not be updated by the simulation thread while the new one is loaded
+        endGame();
+        sm.reloadGameScene(newModel -> {
+            view.restart();
+            this.model = newModel;
+            start();
+        });
     }
 
     /**
@@ -69,22 +99,46 @@ public class GameController {
         // In case of map restarting
         if (loop != null) stopLoop();
 
-        createMainTimer();
+        SceneConfig config = ConfigManager.getInstance().getConfig();
+        boolean isThreaded = config.isSimulationThreadEnabled();
+        createMainTask(isThreaded);
+        view.bakeStaticLayer(model.getStaticObjects());
+        if (isThreaded) model.setOnBlockBroken(block -> Platform.runLater(() -> view.removeStaticObject(block)));
+        else model.setOnBlockBroken(view::removeStaticObject);
         view.show();
 
         getModel().getSpawners().forEach(Spawner::spawn);
 
-        loop = new GameLoop(this::render, this::update);
+        if (isThreaded) {
+            overlayTiles = List.copyOf(model.getTilesByType(TileType.OVERLAY));
+            simulation = new SimulationThread(model, config.getTicksPerSecond(), config.getMaxCatchUpSteps());
+            loop = new GameLoop(alpha -> renderSnapshot());
+            simulation.start();
+        } else {
+            loop = new GameLoop(
+                    this::render,
+                    this::update,
+                    config.getTicksPerSecond(),
+                    config.getMaxCatchUpSteps()
+            );
+        }
         loop.start();
     }
 
     /**
-     * Creates the main timer for the game to track and handle the game duration
-     * and determine the winner when the timer ends.
+     * Schedules the main task of the game on the model's scheduler to track the game duration
+     * and determine the winner when the time is over.
+     *
+     * @param isThreaded whether the task runs on the simulation thread, the view is then updated on the JavaFX thread
      */
-    private void createMainTimer() {
-        mainTimer = new Timer<>(model.getGameDuration(), x -> {
-            view.gameEnd(model.getWinnerPlayerSpawner());
+    private void createMainTask(boolean isThreaded) {
+        if (mainTask != null) mainTask.cancel();
+
+        mainTask = model.getScheduler().schedule(model.getGameDuration(), () -> {
+            mainTask = null;
+            PlayerSpawner winner = model.getWinnerPlayerSpawner();
+            if (isThreaded) Platform.runLater(() -> view.gameEnd(winner));
+            else view.gameEnd(winner);
         });
     }
 
@@ -93,6 +147,18 @@ public class GameController {
      */
     public void stopLoop() {
         loop.stop();
+        if (simulation != null) {
+            simulation.stop();
+            simulation = null;
+        }
+    }
+
+    /**
+     * Stops the game loop and ends the match of the current model, so its bullets are returned to the pool.
+     */
+    public void endGame() {
+        if (loop != null) stopLoop();
+        model.endMatch();
     }
 
     /**
@@ -101,6 +167,7 @@ public class GameController {
     public void togglePause() {
         isOnPause = !isOnPause();
         loop.togglePause();
+        if (simulation != null) simulation.setPaused(isOnPause);
     }
 
     /**
@@ -111,42 +178,63 @@ public class GameController {
     }
 
     /**
-     * Renders the game by passing the current game state, including tiles, spawners,
-     * blocks, entities, and player spawners, to the GameView for display.
+     * Renders the game by passing the current game state, including entities, overlay tiles
+     * and player spawners, to the GameView for display. Static objects are baked when the game starts.
+     *
+     * @param alpha The interpolation factor between the previous and the current simulation steps.
      */
-    public void render() {
+    public void render(double alpha) {
         view.render(
-                model.getTilesByType(TileType.BACKGROUND),
-                model.getSpawners(),
-                model.getBlocks(),
                 model.getEntities(),
+                model.getBulletSystem(),
                 model.getTilesByType(TileType.OVERLAY),
-                model.getPlayerSpawners()
+                model.getPlayerSpawners(),
+                alpha
         );
     }
 
     /**
-     * Updates the game state by progressing the timer and model state based on
-     * the elapsed time since the last update.
+     * Renders the latest snapshot published by the simulation thread, interpolated by the time
+     * passed since it was published.
+     */
+    private void renderSnapshot() {
+        WorldSnapshot snapshot = simulation.getSnapshot();
+        view.render(
+                snapshot,
+                overlayTiles,
+                model.getGameDuration(),
+                simulation.getAlpha(snapshot, System.nanoTime())
+        );
+    }
+
+    /**
+     * Updates the game state by progressing the model state, including its scheduled tasks,
+     * based on the elapsed time since the last update.
      *
      * @param deltaTime The time elapsed since the last update, in seconds.
      */
     public void update(double deltaTime) {
-        if (mainTimer != null) mainTimer.update(deltaTime, this, () -> mainTimer = null);
         model.update(deltaTime);
     }
 
     /**
      * Handles the key press events and triggers corresponding player actions
-     * mapped to specific keys.
+     * mapped to specific keys. The profiler key toggles the profiler overlay.
      *
      * @param keyEvent The KeyEvent representing the key press input.
      */
     public void onKeyPressed(KeyEvent keyEvent) {
+        if (keyEvent.getCode() == PROFILER_KEY) {
+            view.toggleProfilerOverlay();
+            return;
+        }
+
         List<PlayerSpawner> spawners = getModel().getPlayerSpawners();
         for (int i = 0; i < spawners.size(); i++) {
             if (keyEvent.getCode() == KeyCode.getKeyCode(KEYS[i])) {
-                spawners.get(i).getPlayer().onKeyPressed();
+                PlayerSpawner spawner = spawners.get(i);
+                if (simulation != null) simulation.submit(() -> spawner.getPlayer().onKeyPressed());
+                else spawner.getPlayer().onKeyPressed();
             }
         }
     }
@@ -161,12 +249,14 @@ public class GameController {
         List<PlayerSpawner> spawners = getModel().getPlayerSpawners();
         for (int i = 0; i < spawners.size(); i++) {
             if (keyEvent.getCode() == KeyCode.getKeyCode(KEYS[i])) {
-                spawners.get(i).getPlayer().onKeyReleased();
+                PlayerSpawner spawner = spawners.get(i);
+                if (simulation != null) simulation.submit(() -> spawner.getPlayer().onKeyReleased());
+                else spawner.getPlayer().onKeyReleased();
             }
         }
     }
 
-    public Timer<GameController> getMainTimer() { return mainTimer; }
+    public TimerScheduler.Task getMainTask() { return mainTask; }
     public GameView getView() { return view; }
 
     /**
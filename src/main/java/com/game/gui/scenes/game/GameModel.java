@@ -1,63 +1,200 @@
 package com.game.gui.scenes.game;
 
+import com.game.core.behaviour.interfaces.Renderable;
+import com.game.core.diagnostics.BulletDespawnEvent;
 import com.game.core.entities.Entity;
+import com.game.core.entities.EntityStore;
+import com.game.core.entities.ParallelMovePlanner;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
+import com.game.core.entities.bullet.BulletSystem;
 import com.game.core.collisions.CollisionManager;
 import com.game.core.scene.areas.Area;
 import com.game.core.scene.blocks.Block;
 import com.game.core.scene.graphics.SceneTile;
 import com.game.core.scene.graphics.TileType;
+import com.game.core.scene.spawners.BonusSpawner;
 import com.game.core.scene.spawners.PlayerSpawner;
 import com.game.core.scene.spawners.Spawner;
+import com.game.core.utils.FrameProfiler;
+import com.game.core.utils.TimerScheduler;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
 
 /**
  * Represents the model of the game, managing various game elements like entities,
  * tiles, spawners, blocks, and collision handling.
  */
 public class GameModel {
-    private final List<Entity> entities = new ArrayList<>();
+    private final EntityStore entities = new EntityStore();
     private final List<Entity> entitiesToAdd = new ArrayList<>();
+    private final Consumer<Entity> removedEntityHandler = this::onEntityRemoved;
 
     private final List<Spawner> spawners = new ArrayList<>();
     private final List<SceneTile> tiles = new ArrayList<>();
     private final List<Block> blocks = new ArrayList<>();
+    private final List<PlayerSpawner> playerSpawners = new ArrayList<>();
+    private final Map<TileType, List<SceneTile>> tilesByType = new EnumMap<>(TileType.class);
+
+    // Read-only views are created once, so the per-frame getters don't allocate
+    private final List<Entity> entitiesView = entities.asList();
+    private final List<Spawner> spawnersView = Collections.unmodifiableList(spawners);
+    private final List<SceneTile> tilesView = Collections.unmodifiableList(tiles);
+    private final List<Block> blocksView = Collections.unmodifiableList(blocks);
+    private final List<PlayerSpawner> playerSpawnersView = Collections.unmodifiableList(playerSpawners);
+    private final Map<TileType, List<SceneTile>> tilesByTypeViews = new EnumMap<>(TileType.class);
     private final CollisionManager collisionManager = new CollisionManager();
+    private final BulletPool bulletPool = new BulletPool();
+    private BulletSystem bulletSystem;
+    private ParallelMovePlanner movePlanner;
+    private final TimerScheduler scheduler = new TimerScheduler();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
     private final String sceneId;
     private final String name;
     private final int gameDuration;
+    private final long seed;
+    private final SplittableRandom random;
+    private Consumer<Block> onBlockBroken;
 
     /**
-     * Constructs a new GameModel with the specified details.
+     * Constructs a new GameModel with the specified details and a random seed.
      *
      * @param sceneId      the unique ID of the scene
      * @param name         the name of the game or scene
      * @param gameDuration the duration of the game, in seconds
      */
     public GameModel(String sceneId, String name, int gameDuration) {
+        this(sceneId, name, gameDuration, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new GameModel with the specified details. All random decisions of the scene
+     * are made by generators derived from the seed, so scenes with the same seed and the same
+     * inputs play the same way.
+     *
+     * @param sceneId      the unique ID of the scene
+     * @param name         the name of the game or scene
+     * @param gameDuration the duration of the game, in seconds
+     * @param seed         the seed of the random generator of the scene
+     */
+    public GameModel(String sceneId, String name, int gameDuration, long seed) {
         this.sceneId = sceneId;
         this.name = name;
         this.gameDuration = gameDuration;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+
+        for (TileType type : TileType.values()) {
+            List<SceneTile> typeTiles = new ArrayList<>();
+            tilesByType.put(type, typeTiles);
+            tilesByTypeViews.put(type, Collections.unmodifiableList(typeTiles));
+        }
     }
 
     /**
-     * Updates the game state by advancing entities, spawners, and managing collisions.
+     * Updates the game state by running the expired scheduled tasks, advancing entities, spawners,
+     * and managing collisions.
      *
      * @param deltaTime the time, in seconds, since the last update
      */
     public void update(double deltaTime) {
-        entities.addAll(entitiesToAdd);
+        for (int i = 0, size = entitiesToAdd.size(); i < size; i++) entities.add(entitiesToAdd.get(i));
         entitiesToAdd.clear();
 
-        entities.forEach(x -> x.update(deltaTime));
+        // Positions before the step are kept for the render interpolation
+        for (int i = 0, size = entities.size(); i < size; i++) entities.getAt(i).savePreviousPosition();
+
+        long startTime = profiler.start();
+        scheduler.advance(deltaTime);
+        profiler.stop(FrameProfiler.Phase.TIMERS, startTime);
+
+        startTime = profiler.start();
+        if (movePlanner != null) planMoves(deltaTime);
+        for (int i = 0, size = entities.size(); i < size; i++) entities.getAt(i).update(deltaTime);
+        if (bulletSystem != null) bulletSystem.update(deltaTime);
+        profiler.stop(FrameProfiler.Phase.ENTITIES, startTime);
+
+        startTime = profiler.start();
         spawners.forEach(x -> x.update(deltaTime));
+        profiler.stop(FrameProfiler.Phase.SPAWNERS, startTime);
 
-        List<Entity> toRemove = entities.stream().filter(x -> !x.getState()).toList();
-        collisionManager.removeEntities(toRemove);
-        entities.removeAll(toRemove);
+        startTime = profiler.start();
+        entities.removeIf(entity -> !entity.getState(), removedEntityHandler);
+        profiler.stop(FrameProfiler.Phase.REMOVAL, startTime);
+    }
+
+    /**
+     * Plans the moves of the entities in parallel, the planned collisions are resolved
+     * by the serial update of the entities which follows.
+     *
+     * @param deltaTime the time, in seconds, of the following update
+     */
+    private void planMoves(double deltaTime) {
+        long startTime = profiler.start();
+        collisionManager.ensureStaticIndex();
+        movePlanner.plan(entitiesView, deltaTime);
+        profiler.stop(FrameProfiler.Phase.PLANNING, startTime);
+    }
+
+    /**
+     * Releases an inactive entity removed from the scene: drops it from the collision manager,
+     * returns bullets to the pool and reports broken blocks.
+     *
+     * @param entity the removed entity
+     */
+    private void onEntityRemoved(Entity entity) {
+        collisionManager.removeEntity(entity);
+
+        if (entity instanceof Bullet bullet) {
+            recordBulletDespawn(bullet);
+            bulletPool.release(bullet);
+        } else if (entity instanceof Block block && onBlockBroken != null) onBlockBroken.accept(block);
+    }
+
+    /**
+     * Reports a removed bullet to the Flight Recorder, if it's recording.
+     *
+     * @param bullet the removed bullet
+     */
+    private static void recordBulletDespawn(Bullet bullet) {
+        BulletDespawnEvent event = new BulletDespawnEvent();
+        if (!event.shouldCommit()) return;
+
+        event.bulletType = String.valueOf(bullet.getType());
+        event.commit();
+    }
+
+    /**
+     * Ends the match: the bullets still in flight and the shots queued by the players are removed
+     * and returned to the bullet pool. The model must not be updated afterward.
+     */
+    public void endMatch() {
+        for (PlayerSpawner spawner : playerSpawners)
+            if (spawner.getPlayer() != null) spawner.getPlayer().getSm().clearBulletsQueue();
+
+        entitiesToAdd.removeIf(entity -> {
+            if (!(entity instanceof Bullet bullet)) return false;
+
+            collisionManager.removeEntity(bullet);
+            bulletPool.release(bullet);
+            return true;
+        });
+        entities.removeIf(entity -> entity instanceof Bullet, removedEntityHandler);
+    }
+
+    /**
+     * Finalizes the scene after all of its objects are loaded: bakes the immutable
+     * collision index of the static geometry.
+     */
+    public void finishLoading() {
+        collisionManager.bakeStaticIndex();
     }
 
     /**
@@ -70,27 +207,38 @@ public class GameModel {
     }
 
     /**
-     * Retrieves all tiles of a specified type.
+     * Retrieves all tiles of a specified type. The tiles are partitioned by type when they are added.
      *
      * @param type the type of tiles to retrieve
-     * @return a list of SceneTile objects matching the specified type
+     * @return an unmodifiable view of the SceneTile objects matching the specified type
      */
     public List<SceneTile> getTilesByType(TileType type) {
-        return getTiles().stream()
-                .filter(tile -> tile.getTile().getType() == type)
-                .toList();
+        return tilesByTypeViews.get(type);
     }
 
     /**
-     * Retrieves all player spawners in the game.
+     * Retrieves the objects which don't move and don't change their look during the game: background tiles,
+     * spawners and blocks, including the breakable ones, in the order they are drawn.
      *
-     * @return a list of PlayerSpawner objects
+     * @return a list of the static objects
+     */
+    public List<Renderable> getStaticObjects() {
+        List<Renderable> objects = new ArrayList<>(getTilesByType(TileType.BACKGROUND));
+        objects.addAll(spawners);
+        objects.addAll(blocks);
+        for (Entity entity : entitiesView) if (entity instanceof Block) objects.add(entity);
+        for (Entity entity : entitiesToAdd) if (entity instanceof Block) objects.add(entity);
+
+        return objects;
+    }
+
+    /**
+     * Retrieves all player spawners in the game, in the order they were added.
+     *
+     * @return an unmodifiable view of the PlayerSpawner objects
      */
     public List<PlayerSpawner> getPlayerSpawners() {
-        return getSpawners().stream()
-                .filter(x -> x instanceof PlayerSpawner)
-                .map(x -> (PlayerSpawner) x)
-                .toList();
+        return playerSpawnersView;
     }
 
     /**
@@ -104,12 +252,19 @@ public class GameModel {
     }
 
     /**
-     * Adds an entity to the game and sets up its collision handling.
+     * Adds an entity to the game and sets up its collision handling and scheduled tasks.
      *
      * @param obj the entity to add
      */
     public void addEntity(Entity obj) {
+        if (bulletSystem != null && obj instanceof Bullet bullet) {
+            bulletSystem.spawn(bullet);
+            bulletPool.release(bullet);
+            return;
+        }
+
         obj.setCm(collisionManager);
+        obj.setScheduler(scheduler);
         collisionManager.addObject(obj);
         entitiesToAdd.add(obj);
     }
@@ -123,18 +278,90 @@ public class GameModel {
         collisionManager.addArea(area);
     }
 
+    /**
+     * Adds a spawner to the game. Player spawners share the scene's bullet pool with their players.
+     *
+     * @param spawner the spawner to add
+     */
     public void addSpawner(Spawner spawner) {
+        spawner.setScheduler(scheduler);
+        // Every spawner gets its own stream, so it doesn't depend on how often the others draw
+        if (spawner instanceof BonusSpawner bonusSpawner) bonusSpawner.setRandom(random.split());
+        if (spawner instanceof PlayerSpawner playerSpawner) {
+            playerSpawner.setBulletPool(bulletPool);
+            this.playerSpawners.add(playerSpawner);
+        }
         this.spawners.add(spawner);
     }
-    public void addTile(SceneTile tile) { this.tiles.add(tile); }
+
+    /**
+     * Adds a tile to the game and to the tiles of its type.
+     *
+     * @param tile the tile to add
+     */
+    public void addTile(SceneTile tile) {
+        this.tiles.add(tile);
+
+        TileType type = tile.getTile().getType();
+        if (type != null) this.tilesByType.get(type).add(tile);
+    }
 
     public String getSceneId() { return sceneId; }
     public String getName() { return name; }
 
-    public List<Entity> getEntities() { return Collections.unmodifiableList(entities); }
-    public List<Spawner> getSpawners() { return Collections.unmodifiableList(spawners); }
-    public List<SceneTile> getTiles() { return Collections.unmodifiableList(tiles); }
-    public List<Block> getBlocks() { return Collections.unmodifiableList(blocks); }
+    public List<Entity> getEntities() { return entitiesView; }
+    public List<Spawner> getSpawners() { return spawnersView; }
+    public List<SceneTile> getTiles() { return tilesView; }
+    public List<Block> getBlocks() { return blocksView; }
+
+    /**
+     * Sets the listener called when a breakable block is broken and removed from the game.
+     *
+     * @param onBlockBroken the listener, or {@code null} to remove it
+     */
+    public void setOnBlockBroken(Consumer<Block> onBlockBroken) { this.onBlockBroken = onBlockBroken; }
+
+    public BulletPool getBulletPool() { return bulletPool; }
+
+    /**
+     * Returns the system which keeps the fired bullets instead of bullet entities.
+     *
+     * @return the bullet system, or {@code null} if bullets are entities
+     */
+    public BulletSystem getBulletSystem() { return bulletSystem; }
+
+    /**
+     * Switches fired bullets between {@link Bullet} entities and the {@link BulletSystem}.
+     * Should be set while the scene is loaded, before any bullet is fired.
+     *
+     * @param enabled {@code true} to keep the fired bullets in the bullet system
+     */
+    public void setBulletSystemEnabled(boolean enabled) {
+        if (enabled == (bulletSystem != null)) return;
+        this.bulletSystem = enabled ? new BulletSystem(collisionManager) : null;
+    }
+
+    /**
+     * Switches the update of the entities between the serial one and the two-phase one, where
+     * the collisions of the moves are planned in parallel before the entities are updated.
+     *
+     * @param enabled {@code true} to plan the moves in parallel
+     */
+    public void setParallelUpdateEnabled(boolean enabled) {
+        if (enabled == (movePlanner != null)) return;
+        this.movePlanner = enabled ? new ParallelMovePlanner() : null;
+    }
+
+    public boolean isParallelUpdateEnabled() { return movePlanner != null; }
+
+    public TimerScheduler getScheduler() { return scheduler; }
 
     public int getGameDuration() { return gameDuration; }
+
+    /**
+     * Returns the seed the random generator of the scene was created with, e.g. to reproduce the match.
+     *
+     * @return the seed of the scene
+     */
+    public long getSeed() { return seed; }
 }
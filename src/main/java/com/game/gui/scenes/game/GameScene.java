@@ -10,9 +10,13 @@ public class GameScene implements Scene {
     private final SceneManager sm;
 
     public GameScene(Stage primaryStage, SceneManager sm) {
+        this(primaryStage, sm, null);
+    }
+
+    public GameScene(Stage primaryStage, SceneManager sm, GameModel model) {
         this.sm = sm;
         this.view = new GameView(primaryStage);
-        this.controller = new GameController(view, sm);
+        this.controller = new GameController(view, sm, model);
     }
 
     @Override
@@ -22,6 +26,7 @@ public class GameScene implements Scene {
 
     @Override
     public void onExit() {
-        this.controller.stopLoop();
+        this.controller.endGame();
+        this.view.dispose();
     }
 }
@@ -1,15 +1,20 @@
 package com.game.gui.scenes.game;
 
+import com.game.core.behaviour.interfaces.Renderable;
 import com.game.core.entities.Entity;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletSystem;
 import com.game.core.scene.blocks.Block;
 import com.game.core.scene.graphics.SceneTile;
 import com.game.core.scene.spawners.PlayerSpawner;
-import com.game.core.scene.spawners.Spawner;
+import com.game.core.simulation.WorldSnapshot;
+import com.game.core.utils.FrameProfiler;
 import com.game.core.utils.Scaler;
 import com.game.gui.utils.*;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -23,11 +28,12 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleConsumer;
 
 
 /**
@@ -38,8 +44,17 @@ public class GameView {
     private static final Image PAUSE_BTN_IMAGE = new Image("/images/pause_btn.png");
 
     private static final int PAUSE_BTN_SIZE = 32;
+    private static final Font PROFILER_FONT = Font.font("Monospaced", 12);
+    private static final double PROFILER_LINE_HEIGHT = 16;
 
     private GraphicsContext gc;
+    private StaticLayer staticLayer;
+    private float modelScale;
+    private double renderScale = 1;
+    private final DoubleConsumer scaleListener = this::onScaleChanged;
+    private final ListChangeListener<Screen> screensListener = change -> Scaler.getInstance().recalculate();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private boolean isProfilerOverlayVisible = false;
     private Stage primaryStage;
     private GameController controller;
 
@@ -64,6 +79,9 @@ public class GameView {
 
         Canvas canvas = new Canvas(scaler.getSceneWidth(), scaler.getSceneHeight());
         gc = canvas.getGraphicsContext2D();
+        staticLayer = new StaticLayer(canvas.getWidth(), canvas.getHeight());
+        modelScale = scaler.getScale();
+        renderScale = 1;
 
         root = new StackPane();
         root.getChildren().add(canvas);
@@ -80,6 +98,40 @@ public class GameView {
         primaryStage.setScene(scene);
         primaryStage.centerOnScreen();
         primaryStage.sizeToScene();
+
+        scaler.addScaleListener(scaleListener);
+        Screen.getScreens().addListener(screensListener);
+    }
+
+    /**
+     * Stops listening to the changes of the screens and the scale, must be called when the view is left.
+     */
+    public void dispose() {
+        Scaler.getInstance().removeScaleListener(scaleListener);
+        Screen.getScreens().removeListener(screensListener);
+    }
+
+    /**
+     * Resizes the canvas and the window to the new scale of the screen. The model and the objects created
+     * during the game keep the scale the model was loaded with, so the frames are scaled by the ratio
+     * of the new scale to that one.
+     *
+     * @param scale The new scale factor of the screen.
+     */
+    private void onScaleChanged(double scale) {
+        Scaler scaler = Scaler.getInstance();
+        Canvas canvas = gc.getCanvas();
+        double width = scaler.getHorizontalTilesCount() * scaler.getDefaultTileWidth() * scale;
+        double height = scaler.getVerticalTilesCount() * scaler.getDefaultTileHeight() * scale;
+
+        renderScale = scale / modelScale;
+        canvas.setWidth(width);
+        canvas.setHeight(height);
+
+        Stage primaryStage = getPrimaryStage();
+        primaryStage.setMinWidth(width);
+        primaryStage.setMinHeight(height);
+        primaryStage.sizeToScene();
     }
 
     /**
@@ -103,40 +155,189 @@ public class GameView {
     }
 
     /**
-     * Renders the game elements on the canvas, including background tiles, spawners, blocks,
+     * Bakes the static objects of the scene, such as background tiles, spawners and blocks,
+     * into the pre-rendered layer drawn under the entities. A model loaded after the scale
+     * has changed is loaded in the scale of the screen, so the layer is recreated in the size of the canvas.
+     *
+     * @param objects The static objects, drawn bottom to top.
+     */
+    public void bakeStaticLayer(List<? extends Renderable> objects) {
+        Scaler scaler = Scaler.getInstance();
+        float scale = scaler.getScale();
+        if (scale != modelScale) {
+            staticLayer = new StaticLayer(gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+            modelScale = scale;
+            renderScale = scaler.getScreenScale() / scale;
+        }
+
+        staticLayer.bake(objects);
+    }
+
+    /**
+     * Removes an object from the pre-rendered layer, e.g. a broken block.
+     * The region it covered is drawn again before the next frame.
+     *
+     * @param object The removed static object.
+     */
+    public void removeStaticObject(Renderable object) {
+        staticLayer.remove(object);
+    }
+
+    /**
+     * Renders the game elements on the canvas: the pre-rendered static layer, the players' kills,
      * entities, and overlay tiles. Also updates the player's HUD and current state.
+     * Blocks are a part of the static layer, so they are skipped among the entities.
      *
-     * @param backgroundTiles A list of tiles representing the background layer.
-     * @param spawners        A list of spawners responsible for spawning entities in the scene.
-     * @param blocks          A list of blocks used as obstacles or interactable objects in the game.
-     * @param entities        A list of game entities to be drawn on the canvas.
-     * @param overlayTiles    A list of tiles representing the overlay (UI) layer.
-     * @param playerSpawners  A list of player spawners used for tracking kills and positions.
+     * @param entities       A list of game entities to be drawn on the canvas.
+     * @param bullets        The bullet system drawn over the entities, or {@code null} if bullets are entities.
+     * @param overlayTiles   A list of tiles representing the overlay (UI) layer.
+     * @param playerSpawners A list of player spawners used for tracking kills and positions.
+     * @param alpha          The interpolation factor between the previous and the current simulation steps.
      */
     public void render(
-            List<SceneTile> backgroundTiles,
-            List<Spawner> spawners,
-            List<Block> blocks,
             List<Entity> entities,
+            BulletSystem bullets,
             List<SceneTile> overlayTiles,
-            List<PlayerSpawner> playerSpawners
+            List<PlayerSpawner> playerSpawners,
+            double alpha
     ) {
-        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
-
-        Stream.of(
-                backgroundTiles,
-                spawners,
-                blocks
-        ).forEach(list -> list.forEach(x -> x.draw(gc)));
+        renderStaticLayer();
 
+        long startTime = profiler.start();
         renderPlayerKills(playerSpawners);
+        profiler.stop(FrameProfiler.Phase.RENDER_HUD, startTime);
+
+        // Indexed loops, the render pass runs every frame and shouldn't allocate iterators
+        startTime = profiler.start();
+        for (int i = 0, size = entities.size(); i < size; i++) {
+            Entity entity = entities.get(i);
+            if (!(entity instanceof Block)) entity.draw(gc, alpha);
+        }
+        if (bullets != null) bullets.draw(gc, alpha);
+        profiler.stop(FrameProfiler.Phase.RENDER_ENTITIES, startTime);
 
-        Stream.of(
-                entities,
-                overlayTiles
-        ).forEach(list -> list.forEach(x -> x.draw(gc)));
+        renderOverlayTiles(overlayTiles, alpha);
 
+        startTime = profiler.start();
         updateGUI();
+        profiler.stop(FrameProfiler.Phase.RENDER_HUD, startTime);
+
+        if (isProfilerOverlayVisible) renderProfilerOverlay(entities, bullets);
+        profiler.endFrame();
+    }
+
+    /**
+     * Renders a snapshot of the game published by the simulation thread. The model is updated
+     * by that thread meanwhile, so only the snapshot and the static parts of the scene are read.
+     *
+     * @param snapshot     The latest snapshot of the game.
+     * @param overlayTiles A copy of the overlay (UI) tiles taken before the simulation thread is started.
+     * @param gameDuration The duration of the game, in seconds.
+     * @param alpha        The interpolation factor between the previous and the current steps of the snapshot.
+     */
+    public void render(WorldSnapshot snapshot, List<SceneTile> overlayTiles, int gameDuration, double alpha) {
+        renderStaticLayer();
+
+        long startTime = profiler.start();
+        renderPlayerKills(snapshot);
+        profiler.stop(FrameProfiler.Phase.RENDER_HUD, startTime);
+
+        startTime = profiler.start();
+        snapshot.draw(gc, alpha);
+        profiler.stop(FrameProfiler.Phase.RENDER_ENTITIES, startTime);
+
+        renderOverlayTiles(overlayTiles, alpha);
+
+        startTime = profiler.start();
+        updateTimer(Math.max(0, gameDuration - snapshot.getTime()));
+        profiler.stop(FrameProfiler.Phase.RENDER_HUD, startTime);
+
+        if (isProfilerOverlayVisible) renderProfilerOverlay(snapshot.getEntitiesCount(), snapshot.getBulletsCount());
+        profiler.endFrame();
+    }
+
+    /**
+     * Clears the canvas, scales it to the current scale and draws the pre-rendered static layer.
+     * Must be followed by {@link #renderOverlayTiles(List, double)}, which restores the scale.
+     */
+    private void renderStaticLayer() {
+        long startTime = profiler.start();
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        gc.save();
+        gc.scale(renderScale, renderScale);
+        staticLayer.draw(gc);
+        profiler.stop(FrameProfiler.Phase.RENDER_STATIC, startTime);
+    }
+
+    /**
+     * Draws the overlay tiles over the entities and restores the scale set by {@link #renderStaticLayer()}.
+     *
+     * @param overlayTiles A list of tiles representing the overlay (UI) layer.
+     * @param alpha        The interpolation factor between the previous and the current simulation steps.
+     */
+    private void renderOverlayTiles(List<SceneTile> overlayTiles, double alpha) {
+        long startTime = profiler.start();
+        for (int i = 0, size = overlayTiles.size(); i < size; i++) overlayTiles.get(i).draw(gc, alpha);
+        gc.restore();
+        profiler.stop(FrameProfiler.Phase.RENDER_OVERLAY, startTime);
+    }
+
+    /**
+     * Shows or hides the profiler overlay. The frame profiler measures frames only while the overlay is visible.
+     */
+    public void toggleProfilerOverlay() {
+        isProfilerOverlayVisible = !isProfilerOverlayVisible;
+        profiler.setEnabled(isProfilerOverlayVisible);
+    }
+
+    /**
+     * Renders the p50, p99 and max times of every frame phase measured by the {@link FrameProfiler},
+     * and the number of entities and bullets in the game.
+     *
+     * @param entities A list of game entities to be counted.
+     * @param bullets  The bullet system, or {@code null} if bullets are entities.
+     */
+    private void renderProfilerOverlay(List<Entity> entities, BulletSystem bullets) {
+        int bulletsCount = bullets != null ? bullets.size() : 0;
+        for (int i = 0, size = entities.size(); i < size; i++)
+            if (entities.get(i) instanceof Bullet) bulletsCount++;
+
+        renderProfilerOverlay(entities.size(), bulletsCount);
+    }
+
+    /**
+     * Renders the times of the frame phases and the specified numbers of entities and bullets.
+     *
+     * @param entitiesCount The number of entities in the game.
+     * @param bulletsCount  The number of bullets in the game.
+     */
+    private void renderProfilerOverlay(int entitiesCount, int bulletsCount) {
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        double x = 10;
+        double y = 10;
+
+        gc.save();
+        gc.setFill(Color.color(0, 0, 0, 0.6));
+        gc.fillRect(x, y, 300, PROFILER_LINE_HEIGHT * (phases.length + 3));
+        gc.setFill(Color.LIME);
+        gc.setFont(PROFILER_FONT);
+
+        y += PROFILER_LINE_HEIGHT;
+        gc.fillText(String.format("%-16s %7s %7s %7s", "phase, ms", "p50", "p99", "max"), x + 6, y);
+        for (FrameProfiler.Phase phase : phases) {
+            y += PROFILER_LINE_HEIGHT;
+            gc.fillText(String.format(
+                    "%-16s %7.3f %7.3f %7.3f",
+                    phase,
+                    profiler.getPercentile(phase, 0.5) / 1e6,
+                    profiler.getPercentile(phase, 0.99) / 1e6,
+                    profiler.getMax(phase) / 1e6
+            ), x + 6, y);
+        }
+
+        y += PROFILER_LINE_HEIGHT;
+        gc.fillText("entities: " + entitiesCount + ", bullets: " + bulletsCount, x + 6, y);
+        gc.restore();
     }
 
     /**
@@ -145,18 +346,30 @@ public class GameView {
      * @param spawners A list of player spawners used to track player kills.
      */
     private void renderPlayerKills(List<PlayerSpawner> spawners) {
-        for (PlayerSpawner spawner : spawners) {
-            double x = spawner.getX();
-            double y = spawner.getY();
-            double ovalWidth = 25;
-            double ovalHeight = 25;
-            int killsCount = spawner.getPlayerKillsCount();
-            String killsText = String.valueOf(killsCount);
-
-            RenderUtils.drawTextInOval(gc, x, y, ovalWidth, ovalHeight, killsText, killsCount != 0);
+        for (int i = 0, size = spawners.size(); i < size; i++) {
+            PlayerSpawner spawner = spawners.get(i);
+            renderPlayerKills(spawner.getX(), spawner.getY(), spawner.getPlayerKillsCount());
         }
     }
 
+    /**
+     * Renders the number of player kills near each player's position, both are read from the snapshot.
+     *
+     * @param snapshot The snapshot of the game.
+     */
+    private void renderPlayerKills(WorldSnapshot snapshot) {
+        for (int i = 0, size = snapshot.getPlayersCount(); i < size; i++)
+            renderPlayerKills(snapshot.getSpawnerX(i), snapshot.getSpawnerY(i), snapshot.getKillsCount(i));
+    }
+
+    private void renderPlayerKills(double x, double y, int killsCount) {
+        double ovalWidth = 25;
+        double ovalHeight = 25;
+        String killsText = String.valueOf(killsCount);
+
+        RenderUtils.drawTextInOval(gc, x, y, ovalWidth, ovalHeight, killsText, killsCount != 0);
+    }
+
     /**
      * Displays the primary stage of the game GUI and makes the window movable.
      */
@@ -219,10 +432,16 @@ public class GameView {
      * Updates the GUI elements, such as the timer display, based on the current game state.
      */
     private void updateGUI() {
-        if (controller.getMainTimer() != null) {
-            long time = Math.round(controller.getMainTimer().getTimeLeft());
-            timerLabel.setText(TimeUtils.formatTime(time));
-        }
+        if (controller.getMainTask() != null) updateTimer(controller.getMainTask().getTimeLeft());
+    }
+
+    /**
+     * Updates the timer display.
+     *
+     * @param timeLeft The time left until the end of the game, in seconds.
+     */
+    private void updateTimer(double timeLeft) {
+        timerLabel.setText(TimeUtils.formatTime(Math.round(timeLeft)));
     }
 
     /**
@@ -1,32 +1,81 @@
 package com.game.gui.utils;
 
+import com.game.core.diagnostics.FrameEvent;
+import com.game.core.utils.FixedTimestep;
 import javafx.animation.AnimationTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
+/**
+ * Main loop of the game driven by JavaFX pulses. In the variable mode the updater receives the raw
+ * frame time. In the fixed mode the frame time is split into fixed steps by a {@link FixedTimestep},
+ * and the renderer receives the interpolation factor between the previous and the current steps.
+ * In the render-only mode the simulation runs on another thread and the loop only draws its snapshots.
+ */
 public class GameLoop extends AnimationTimer {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameLoop.class);
+    public static final int DEFAULT_TICKS_PER_SECOND = FixedTimestep.DEFAULT_TICKS_PER_SECOND;
+    public static final int DEFAULT_MAX_CATCH_UP_STEPS = FixedTimestep.DEFAULT_MAX_CATCH_UP_STEPS;
 
     private long lastTime = System.nanoTime();
     private long fpsTimer = System.nanoTime();
     private int frames = 0;
     private boolean isRunning;
     private final Consumer<Double> updater;
-    private final Runnable renderer;
+    private final DoubleConsumer stepper;
+    private final Consumer<Double> renderer;
+    private final FixedTimestep timestep;
 
-    public GameLoop(Runnable renderer, Consumer<Double> updater) {
+    /**
+     * Creates a loop in the variable mode, the updater is called once per frame with the frame time.
+     *
+     * @param renderer the renderer, always receives {@code 1} as the interpolation factor
+     * @param updater  the updater, receives the frame time in seconds
+     */
+    public GameLoop(Consumer<Double> renderer, Consumer<Double> updater) {
+        this(renderer, updater, null);
+    }
+
+    /**
+     * Creates a loop in the render-only mode, e.g. for a simulation running on its own thread.
+     *
+     * @param renderer the renderer, always receives {@code 1} as the interpolation factor
+     */
+    public GameLoop(Consumer<Double> renderer) {
+        this(renderer, deltaTime -> {}, null);
+    }
+
+    /**
+     * Creates a loop in the fixed mode, the updater is called with the fixed step time
+     * as many times as the frame time requires.
+     *
+     * @param renderer        the renderer, receives the interpolation factor in range [0, 1)
+     * @param updater         the updater, receives the fixed step time in seconds
+     * @param ticksPerSecond  the number of updates per second
+     * @param maxCatchUpSteps the maximum number of updates in a single frame
+     */
+    public GameLoop(Consumer<Double> renderer, Consumer<Double> updater, int ticksPerSecond, int maxCatchUpSteps) {
+        this(renderer, updater, new FixedTimestep(ticksPerSecond, maxCatchUpSteps));
+    }
+
+    private GameLoop(Consumer<Double> renderer, Consumer<Double> updater, FixedTimestep timestep) {
         this.updater = updater;
+        this.stepper = updater::accept;
         this.renderer = renderer;
+        this.timestep = timestep;
     }
 
     @Override
     public void handle(long now) {
-        if (!isRunning) return;
-
         double deltaTime = (now - lastTime) / 1_000_000_000.0;
         lastTime = now;
+        if (!isRunning) return;
+
+        FrameEvent event = new FrameEvent();
+        event.begin();
 
         frames++;
         if (now - fpsTimer >= 1_000_000_000) {
@@ -37,8 +86,21 @@ public class GameLoop extends AnimationTimer {
             LOGGER.info("FPS: {}", fps);
         }
 
-        updater.accept(deltaTime);
-        renderer.run();
+        int steps = 1;
+        if (timestep == null) {
+            updater.accept(deltaTime);
+            renderer.accept(1.0);
+        } else {
+            steps = timestep.advance(deltaTime, stepper);
+            renderer.accept(timestep.getAlpha());
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.steps = steps;
+            event.frameTime = deltaTime;
+            event.commit();
+        }
     }
 
     @Override
@@ -49,6 +111,7 @@ public class GameLoop extends AnimationTimer {
 
     public void togglePause() {
         isRunning = !isRunning;
+        if (isRunning && timestep != null) timestep.reset();
     }
 
     @Override
@@ -56,4 +119,6 @@ public class GameLoop extends AnimationTimer {
         isRunning = false;
         super.stop();
     }
+
+    public boolean isFixedTimestep() { return timestep != null; }
 }
@@ -0,0 +1,71 @@
+package com.game.gui.utils;
+
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+
+/**
+ * Loading screen with a progress bar shown over the current scene of the stage while a game scene
+ * is loaded in the background. It covers the scene, so the scene doesn't receive mouse events meanwhile.
+ */
+public class LoadingOverlay {
+    private static final double PROGRESS_BAR_WIDTH = 300;
+
+    private final StackPane overlay;
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private Pane parent;
+
+    public LoadingOverlay() {
+        Label label = new Label("Loading...");
+        label.setFont(Font.font("Arial", FontWeight.BOLD, 24));
+        label.setTextFill(Color.WHITE);
+        progressBar.setPrefWidth(PROGRESS_BAR_WIDTH);
+
+        VBox content = new VBox(20, label, progressBar);
+        content.setAlignment(Pos.CENTER);
+
+        overlay = new StackPane(content);
+        FXUtils.styleOverlay(overlay);
+    }
+
+    /**
+     * Shows the overlay over the current scene of the stage. Must be called on the JavaFX application thread.
+     *
+     * @param stage the stage which scene is covered
+     */
+    public void show(Stage stage) {
+        if (stage.getScene() == null) return;
+
+        Parent root = stage.getScene().getRoot();
+        if (root instanceof Pane pane) {
+            parent = pane;
+            parent.getChildren().add(overlay);
+        }
+    }
+
+    /**
+     * Sets the progress of the loading. Can be called from any thread.
+     *
+     * @param progress the progress in range [0, 1]
+     */
+    public void setProgress(double progress) {
+        Platform.runLater(() -> progressBar.setProgress(progress));
+    }
+
+    /**
+     * Removes the overlay from the scene. Must be called on the JavaFX application thread.
+     */
+    public void hide() {
+        if (parent != null) parent.getChildren().remove(overlay);
+        parent = null;
+    }
+}
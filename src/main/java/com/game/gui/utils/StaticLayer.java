@@ -0,0 +1,143 @@
+package com.game.gui.utils;
+
+import com.game.core.behaviour.interfaces.Positionable;
+import com.game.core.behaviour.interfaces.Renderable;
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.utils.PositionUtils;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pre-rendered layer of the objects which don't change between frames, such as background tiles,
+ * spawners and blocks. The objects are drawn once into an offscreen canvas and kept as an image,
+ * so every frame the whole layer is drawn by a single {@code drawImage} call.
+ *
+ * <p>When an object disappears (e.g. a breakable block is broken), only the region it covered
+ * is drawn again. Must be used on the JavaFX application thread.</p>
+ */
+public class StaticLayer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaticLayer.class);
+
+    private final Canvas canvas;
+    private final WritableImage image;
+    private final SnapshotParameters snapshotParams = new SnapshotParameters();
+    private final List<Renderable> objects = new ArrayList<>();
+    private final List<Rectangle2D> dirtyRegions = new ArrayList<>();
+
+    /**
+     * Creates an empty layer of the specified size.
+     *
+     * @param width  the width of the layer, usually the width of the game canvas
+     * @param height the height of the layer, usually the height of the game canvas
+     */
+    public StaticLayer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.image = new WritableImage((int) Math.ceil(width), (int) Math.ceil(height));
+        snapshotParams.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Replaces the objects of the layer and draws all of them in the order of the list.
+     *
+     * @param objects the static objects, drawn bottom to top
+     */
+    public void bake(List<? extends Renderable> objects) {
+        this.objects.clear();
+        this.objects.addAll(objects);
+        dirtyRegions.clear();
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (Renderable object : this.objects) object.draw(gc);
+
+        snapshotParams.setViewport(null);
+        canvas.snapshot(snapshotParams, image);
+        LOGGER.info("Static layer baked with {} objects", this.objects.size());
+    }
+
+    /**
+     * Removes the object from the layer. The region it covered is drawn again before the next frame.
+     *
+     * @param object the removed object
+     */
+    public void remove(Renderable object) {
+        if (!objects.remove(object)) return;
+
+        Rectangle2D region = getRegion(object);
+        if (region != null) dirtyRegions.add(region);
+    }
+
+    /**
+     * Draws the layer, drawing the regions changed since the previous frame first.
+     *
+     * @param gc the graphics context of the game canvas
+     */
+    public void draw(GraphicsContext gc) {
+        if (!dirtyRegions.isEmpty()) rebakeDirtyRegions();
+
+        gc.drawImage(image, 0, 0);
+    }
+
+    /**
+     * Draws again the objects which intersect the dirty regions, clipped to each region,
+     * and copies only these regions into the image of the layer.
+     */
+    private void rebakeDirtyRegions() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+
+        for (Rectangle2D region : dirtyRegions) {
+            gc.save();
+            gc.beginPath();
+            gc.rect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+            gc.clip();
+            gc.clearRect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+
+            for (Renderable object : objects) {
+                Rectangle2D objectRegion = getRegion(object);
+                if (objectRegion == null || objectRegion.intersects(region)) object.draw(gc);
+            }
+            gc.restore();
+
+            snapshotParams.setViewport(region);
+            WritableImage snapshot = canvas.snapshot(snapshotParams, null);
+            image.getPixelWriter().setPixels(
+                    (int) region.getMinX(), (int) region.getMinY(),
+                    (int) region.getWidth(), (int) region.getHeight(),
+                    snapshot.getPixelReader(), 0, 0
+            );
+        }
+
+        LOGGER.debug("Static layer rebaked {} regions", dirtyRegions.size());
+        dirtyRegions.clear();
+    }
+
+    /**
+     * Returns the pixel-aligned region covered by the tile of the object, clamped to the layer.
+     *
+     * @param object the object of the layer
+     * @return the region, or {@code null} if the position of the object is unknown
+     */
+    private Rectangle2D getRegion(Renderable object) {
+        if (!(object instanceof Positionable positionable) || object.getTile() == null) return null;
+
+        RectangleBounds size = object.getTile().getSize();
+        double[] pos = PositionUtils.generateDisplayPos(positionable.getX(), positionable.getY(), size);
+
+        double minX = Math.max(0, Math.floor(pos[0]));
+        double minY = Math.max(0, Math.floor(pos[1]));
+        double maxX = Math.min(image.getWidth(), Math.ceil(pos[0] + size.getWidth()));
+        double maxY = Math.min(image.getHeight(), Math.ceil(pos[1] + size.getHeight()));
+        if (maxX <= minX || maxY <= minY) return null;
+
+        return new Rectangle2D(minX, minY, maxX - minX, maxY - minY);
+    }
+}
@@ -3,6 +3,7 @@ package behaviour;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.bounds.CircleBounds;
 import com.game.core.behaviour.bounds.RectangleBounds;
 import com.game.core.exceptions.InvalidParameterException;
@@ -63,6 +64,67 @@ public class CircleBoundsTest {
         assertFalse(circle1.contains(rectangleBounds));
     }
 
+    @Test
+    void testTouchingCirclesDoNotIntersect() {
+        CircleBounds circle1 = new CircleBounds(3, 1);
+        circle1.setPos(0, 0);
+        CircleBounds circle2 = new CircleBounds(2, 1);
+        circle2.setPos(3, 4);
+
+        assertFalse(circle1.intersects(circle2));
+        circle2.setPos(3, 3.9f);
+        assertTrue(circle1.intersects(circle2));
+    }
+
+    @Test
+    void testDoesNotContainBiggerCircle() {
+        circle2.setPos(0, 0);
+        circle1.setPos(0, 0);
+
+        assertFalse(circle2.contains(circle1));
+    }
+
+    @Test
+    void testSweepHitsCircleOnTheWay() {
+        circle1.setPos(0, 0);
+        circle2.setPos(50, 0);
+
+        assertEquals(0.42f, circle1.sweep(100, 0, circle2), 1e-4f);
+    }
+
+    @Test
+    void testSweepMissesCircleAside() {
+        circle1.setPos(0, 0);
+        circle2.setPos(50, 20);
+
+        assertEquals(Bounds.NO_HIT, circle1.sweep(100, 0, circle2));
+    }
+
+    @Test
+    void testSweepHitsThinRectangleOnTheWay() {
+        circle1.setPos(0, 0);
+        rectangleBounds.setPos(50, 0);
+
+        assertEquals(0.43f, circle1.sweep(100, 0, rectangleBounds), 1e-4f);
+    }
+
+    @Test
+    void testSweepHitsRectangleCorner() {
+        circle1.setPos(0, 6);
+        rectangleBounds.setPos(50, 0);
+
+        // The corner (48, 2) is touched when the center is 3 units before it along X
+        assertEquals(0.45f, circle1.sweep(100, 6, rectangleBounds), 1e-4f);
+    }
+
+    @Test
+    void testSweepStartingInsideReturnsZero() {
+        circle1.setPos(0, 0);
+        circle2.setPos(2, 0);
+
+        assertEquals(0f, circle1.sweep(-100, 0, circle2));
+    }
+
     @Test
     void testMultiply() {
         circle1.multiply(2f);
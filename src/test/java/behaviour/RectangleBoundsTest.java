@@ -59,6 +59,27 @@ public class RectangleBoundsTest {
         assertTrue(rectangle.intersects(anotherRectangle), "Rectangles should intersect.");
     }
 
+    @Test
+    void testSweepHitsRectangleOnTheWay() {
+        anotherRectangle.setPos(50, 0);
+
+        assertEquals(0.425f, rectangle.sweep(100, 0, anotherRectangle), 1e-4f);
+    }
+
+    @Test
+    void testSweepHitsCircleOnTheWay() {
+        circle.setPos(50, 0);
+
+        assertEquals(0.4f, rectangle.sweep(100, 0, circle), 1e-4f);
+    }
+
+    @Test
+    void testSweepMissesRectangleAside() {
+        anotherRectangle.setPos(50, 20);
+
+        assertEquals(Bounds.NO_HIT, rectangle.sweep(100, 0, anotherRectangle));
+    }
+
     @Test
     void testDoesNotIntersectWithAnotherRectangle() {
         anotherRectangle.setPos(20, 0);
@@ -0,0 +1,122 @@
+package entity;
+
+import com.game.core.entities.Player;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
+import com.game.core.entities.bullet.BulletType;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.utils.config.SceneConfig;
+import com.game.core.utils.config.enums.BoundsTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulletPoolTest {
+    @Mock Player mockPlayer;
+    @Mock SceneConfig.BulletConfig mockBulletConfig;
+    @Mock SceneConfig.BoundsConfig mockBoundsConfig;
+    @Mock Tile mockTile;
+
+    private BulletPool pool;
+
+    @BeforeEach
+    void setup() {
+        pool = new BulletPool(2);
+    }
+
+    private Bullet createBullet() {
+        when(mockBoundsConfig.getType()).thenReturn(BoundsTypeEnum.CIRCLE);
+        when(mockBoundsConfig.getRadius()).thenReturn(5f);
+        when(mockBulletConfig.getHitbox()).thenReturn(mockBoundsConfig);
+        when(mockBulletConfig.getTextures()).thenReturn(Map.of(BulletType.STANDARD, "texture.png"));
+        when(mockBulletConfig.getTimeToDestroy()).thenReturn(2.0f);
+
+        return new Bullet.builder(BulletType.STANDARD)
+                .owner(mockPlayer)
+                .config(mockBulletConfig)
+                .tile(mockTile)
+                .build();
+    }
+
+    @Test
+    void constructor_withInvalidCapacity_shouldThrow() {
+        assertThrows(InvalidParameterException.class, () -> new BulletPool(0));
+    }
+
+    @Test
+    void acquire_fromEmptyPool_shouldCountMiss() {
+        assertNull(pool.acquire());
+
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.getHits());
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(0, pool.getHighWaterMark());
+    }
+
+    @Test
+    void acquire_afterRelease_shouldReturnSameBulletAndCountHit() {
+        Bullet bullet = createBullet();
+        pool.acquire();
+        pool.release(bullet);
+
+        assertSame(bullet, pool.acquire());
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getFreeCount());
+    }
+
+    @Test
+    void release_sameBulletTwice_shouldKeepOneCopy() {
+        Bullet bullet = createBullet();
+
+        pool.release(bullet);
+        pool.release(bullet);
+
+        assertEquals(1, pool.getFreeCount());
+        assertSame(bullet, pool.acquire());
+        assertNull(pool.acquire());
+    }
+
+    @Test
+    void release_whenPoolIsFull_shouldDropBullet() {
+        Bullet bullet = createBullet();
+        pool.release(bullet);
+        pool.release(createBullet());
+        pool.release(createBullet());
+
+        assertEquals(2, pool.getFreeCount());
+        assertEquals(1, pool.getDropped());
+    }
+
+    @Test
+    void highWaterMark_shouldTrackMaxBulletsInUse() {
+        pool.release(createBullet());
+        pool.release(createBullet());
+        Bullet first = pool.acquire();
+        pool.acquire();
+        pool.release(first);
+
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(2, pool.getHighWaterMark());
+    }
+
+    @Test
+    void release_ofNewBullet_shouldNotChangeInUseCount() {
+        pool.release(createBullet());
+        Bullet pooled = pool.acquire();
+        pool.release(createBullet());
+
+        assertEquals(1, pool.getInUseCount());
+
+        pool.release(pooled);
+        assertEquals(0, pool.getInUseCount());
+    }
+}
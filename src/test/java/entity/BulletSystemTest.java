@@ -0,0 +1,138 @@
+package entity;
+
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.collisions.CollisionKind;
+import com.game.core.collisions.CollisionManager;
+import com.game.core.entities.Player;
+import com.game.core.entities.bullet.BulletSystem;
+import com.game.core.entities.bullet.BulletType;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.blocks.BreakableBlock;
+import com.game.core.scene.graphics.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BulletSystemTest {
+    private CollisionManager cm;
+    private BulletSystem bullets;
+    private Player owner;
+    private Tile tile;
+
+    @BeforeEach
+    void setUp() {
+        cm = new CollisionManager(32, 32);
+        bullets = new BulletSystem(cm, 2);
+        owner = mockPlayer(0, 0);
+        tile = mock(Tile.class);
+        cm.addObject(owner);
+    }
+
+    @Test
+    void updateMovesBulletAlongItsDirection() {
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 90, 50, 1, 10, 2);
+
+        bullets.update(0.5);
+
+        BulletSystem.BulletView view = bullets.getView(0);
+        assertEquals(100, view.x(), 0.001f);
+        assertEquals(125, view.y(), 0.001f);
+        assertEquals(0.5f, view.timeToLive(), 0.001f);
+        assertEquals(10, view.damage());
+        assertSame(owner, view.owner());
+        assertEquals(BulletType.STANDARD, view.type());
+    }
+
+    @Test
+    void updateRemovesBulletWhenLifetimeIsOver() {
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 0, 10, 0.2f, 10, 2);
+
+        bullets.update(0.25);
+
+        assertEquals(0, bullets.size());
+    }
+
+    @Test
+    void updateDamagesHitPlayerAndRemovesBullet() {
+        Player target = mockPlayer(110, 100);
+        cm.addObject(target);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 0, 100, 1, 10, 2);
+
+        bullets.update(0.1);
+
+        verify(target).takeDamage(10, owner);
+        assertEquals(0, bullets.size());
+    }
+
+    @Test
+    void updateIgnoresOwnerOfBullet() {
+        bullets.spawn(owner, BulletType.STANDARD, tile, 0, 0, 0, 10, 1, 10, 2);
+
+        bullets.update(0.1);
+
+        verify(owner, never()).takeDamage(anyInt(), any());
+        assertEquals(1, bullets.size());
+    }
+
+    @Test
+    void updateDamagesBreakableBlock() {
+        BreakableBlock block = mock(BreakableBlock.class);
+        RectangleBounds hitbox = new RectangleBounds(8, 8, 1);
+        hitbox.setPos(100, 110);
+        when(block.getHitbox()).thenReturn(hitbox);
+        when(block.getCollisionKind()).thenReturn(CollisionKind.BREAKABLE_BLOCK);
+        cm.addObject(block);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 90, 100, 1, 10, 2);
+
+        bullets.update(0.1);
+
+        verify(block).takeDamage(2);
+        assertEquals(0, bullets.size());
+    }
+
+    @Test
+    void removedBulletIsReplacedByLastOne() {
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 0, 10, 0.1f, 10, 2);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 200, 200, 0, 10, 1, 20, 2);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 300, 300, 0, 10, 1, 30, 2);
+
+        bullets.update(0.2);
+
+        assertEquals(2, bullets.size());
+        assertEquals(30, bullets.getView(0).damage());
+        assertEquals(20, bullets.getView(1).damage());
+        assertTrue(bullets.getCapacity() >= 3);
+    }
+
+    @Test
+    void movedBulletKeepsItsRadius() {
+        Player target = mockPlayer(130, 100);
+        cm.addObject(target);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 0, 0, 0, 10, 0.1f, 10, 2);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 0, 0, 1, 20, 2);
+        bullets.spawn(owner, BulletType.STANDARD, tile, 100, 100, 0, 0, 1, 30, 40);
+
+        bullets.update(0.2);
+
+        verify(target).takeDamage(30, owner);
+        verify(target, never()).takeDamage(20, owner);
+        assertEquals(1, bullets.size());
+        assertEquals(20, bullets.getView(0).damage());
+    }
+
+    @Test
+    void constructorRejectsInvalidCapacity() {
+        assertThrows(InvalidParameterException.class, () -> new BulletSystem(cm, 0));
+    }
+
+    private static Player mockPlayer(float x, float y) {
+        Player player = mock(Player.class);
+        RectangleBounds hitbox = new RectangleBounds(8, 8, 1);
+        hitbox.setPos(x, y);
+        when(player.getHitbox()).thenReturn(hitbox);
+        when(player.getCollisionKind()).thenReturn(CollisionKind.PLAYER);
+        return player;
+    }
+}
@@ -1,5 +1,6 @@
 package entity;
 
+import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.bounds.CircleBounds;
 import com.game.core.behaviour.bounds.RectangleBounds;
 import com.game.core.behaviour.interfaces.Collidable;
@@ -7,8 +8,10 @@ import com.game.core.collisions.CollisionManager;
 import com.game.core.collisions.CollisionVisitor;
 import com.game.core.entities.Player;
 import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
 import com.game.core.entities.bullet.BulletType;
 import com.game.core.exceptions.NotConfiguredException;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.SceneConfig;
 import com.game.core.utils.config.enums.BoundsTypeEnum;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,7 +71,47 @@ class BulletTest {
         assertEquals(25, bullet.getDamage());
         assertEquals(2.0f, bullet.getTimeToDestroy(), 0.01f);
         assertEquals(BulletType.STANDARD, bullet.getType());
-        assertNotNull(bullet.getDestroyTimer());
+        // The destroy task is scheduled by the first update
+        assertNull(bullet.getDestroyTask());
+    }
+
+    @Test
+    void testBuildBullet_withPool_shouldReuseReleasedBullet() {
+        setupConfigs();
+        BulletPool pool = new BulletPool(4);
+
+        Bullet first = new Bullet.builder(BulletType.STANDARD)
+                .owner(mockPlayer)
+                .config(mockBulletConfig)
+                .tile(mockTile)
+                .pool(pool)
+                .build();
+        CollisionManager mockCm = mock(CollisionManager.class);
+        when(mockCm.checkCollisions(any(), anyFloat(), anyFloat())).thenReturn(0);
+        first.setCm(mockCm);
+        first.update(0.5);
+        TimerScheduler.Task destroyTask = first.getDestroyTask();
+        assertTrue(destroyTask.isScheduled());
+        first.setState(false);
+        pool.release(first);
+        Bounds hitbox = first.getHitbox();
+
+        bullet = new Bullet.builder(BulletType.STANDARD)
+                .owner(mockPlayer)
+                .config(mockBulletConfig)
+                .tile(mockTile)
+                .rotationAngle(90f)
+                .pool(pool)
+                .build();
+
+        assertSame(first, bullet);
+        assertSame(hitbox, bullet.getHitbox());
+        assertTrue(bullet.getState());
+        assertEquals(90f, bullet.getRotationAngle(), 0.01f);
+        assertFalse(destroyTask.isScheduled());
+        assertNull(bullet.getDestroyTask());
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
     }
 
     @Test
@@ -102,7 +145,7 @@ class BulletTest {
                 .build();
 
         CollisionManager mockCm = mock(CollisionManager.class);
-        when(mockCm.checkCollisionsFor(any(), anyFloat(), anyFloat())).thenReturn(new boolean[]{false, false});
+        when(mockCm.checkCollisions(any(), anyFloat(), anyFloat())).thenReturn(0);
         doNothing().when(mockCm).applyAreas(any());
 
         bullet.setCm(mockCm);
@@ -138,7 +181,7 @@ class BulletTest {
                 .build();
 
         CollisionManager mockCm = mock(CollisionManager.class);
-        when(mockCm.checkCollisionsFor(any(), anyFloat(), anyFloat())).thenReturn(new boolean[]{false, false});
+        when(mockCm.checkCollisions(any(), anyFloat(), anyFloat())).thenReturn(0);
         doNothing().when(mockCm).applyAreas(any());
 
         bullet.setCm(mockCm);
@@ -0,0 +1,111 @@
+package entity;
+
+import com.game.core.entities.Entity;
+import com.game.core.entities.EntityStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EntityStoreTest {
+    @Test
+    void addReturnsHandleResolvingToEntity() {
+        EntityStore store = new EntityStore();
+        Entity first = mock(Entity.class);
+        Entity second = mock(Entity.class);
+
+        long firstHandle = store.add(first);
+        long secondHandle = store.add(second);
+
+        assertNotEquals(firstHandle, secondHandle);
+        assertSame(first, store.get(firstHandle));
+        assertSame(second, store.get(secondHandle));
+        assertEquals(List.of(first, second), store.asList());
+    }
+
+    @Test
+    void removeSwapsLastEntityIntoFreedPlace() {
+        EntityStore store = new EntityStore();
+        Entity first = mock(Entity.class);
+        Entity second = mock(Entity.class);
+        Entity third = mock(Entity.class);
+        long firstHandle = store.add(first);
+        long secondHandle = store.add(second);
+        long thirdHandle = store.add(third);
+
+        assertTrue(store.remove(firstHandle));
+
+        assertEquals(List.of(third, second), store.asList());
+        assertNull(store.get(firstHandle));
+        assertSame(second, store.get(secondHandle));
+        assertSame(third, store.get(thirdHandle));
+        assertFalse(store.remove(firstHandle));
+    }
+
+    @Test
+    void reusedSlotDoesNotResolveStaleHandle() {
+        EntityStore store = new EntityStore();
+        Entity removed = mock(Entity.class);
+        Entity added = mock(Entity.class);
+        long staleHandle = store.add(removed);
+        store.remove(staleHandle);
+
+        long newHandle = store.add(added);
+
+        assertNotEquals(staleHandle, newHandle);
+        assertFalse(store.contains(staleHandle));
+        assertSame(added, store.get(newHandle));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removeIfRemovesAllMatchingEntitiesInOnePass() {
+        EntityStore store = new EntityStore(2);
+        List<Entity> all = new ArrayList<>();
+        List<Long> handles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Entity entity = mock(Entity.class);
+            all.add(entity);
+            handles.add(store.add(entity));
+        }
+        List<Entity> removed = new ArrayList<>();
+
+        int count = store.removeIf(entity -> all.indexOf(entity) % 2 == 0, removed::add);
+
+        assertEquals(5, count);
+        assertEquals(5, store.size());
+        for (int i = 0; i < all.size(); i++) {
+            boolean isRemoved = i % 2 == 0;
+            assertEquals(isRemoved, removed.contains(all.get(i)));
+            assertEquals(!isRemoved, store.asList().contains(all.get(i)));
+            assertEquals(!isRemoved, store.contains(handles.get(i)));
+        }
+    }
+
+    @Test
+    void viewIsReadOnlyAndReflectsChanges() {
+        EntityStore store = new EntityStore();
+        List<Entity> view = store.asList();
+        Entity entity = mock(Entity.class);
+
+        store.add(entity);
+
+        assertEquals(1, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(entity));
+        store.clear();
+        assertTrue(view.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getAt(0));
+    }
+
+    @Test
+    void invalidHandlesDoNotResolve() {
+        EntityStore store = new EntityStore();
+        store.add(mock(Entity.class));
+
+        assertNull(store.get(-1L));
+        assertFalse(store.contains(42L));
+    }
+}
@@ -7,6 +7,7 @@ import com.game.core.collisions.CollisionVisitor;
 import com.game.core.entities.Entity;
 import com.game.core.exceptions.NotConfiguredException;
 import com.game.core.scene.graphics.Tile;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.ConfigManager;
 import com.game.core.utils.config.SceneConfig;
 import javafx.scene.canvas.GraphicsContext;
@@ -87,6 +88,21 @@ class EntityTest {
         assertEquals(1f, velocity[1], 0.0001);
     }
 
+    @Test
+    void testDirection_isRecalculatedOnRotation() {
+        assertEquals(1f, entity.getDirX());
+        assertEquals(0f, entity.getDirY());
+
+        entity.setRotationAnglePublic(450f);
+        assertEquals(90f, entity.getRotationAngle());
+        assertEquals(0f, entity.getDirX(), 0.0001);
+        assertEquals(1f, entity.getDirY(), 0.0001);
+
+        entity.setRotationAnglePublic(180f);
+        assertEquals(-1f, entity.getDirX(), 0.0001);
+        assertEquals(0f, entity.getDirY(), 0.0001);
+    }
+
     @Test
     void testMove_appliesMovementAndCollision() {
         entity.setCm(cm);
@@ -94,8 +110,8 @@ class EntityTest {
         entity.setRotationAnglePublic(0f);
         entity.setPos(5, 5);
 
-        when(cm.checkCollisionsFor(any(), anyFloat(), anyFloat()))
-                .thenReturn(new boolean[]{false, false});
+        when(cm.checkCollisions(any(), anyFloat(), anyFloat()))
+                .thenReturn(0);
 
         entity.movePublic(1.0);
 
@@ -111,8 +127,8 @@ class EntityTest {
         entity.setRotationAnglePublic(0f);
         entity.setPos(0, 0);
 
-        when(cm.checkCollisionsFor(any(), anyFloat(), anyFloat()))
-                .thenReturn(new boolean[]{true, false});
+        when(cm.checkCollisions(any(), anyFloat(), anyFloat()))
+                .thenReturn(CollisionManager.COLLIDES_X);
 
         entity.movePublic(1.0);
 
@@ -138,12 +154,64 @@ class EntityTest {
         verify(tile).draw(any(), anyFloat(), anyFloat());
     }
 
+    @Test
+    void testDrawWithAlpha_shouldTranslateToInterpolatedPosition() {
+        setupConfig();
+
+        entity.setPos(10f, 20f);
+        entity.savePreviousPosition();
+        entity.setPos(30f, 40f);
+        entity.draw(gc, 0.25);
+
+        verify(gc).translate(-15.0, -15.0);
+        verify(tile).draw(any(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    void testDrawWithAlpha_notMovedEntity_shouldNotTranslate() {
+        setupConfig();
+
+        entity.setPos(10f, 20f);
+        entity.savePreviousPosition();
+        entity.draw(gc, 0.5);
+
+        verify(gc).translate(10.0, 20.0);
+        verify(gc, times(1)).translate(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void testRender_withRotationCache_shouldDrawRotatedVariantWithoutTransform() {
+        when(tile.hasRotationCache()).thenReturn(true);
+        entity.setPos(10f, 20f);
+        entity.setRotationAnglePublic(45f);
+
+        entity.render(gc);
+
+        verify(tile).drawRotated(gc, 10f, 20f, 45f);
+        verify(tile, never()).draw(any(), anyFloat(), anyFloat());
+        verify(gc, never()).rotate(anyDouble());
+    }
+
     @Test
     void testRotationAngle_wrapsAround360() {
         entity.setRotationAnglePublic(370f);
         assertEquals(10f, entity.getRotationAngle(), 0.0001);
     }
 
+    @Test
+    void setScheduler_shouldUseSharedSchedulerAndMovePendingTasks() {
+        TimerScheduler shared = new TimerScheduler();
+        Runnable action = mock(Runnable.class);
+        entity.getScheduler().schedule(1, action);
+
+        entity.setScheduler(shared);
+
+        assertSame(shared, entity.getScheduler());
+        assertEquals(1, shared.size());
+        shared.advance(1);
+        verify(action).run();
+    }
+
     @Test
     void testSettersAndGetters() {
         entity.setSpeed(5f);
@@ -0,0 +1,45 @@
+package entity;
+
+import com.game.core.entities.Entity;
+import com.game.core.entities.ParallelMovePlanner;
+import com.game.core.exceptions.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ParallelMovePlannerTest {
+    @Test
+    void planPlansEveryEntityOnce() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelMovePlanner planner = new ParallelMovePlanner(pool, 2);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 9; i++) entities.add(mock(Entity.class));
+
+        try {
+            planner.plan(entities, 0.5);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Entity entity : entities) verify(entity).planMove(0.5);
+    }
+
+    @Test
+    void planPropagatesFailureOfEntity() {
+        ParallelMovePlanner planner = new ParallelMovePlanner(ForkJoinPool.commonPool(), 1);
+        Entity failing = mock(Entity.class);
+        doThrow(new IllegalStateException("broken")).when(failing).planMove(anyDouble());
+
+        assertThrows(IllegalStateException.class, () -> planner.plan(List.of(mock(Entity.class), failing), 0.1));
+    }
+
+    @Test
+    void constructorRejectsInvalidBatchSize() {
+        assertThrows(InvalidParameterException.class, () -> new ParallelMovePlanner(ForkJoinPool.commonPool(), 0));
+    }
+}
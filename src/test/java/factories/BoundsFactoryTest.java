@@ -18,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 
@@ -61,6 +62,32 @@ class BoundsFactoryTest {
         assertInstanceOf(RectangleBounds.class, bounds);
     }
 
+    @Test
+    void testReuseFromConfig_shouldResizeBoundsOfSameType() {
+        when(config.getType()).thenReturn(BoundsTypeEnum.CIRCLE);
+        when(config.getRadius()).thenReturn(5f);
+        CircleBounds pooled = new CircleBounds(2f, 1f);
+        pooled.multiply(3f);
+
+        Bounds bounds = BoundsFactory.reuseFromConfig(pooled, config);
+
+        assertSame(pooled, bounds);
+        assertEquals(5f, pooled.getRadius(), 1e-6);
+    }
+
+    @Test
+    void testReuseFromConfig_shouldCreateBounds_whenTypeDiffers() {
+        when(config.getType()).thenReturn(BoundsTypeEnum.RECTANGLE);
+        when(config.getWidth()).thenReturn(10f);
+        when(config.getHeight()).thenReturn(20f);
+
+        Bounds bounds = BoundsFactory.reuseFromConfig(new CircleBounds(2f, 1f), config);
+
+        RectangleBounds rect = assertInstanceOf(RectangleBounds.class, bounds);
+        assertEquals(10f, rect.getWidth(), 1e-6);
+        assertEquals(20f, rect.getHeight(), 1e-6);
+    }
+
     @Test
     void testCreateForBlock_shouldReturnRectangleBounds_fromConfig() {
         when(config.getWidth()).thenReturn(15f);
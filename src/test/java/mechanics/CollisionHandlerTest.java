@@ -0,0 +1,116 @@
+package mechanics;
+
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.collisions.CollisionHandler;
+import com.game.core.collisions.CollisionKind;
+import com.game.core.entities.Player;
+import com.game.core.entities.bonus.Bonus;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.scene.blocks.BreakableBlock;
+import com.game.core.scene.blocks.SolidBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CollisionHandlerTest {
+    @Mock private Player mockPlayer;
+    @Mock private Player mockOwner;
+    @Mock private Bullet mockBullet;
+    @Mock private Bonus mockBonus;
+    @Mock private BreakableBlock mockBreakableBlock;
+    @Mock private SolidBlock mockSolidBlock;
+
+    private CollisionHandler handler;
+
+    @BeforeEach
+    void setup() {
+        handler = new CollisionHandler();
+    }
+
+    @Test
+    void resolve_bulletHitsPlayer_shouldDestroyBulletAndDamagePlayer() {
+        when(mockBullet.getCollisionKind()).thenReturn(CollisionKind.BULLET);
+        when(mockPlayer.getCollisionKind()).thenReturn(CollisionKind.PLAYER);
+        when(mockBullet.getOwner()).thenReturn(mockOwner);
+        when(mockBullet.getDamage()).thenReturn(3);
+
+        handler.resolve(mockBullet, mockPlayer);
+
+        verify(mockBullet).setState(false);
+        verify(mockPlayer).takeDamage(3, mockOwner);
+        verify(mockBullet, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void resolve_bulletHitsOwner_shouldBeIgnored() {
+        when(mockBullet.getCollisionKind()).thenReturn(CollisionKind.BULLET);
+        when(mockPlayer.getCollisionKind()).thenReturn(CollisionKind.PLAYER);
+        when(mockBullet.getOwner()).thenReturn(mockPlayer);
+
+        handler.resolve(mockBullet, mockPlayer);
+        handler.resolve(mockPlayer, mockBullet);
+
+        verify(mockBullet, never()).setState(anyBoolean());
+        verify(mockPlayer, never()).takeDamage(anyInt(), any());
+    }
+
+    @Test
+    void resolve_bulletHitsBreakableBlock_shouldDamageBlock() {
+        when(mockBullet.getCollisionKind()).thenReturn(CollisionKind.BULLET);
+        when(mockBreakableBlock.getCollisionKind()).thenReturn(CollisionKind.BREAKABLE_BLOCK);
+
+        handler.resolve(mockBullet, mockBreakableBlock);
+
+        verify(mockBullet).setState(false);
+        verify(mockBreakableBlock).takeDamage(2);
+    }
+
+    @Test
+    void resolve_blockHitsBullet_shouldDestroyBullet() {
+        when(mockSolidBlock.getCollisionKind()).thenReturn(CollisionKind.SOLID_BLOCK);
+        when(mockBullet.getCollisionKind()).thenReturn(CollisionKind.BULLET);
+
+        handler.resolve(mockSolidBlock, mockBullet);
+
+        verify(mockBullet).setState(false);
+    }
+
+    @Test
+    void resolve_playerHitsBonus_shouldApplyBonusInBothDirections() {
+        when(mockPlayer.getCollisionKind()).thenReturn(CollisionKind.PLAYER);
+        when(mockBonus.getCollisionKind()).thenReturn(CollisionKind.BONUS);
+
+        handler.resolve(mockPlayer, mockBonus);
+        handler.resolve(mockBonus, mockPlayer);
+
+        verify(mockBonus, times(2)).applyEffect(mockPlayer);
+    }
+
+    @Test
+    void resolve_playerHitsBlock_shouldDoNothing() {
+        when(mockPlayer.getCollisionKind()).thenReturn(CollisionKind.PLAYER);
+        when(mockSolidBlock.getCollisionKind()).thenReturn(CollisionKind.SOLID_BLOCK);
+
+        handler.resolve(mockPlayer, mockSolidBlock);
+
+        verify(mockPlayer, never()).onCollision(any(), any());
+        verifyNoMoreInteractions(mockSolidBlock);
+    }
+
+    @Test
+    void resolve_unknownKind_shouldFallBackToVisitor() {
+        Collidable unknown = mock(Collidable.class);
+        when(mockBullet.getCollisionKind()).thenReturn(CollisionKind.BULLET);
+
+        handler.resolve(mockBullet, unknown);
+
+        verify(mockBullet).onCollision(handler, unknown);
+    }
+}
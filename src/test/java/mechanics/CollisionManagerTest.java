@@ -1,19 +1,44 @@
 package mechanics;
 
+import com.game.core.behaviour.base.CollidableGameObject;
 import com.game.core.behaviour.bounds.Bounds;
 import com.game.core.behaviour.bounds.CircleBounds;
+import com.game.core.behaviour.bounds.RectangleBounds;
 import com.game.core.behaviour.interfaces.Collidable;
 import com.game.core.collisions.CollisionManager;
+import com.game.core.collisions.CollisionVisitor;
+import com.game.core.collisions.MovePlan;
 import com.game.core.entities.Entity;
 import com.game.core.entities.Player;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletType;
 import com.game.core.scene.areas.Area;
+import com.game.core.scene.blocks.BreakableBlock;
+import com.game.core.scene.blocks.SolidBlock;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.TimerScheduler;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import com.game.core.utils.config.enums.BoundsTypeEnum;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -99,6 +124,236 @@ class CollisionManagerTest {
         assertFalse(result[1]);
     }
 
+    @Test
+    void checkCollisionsFor_shouldIgnoreObjectsFromDistantCells() {
+        CircleBounds entityHitbox = new CircleBounds(5, 1);
+        CircleBounds farHitbox = new CircleBounds(5, 1);
+        farHitbox.setPos(1000f, 1000f);
+
+        when(mockEntity.getHitbox()).thenReturn(entityHitbox);
+        when(mockOther.getHitbox()).thenReturn(farHitbox);
+        collisionManager.addObject(mockOther);
+
+        boolean[] result = collisionManager.checkCollisionsFor(mockEntity, 1f, 1f);
+
+        assertFalse(result[0]);
+        assertFalse(result[1]);
+        verify(mockEntity, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void updateObject_shouldMoveObjectToNewCells() {
+        CircleBounds entityHitbox = new CircleBounds(5, 1);
+        CircleBounds otherHitbox = new CircleBounds(5, 1);
+        otherHitbox.setPos(1000f, 1000f);
+
+        when(mockEntity.getHitbox()).thenReturn(entityHitbox);
+        when(mockOther.getHitbox()).thenReturn(otherHitbox);
+        collisionManager.addObject(mockOther);
+
+        otherHitbox.setPos(2f, 0f);
+        collisionManager.updateObject(mockOther);
+
+        boolean[] result = collisionManager.checkCollisionsFor(mockEntity, 1f, 0f);
+
+        assertTrue(result[0]);
+        verify(mockEntity).onCollision(any(), eq(mockOther));
+    }
+
+    @Test
+    void removeEntities_shouldTombstoneStaticBlock() {
+        BreakableBlock block = mock(BreakableBlock.class);
+        when(block.getHitbox()).thenReturn(new RectangleBounds(10, 10, 1));
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(5, 1));
+
+        collisionManager.addObject(block);
+        collisionManager.bakeStaticIndex();
+        assertTrue(collisionManager.checkCollisionsFor(mockEntity, 1f, 1f)[0]);
+
+        collisionManager.removeEntities(List.of(block));
+
+        boolean[] result = collisionManager.checkCollisionsFor(mockEntity, 1f, 1f);
+        assertFalse(result[0]);
+        assertFalse(result[1]);
+        verify(mockEntity, times(1)).onCollision(any(), eq(block));
+    }
+
+    @Test
+    void checkCollisionsFor_shouldFindStaticObjectsAddedAfterBaking() {
+        SolidBlock block = mock(SolidBlock.class);
+        when(block.getHitbox()).thenReturn(new RectangleBounds(10, 10, 1));
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(5, 1));
+
+        collisionManager.bakeStaticIndex();
+        collisionManager.addObject(block);
+
+        assertTrue(collisionManager.checkCollisionsFor(mockEntity, 1f, 1f)[1]);
+        verify(mockEntity).onCollision(any(), eq(block));
+    }
+
+    @Test
+    void checkCollisions_shouldReturnPackedFlags() {
+        SolidBlock block = mock(SolidBlock.class);
+        when(block.getHitbox()).thenReturn(new RectangleBounds(10, 10, 1));
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(5, 1));
+
+        collisionManager.addObject(block);
+
+        int result = collisionManager.checkCollisions(mockEntity, 1f, 1f);
+
+        assertEquals(CollisionManager.COLLIDES_X | CollisionManager.COLLIDES_Y, result);
+        verify(mockEntity).onCollision(any(), eq(block));
+    }
+
+    @Test
+    void checkCollisions_shouldBlockOnlyCollidingAxis() {
+        RectangleBounds wallHitbox = new RectangleBounds(2, 100, 1);
+        wallHitbox.setPos(10f, 0f);
+        SolidBlock wall = mock(SolidBlock.class);
+        when(wall.getHitbox()).thenReturn(wallHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+
+        collisionManager.addObject(wall);
+
+        assertEquals(CollisionManager.COLLIDES_X, collisionManager.checkCollisions(mockEntity, 6f, 1f));
+        assertEquals(0, collisionManager.checkCollisions(mockEntity, -6f, 1f));
+    }
+
+    @Test
+    void checkCollisions_shouldSweepFastEntityThroughThinWall() {
+        RectangleBounds wallHitbox = new RectangleBounds(2, 100, 1);
+        wallHitbox.setPos(10f, 0f);
+        SolidBlock wall = mock(SolidBlock.class);
+        when(wall.getHitbox()).thenReturn(wallHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+
+        collisionManager.addObject(wall);
+
+        // The end position is far behind the wall, a discrete check would miss it
+        assertEquals(CollisionManager.COLLIDES_X, collisionManager.checkCollisions(mockEntity, 40f, 0f));
+        verify(mockEntity).onCollision(any(), eq(wall));
+    }
+
+    @Test
+    void checkCollisions_shouldCollideOnlyWithFirstSweptObject() {
+        RectangleBounds firstHitbox = new RectangleBounds(2, 100, 1);
+        firstHitbox.setPos(10f, 0f);
+        RectangleBounds secondHitbox = new RectangleBounds(2, 100, 1);
+        secondHitbox.setPos(20f, 0f);
+        SolidBlock first = mock(SolidBlock.class);
+        SolidBlock second = mock(SolidBlock.class);
+        when(first.getHitbox()).thenReturn(firstHitbox);
+        when(second.getHitbox()).thenReturn(secondHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+
+        collisionManager.addObject(first);
+        collisionManager.addObject(second);
+
+        assertEquals(CollisionManager.COLLIDES_X, collisionManager.checkCollisions(mockEntity, 40f, 0f));
+        verify(mockEntity).onCollision(any(), eq(first));
+        verify(mockEntity, never()).onCollision(any(), eq(second));
+    }
+
+    @Test
+    void checkCollisions_shouldResolvePlannedHitsOnlyWhenEntityMoves() {
+        RectangleBounds wallHitbox = new RectangleBounds(2, 100, 1);
+        wallHitbox.setPos(10f, 0f);
+        SolidBlock wall = mock(SolidBlock.class);
+        when(wall.getHitbox()).thenReturn(wallHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+        MovePlan plan = new MovePlan();
+
+        collisionManager.addObject(wall);
+        collisionManager.ensureStaticIndex();
+        collisionManager.planCollisions(mockEntity, 6f, 1f, plan);
+
+        verify(mockEntity, never()).onCollision(any(), any());
+        assertEquals(CollisionManager.COLLIDES_X, collisionManager.checkCollisions(mockEntity, 6f, 1f, plan));
+        verify(mockEntity).onCollision(any(), eq(wall));
+        assertFalse(plan.isReady());
+    }
+
+    @Test
+    void checkCollisions_shouldRecordQueryEventOfPlannedMove(@TempDir Path dir) throws Exception {
+        RectangleBounds wallHitbox = new RectangleBounds(2, 100, 1);
+        wallHitbox.setPos(10f, 0f);
+        SolidBlock wall = mock(SolidBlock.class);
+        when(wall.getHitbox()).thenReturn(wallHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+        MovePlan plan = new MovePlan();
+
+        collisionManager.addObject(wall);
+        collisionManager.ensureStaticIndex();
+        collisionManager.planCollisions(mockEntity, 6f, 1f, plan);
+
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.game.CollisionQuery").withThreshold(Duration.ZERO);
+            recording.start();
+            collisionManager.checkCollisions(mockEntity, 6f, 1f, plan);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        RecordedEvent event = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.CollisionQuery"))
+                .findFirst().orElseThrow();
+        assertTrue(event.getBoolean("planned"));
+        assertEquals(1, event.getInt("hits"));
+    }
+
+    @Test
+    void checkCollisions_shouldCheckAgainWhenPlanIsForAnotherMove() {
+        RectangleBounds wallHitbox = new RectangleBounds(2, 100, 1);
+        wallHitbox.setPos(10f, 0f);
+        SolidBlock wall = mock(SolidBlock.class);
+        when(wall.getHitbox()).thenReturn(wallHitbox);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+        MovePlan plan = new MovePlan();
+
+        collisionManager.addObject(wall);
+        collisionManager.ensureStaticIndex();
+        collisionManager.planCollisions(mockEntity, 6f, 1f, plan);
+
+        assertEquals(0, collisionManager.checkCollisions(mockEntity, -6f, 1f, plan));
+        verify(mockEntity, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void checkCollisions_shouldCheckAgainWhenPlannedObstacleMoved() {
+        RectangleBounds obstacleHitbox = new RectangleBounds(2, 100, 1);
+        obstacleHitbox.setPos(10f, 0f);
+        Player obstacle = mock(Player.class);
+        when(obstacle.getHitbox()).thenReturn(obstacleHitbox);
+        when(obstacle.getMoveVersion()).thenReturn(0, 1);
+        when(mockEntity.getHitbox()).thenReturn(new CircleBounds(4, 1));
+        MovePlan plan = new MovePlan();
+
+        collisionManager.addObject(obstacle);
+        collisionManager.ensureStaticIndex();
+        collisionManager.planCollisions(mockEntity, 6f, 1f, plan);
+        obstacleHitbox.setPos(100f, 0f);
+        collisionManager.updateObject(obstacle);
+
+        assertEquals(0, collisionManager.checkCollisions(mockEntity, 6f, 1f, plan));
+        verify(mockEntity, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void entityUpdate_shouldNotAllocateOnHotPath() throws Exception {
+        // Mockito instruments the classes mocked by other tests of this JVM, so allocations are measured in a fresh one
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process probe = new ProcessBuilder(
+                java, "-cp", System.getProperty("java.class.path"), AllocationProbe.class.getName()
+        ).redirectErrorStream(true).start();
+
+        String output = new String(probe.getInputStream().readAllBytes()).trim();
+        assertEquals(0, probe.waitFor(), output);
+
+        String[] lines = output.split("\\R");
+        assertEquals("allocated=0", lines[lines.length - 1], output);
+    }
+
     @Test
     void applyAreas_shouldApplyEffect_whenAreaContainsPlayer() {
         when(mockArea.contains(mockPlayer)).thenReturn(true);
@@ -124,4 +379,100 @@ class CollisionManagerTest {
         assertDoesNotThrow(() -> collisionManager.addObject(mockEntity));
         assertDoesNotThrow(() -> collisionManager.addArea(mockArea));
     }
+
+    private static class Obstacle extends CollidableGameObject {
+        Obstacle(float x, float y) {
+            super(new CircleBounds(4, 1));
+            setPos(x, y);
+        }
+
+        @Override public void onCollision(CollisionVisitor visitor, Collidable other) {}
+    }
+
+    static class AllocationProbe {
+        private static final double DELTA_TIME = 1.0 / 60;
+        private static final float LAP_LENGTH = 128f;
+
+        public static void main(String[] args) throws Exception {
+            // Debug logging of every contact allocates by design, the game config enables it for development
+            Configurator.setLevel("com.game", Level.INFO);
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            CollisionManager collisionManager = new CollisionManager(8f, 8f);
+
+            // Real tiles without a graphics toolkit, mocks would instrument the measured classes
+            Scaler scaler = Scaler.getInstance();
+            scaler.setSettings(ConfigManager.getInstance().loadSceneConfig("test"));
+            scaler.setScreenSize(
+                    Math.round(scaler.getHorizontalTilesCount() * scaler.getDefaultTileWidth()),
+                    Math.round(scaler.getVerticalTilesCount() * scaler.getDefaultTileHeight())
+            );
+            TextureCache.getInstance().setHeadless(true);
+            Tile tile = TextureCache.getInstance().getTile("bullet.png", 1f);
+
+            for (int i = 0; i < 16; i++) {
+                SolidBlock block = new SolidBlock(tile, new RectangleBounds(8, 8, 1));
+                block.setPos(i * 8f, 8f);
+                collisionManager.addObject(block);
+                collisionManager.addObject(new Obstacle(i * 8f, -8f));
+            }
+            collisionManager.bakeStaticIndex();
+
+            Bullet bullet = createBullet(tile);
+            // As in a scene, the shared scheduler is advanced by the scene rather than by the bullet
+            bullet.setScheduler(new TimerScheduler());
+            bullet.setCm(collisionManager);
+            bullet.setPos(0.5f, 0.5f);
+            collisionManager.addObject(bullet);
+
+            // Warm-up, so the candidates buffer grows to its final size and the code gets compiled
+            if (fly(bullet, 50_000) == 0) throw new IllegalStateException("Probe bullet never hits a block");
+
+            // One-off runtime events (e.g. a late recompilation) may allocate a few bytes, so the best round counts
+            long allocated = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                fly(bullet, 50_000);
+                allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before);
+            }
+            System.out.println("allocated=" + allocated);
+        }
+
+        /**
+         * Updates the bullet along the row of blocks, bringing it back to the start of the lap
+         * when it flies away and reviving it after it hits a block.
+         *
+         * @return the number of hits
+         */
+        private static int fly(Bullet bullet, int steps) {
+            int hits = 0;
+            for (int i = 0; i < steps; i++) {
+                bullet.update(DELTA_TIME);
+                if (!bullet.getState()) {
+                    hits++;
+                    bullet.setState(true);
+                }
+                if (bullet.getX() > LAP_LENGTH) bullet.setPos(0.5f, 0.5f);
+            }
+            return hits;
+        }
+
+        private static Bullet createBullet(Tile tile) {
+            SceneConfig.BoundsConfig hitbox = new SceneConfig.BoundsConfig();
+            hitbox.setType(BoundsTypeEnum.CIRCLE);
+            hitbox.setRadius(4);
+
+            SceneConfig.BulletConfig config = new SceneConfig.BulletConfig();
+            config.setTextures(Map.of(BulletType.STANDARD, "bullet.png"));
+            config.setTimeToDestroy(1f);
+            config.setDamage(1);
+            config.setHitbox(hitbox);
+
+            return new Bullet.builder(BulletType.STANDARD)
+                    .config(config)
+                    .hitbox(new CircleBounds(4, 1))
+                    .speed(60f)
+                    .tile(tile)
+                    .build();
+        }
+    }
 }
@@ -7,7 +7,7 @@ import com.game.core.entities.bullet.BulletType;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.shooting.ShootingManager;
 import com.game.core.strategies.ShootingStrategy;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import com.game.core.utils.config.SceneConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +31,10 @@ public class ShootingManagerTest {
     @Mock private ShootingStrategy shootingStrategy;
     @Mock private SceneConfig.BulletConfig bulletConfig;
     @Mock private Consumer<Entity> onBulletCreated;
-    @Mock private Timer<ShootingManager> timer;
     @Mock private Bullet bullet;
 
     @BeforeEach
-    void setup() throws NoSuchFieldException, IllegalAccessException {
+    void setup() {
         shootingManager = new ShootingManager(
                 player,
                 bulletType,
@@ -47,11 +46,6 @@ public class ShootingManagerTest {
                 false
         );
 
-        // Inject timer mock via reflection
-        Field timerField = ShootingManager.class.getDeclaredField("reloadingTimer");
-        timerField.setAccessible(true);
-        timerField.set(shootingManager, timer);
-
         shootingManager.setOnBulletCreated(onBulletCreated);
     }
 
@@ -117,12 +111,12 @@ public class ShootingManagerTest {
         );
 
         try {
-            Field timerField = ShootingManager.class.getDeclaredField("reloadingTimer");
-            timerField.setAccessible(true);
-            Object timer = timerField.get(sm);
+            Field taskField = ShootingManager.class.getDeclaredField("reloadingTask");
+            taskField.setAccessible(true);
+            Object task = taskField.get(sm);
 
-            // if isInfinityBulletsMode=true, reloadingTimer must be null
-            assertNull(timer);
+            // if isInfinityBulletsMode=true, reloadingTask must be null
+            assertNull(task);
         } catch (Exception e) {
             fail("Unable to use reflection");
         }
@@ -219,11 +213,30 @@ public class ShootingManagerTest {
     }
 
     @Test
-    void updateProcessesTimerAndQueue() {
-        // Simulate adding to queue
+    void updateProcessesQueue() {
+        when(shootingStrategy.shoot(player, bulletType)).thenReturn(List.of(bullet));
+        when(bullet.getRotationAngle()).thenReturn(0.0f);
+
         shootingManager.toggleShooting(true); // Ensure queue is populated
         shootingManager.update(0.1);
-        verify(timer).update(eq(0.1), eq(shootingManager), isNull());
+
+        verify(bullet).setStartPosition();
+        verify(onBulletCreated).accept(bullet);
+    }
+
+    @Test
+    void updateDoesNotReloadWhenAttachedToSharedScheduler() {
+        when(shootingStrategy.shoot(player, bulletType)).thenReturn(List.of(bullet));
+        when(bullet.getRotationAngle()).thenReturn(0.0f);
+        TimerScheduler scheduler = new TimerScheduler();
+        shootingManager.setScheduler(scheduler);
+
+        shootingManager.toggleShooting(true);
+        shootingManager.update(1.0);
+        assertEquals(9, shootingManager.getBulletsCount());
+
+        scheduler.advance(1.0);
+        assertEquals(10, shootingManager.getBulletsCount());
     }
 
     @Test
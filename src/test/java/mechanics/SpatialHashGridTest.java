@@ -0,0 +1,150 @@
+package mechanics;
+
+import com.game.core.behaviour.bounds.CircleBounds;
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.collisions.SpatialHashGrid;
+import com.game.core.exceptions.InvalidParameterException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialHashGridTest {
+    @Mock private Collidable first;
+    @Mock private Collidable second;
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    void setup() {
+        grid = new SpatialHashGrid(32f, 32f);
+    }
+
+    private CircleBounds circleAt(float x, float y) {
+        CircleBounds bounds = new CircleBounds(5, 1);
+        bounds.setPos(x, y);
+        return bounds;
+    }
+
+    private List<Collidable> query(float minX, float minY, float maxX, float maxY) {
+        List<Collidable> result = new ArrayList<>();
+        grid.query(minX, minY, maxX, maxY, result);
+        return result;
+    }
+
+    @Test
+    void query_shouldReturnOnlyNearbyObjects() {
+        when(first.getHitbox()).thenReturn(circleAt(10f, 10f));
+        when(second.getHitbox()).thenReturn(circleAt(500f, 500f));
+        grid.insert(first);
+        grid.insert(second);
+
+        List<Collidable> result = query(0f, 0f, 20f, 20f);
+
+        assertEquals(List.of(first), result);
+    }
+
+    @Test
+    void query_shouldReportMultiCellObjectOnce() {
+        RectangleBounds wide = new RectangleBounds(200f, 200f, 1);
+        wide.setPos(100f, 100f);
+        when(first.getHitbox()).thenReturn(wide);
+        grid.insert(first);
+
+        List<Collidable> result = query(0f, 0f, 200f, 200f);
+
+        assertEquals(1, result.size());
+        assertSame(first, result.getFirst());
+    }
+
+    @Test
+    void query_shouldWorkWithNegativeCoordinates() {
+        when(first.getHitbox()).thenReturn(circleAt(-40f, -40f));
+        grid.insert(first);
+
+        assertEquals(List.of(first), query(-50f, -50f, -30f, -30f));
+        assertTrue(query(0f, 0f, 10f, 10f).isEmpty());
+    }
+
+    @Test
+    void update_shouldMoveObjectBetweenCells() {
+        CircleBounds hitbox = circleAt(10f, 10f);
+        when(first.getHitbox()).thenReturn(hitbox);
+        grid.insert(first);
+
+        hitbox.setPos(300f, 300f);
+        grid.update(first);
+
+        assertTrue(query(0f, 0f, 20f, 20f).isEmpty());
+        assertEquals(List.of(first), query(290f, 290f, 310f, 310f));
+    }
+
+    @Test
+    void update_shouldIgnoreUnknownObject() {
+        assertDoesNotThrow(() -> grid.update(first));
+        assertFalse(grid.contains(first));
+    }
+
+    @Test
+    void remove_shouldUnregisterObject() {
+        when(first.getHitbox()).thenReturn(circleAt(10f, 10f));
+        grid.insert(first);
+        grid.remove(first);
+
+        assertFalse(grid.contains(first));
+        assertEquals(0, grid.size());
+        assertTrue(query(0f, 0f, 20f, 20f).isEmpty());
+    }
+
+    @Test
+    void query_shouldFilterHashCollisions() {
+        grid = new SpatialHashGrid(32f, 32f, 1);
+        when(first.getHitbox()).thenReturn(circleAt(10f, 10f));
+        when(second.getHitbox()).thenReturn(circleAt(500f, 500f));
+        grid.insert(first);
+        grid.insert(second);
+
+        assertEquals(List.of(second), query(490f, 490f, 510f, 510f));
+    }
+
+    @Test
+    void remove_shouldKeepOtherObjectsOfSharedBuckets() {
+        // A few buckets only, so multi-cell objects share buckets with each other and with themselves
+        grid = new SpatialHashGrid(32f, 32f, 4);
+        List<Collidable> objects = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            RectangleBounds hitbox = new RectangleBounds(60f, 60f, 1);
+            hitbox.setPos(i * 20f + 40f, 40f);
+            Collidable obj = mock(Collidable.class);
+            when(obj.getHitbox()).thenReturn(hitbox);
+            grid.insert(obj);
+            objects.add(obj);
+        }
+
+        grid.remove(objects.get(3));
+        grid.remove(objects.get(0));
+        grid.remove(objects.get(7));
+
+        List<Collidable> result = query(0f, 0f, 400f, 100f);
+        assertEquals(5, result.size());
+        assertTrue(result.containsAll(List.of(objects.get(1), objects.get(2), objects.get(4), objects.get(5), objects.get(6))));
+        for (Collidable removed : List.of(objects.get(0), objects.get(3), objects.get(7)))
+            assertFalse(result.contains(removed));
+    }
+
+    @Test
+    void constructor_shouldThrowOnInvalidParams() {
+        assertThrows(InvalidParameterException.class, () -> new SpatialHashGrid(0f, 32f));
+        assertThrows(InvalidParameterException.class, () -> new SpatialHashGrid(32f, -1f));
+        assertThrows(InvalidParameterException.class, () -> new SpatialHashGrid(32f, 32f, 0));
+    }
+}
@@ -0,0 +1,110 @@
+package mechanics;
+
+import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.behaviour.interfaces.Collidable;
+import com.game.core.collisions.StaticCollisionIndex;
+import com.game.core.exceptions.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaticCollisionIndexTest {
+    @Mock private Collidable first;
+    @Mock private Collidable second;
+    @Mock private Collidable withoutHitbox;
+
+    private RectangleBounds blockAt(float x, float y) {
+        RectangleBounds bounds = new RectangleBounds(32f, 32f, 1);
+        bounds.setPos(x, y);
+        return bounds;
+    }
+
+    private List<Collidable> query(StaticCollisionIndex index, float minX, float minY, float maxX, float maxY) {
+        List<Collidable> result = new ArrayList<>();
+        index.query(minX, minY, maxX, maxY, result);
+        return result;
+    }
+
+    @Test
+    void query_shouldReturnOnlyNearbyObjects() {
+        when(first.getHitbox()).thenReturn(blockAt(16f, 16f));
+        when(second.getHitbox()).thenReturn(blockAt(400f, 400f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first, second), 32f, 32f);
+
+        assertEquals(List.of(first), query(index, 0f, 0f, 20f, 20f));
+        assertEquals(List.of(second), query(index, 390f, 390f, 410f, 410f));
+        assertTrue(query(index, 200f, 200f, 210f, 210f).isEmpty());
+    }
+
+    @Test
+    void query_shouldReportMultiCellObjectOnce() {
+        when(first.getHitbox()).thenReturn(blockAt(32f, 32f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first), 32f, 32f);
+
+        assertEquals(List.of(first), query(index, 0f, 0f, 64f, 64f));
+    }
+
+    @Test
+    void query_outsideOfGrid_shouldReturnNothing() {
+        when(first.getHitbox()).thenReturn(blockAt(16f, 16f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first), 32f, 32f);
+
+        assertTrue(query(index, -500f, -500f, -400f, -400f).isEmpty());
+        assertTrue(query(index, 1000f, 1000f, 1100f, 1100f).isEmpty());
+    }
+
+    @Test
+    void remove_shouldTombstoneObject() {
+        when(first.getHitbox()).thenReturn(blockAt(16f, 16f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first), 32f, 32f);
+
+        assertTrue(index.remove(first));
+        assertFalse(index.remove(first));
+        assertFalse(index.contains(first));
+        assertEquals(0, index.size());
+        assertTrue(query(index, 0f, 0f, 20f, 20f).isEmpty());
+    }
+
+    @Test
+    void remove_unknownObject_shouldReturnFalse() {
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(), 32f, 32f);
+
+        assertFalse(index.remove(first));
+        assertTrue(query(index, 0f, 0f, 20f, 20f).isEmpty());
+    }
+
+    @Test
+    void constructor_shouldSkipObjectsWithoutHitbox() {
+        when(first.getHitbox()).thenReturn(blockAt(16f, 16f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first, withoutHitbox), 32f, 32f);
+
+        assertEquals(1, index.size());
+        assertFalse(index.contains(withoutHitbox));
+    }
+
+    @Test
+    void collectAll_shouldReturnAliveObjectsInOrder() {
+        when(first.getHitbox()).thenReturn(blockAt(16f, 16f));
+        when(second.getHitbox()).thenReturn(blockAt(400f, 400f));
+        StaticCollisionIndex index = new StaticCollisionIndex(List.of(first, second), 32f, 32f);
+        index.remove(first);
+
+        List<Collidable> result = new ArrayList<>();
+        index.collectAll(result);
+
+        assertEquals(List.of(second), result);
+    }
+
+    @Test
+    void constructor_shouldThrowOnInvalidCellSize() {
+        assertThrows(InvalidParameterException.class, () -> new StaticCollisionIndex(List.of(), 0f, 32f));
+    }
+}
@@ -0,0 +1,89 @@
+package scene.graphics;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.TextureAtlas;
+import javafx.geometry.Dimension2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextureAtlasTest {
+    @Test
+    void layout_shouldPlaceTexturesInRowWithPadding() {
+        Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+        sizes.put("a.png", new Dimension2D(32, 32));
+        sizes.put("b.png", new Dimension2D(16, 16));
+
+        Map<String, TextureAtlas.Region> regions = TextureAtlas.layout(sizes, 128);
+
+        assertEquals(new TextureAtlas.Region(0, 0, 32, 32), regions.get("a.png"));
+        assertEquals(new TextureAtlas.Region(32 + TextureAtlas.PADDING, 0, 16, 16), regions.get("b.png"));
+    }
+
+    @Test
+    void layout_shouldStartNewShelfWhenRowIsFull() {
+        Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+        sizes.put("a.png", new Dimension2D(40, 32));
+        sizes.put("b.png", new Dimension2D(40, 20));
+        sizes.put("c.png", new Dimension2D(40, 10));
+
+        Map<String, TextureAtlas.Region> regions = TextureAtlas.layout(sizes, 64);
+
+        assertEquals(0, regions.get("a.png").y());
+        assertEquals(32 + TextureAtlas.PADDING, regions.get("b.png").y());
+        assertEquals(32 + 20 + 2 * TextureAtlas.PADDING, regions.get("c.png").y());
+    }
+
+    @Test
+    void layout_shouldNotOverlapRegions() {
+        Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) sizes.put(i + ".png", new Dimension2D(10 + i * 3, 40 - i));
+
+        List<TextureAtlas.Region> regions = List.copyOf(TextureAtlas.layout(sizes, 100).values());
+
+        assertEquals(20, regions.size());
+        for (int i = 0; i < regions.size(); i++) {
+            TextureAtlas.Region a = regions.get(i);
+            assertTrue(a.x() + a.width() <= 100);
+            for (int j = i + 1; j < regions.size(); j++) {
+                TextureAtlas.Region b = regions.get(j);
+                boolean overlaps = a.x() < b.x() + b.width() && b.x() < a.x() + a.width()
+                        && a.y() < b.y() + b.height() && b.y() < a.y() + a.height();
+                assertFalse(overlaps, a + " overlaps " + b);
+            }
+        }
+    }
+
+    @Test
+    void layout_shouldRoundFractionalSizesUp() {
+        Map<String, TextureAtlas.Region> regions = TextureAtlas.layout(Map.of("a.png", new Dimension2D(10.2, 9.5)), 64);
+
+        assertEquals(new TextureAtlas.Region(0, 0, 11, 10), regions.get("a.png"));
+    }
+
+    @Test
+    void layout_shouldSkipTexturesBelowMaxHeight() {
+        Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+        sizes.put("a.png", new Dimension2D(40, 32));
+        sizes.put("b.png", new Dimension2D(40, 32));
+        sizes.put("c.png", new Dimension2D(20, 6));
+
+        Map<String, TextureAtlas.Region> regions = TextureAtlas.layout(sizes, 64, 40);
+
+        assertEquals(new TextureAtlas.Region(0, 0, 40, 32), regions.get("a.png"));
+        assertNull(regions.get("b.png"));
+        // The lower texture still fits into the shelf the skipped one didn't fit into
+        assertEquals(new TextureAtlas.Region(0, 32 + TextureAtlas.PADDING, 20, 6), regions.get("c.png"));
+    }
+
+    @Test
+    void layout_shouldThrowForTextureWiderThanAtlas() {
+        Map<String, Dimension2D> sizes = Map.of("wide.png", new Dimension2D(65, 8));
+
+        assertThrows(InvalidParameterException.class, () -> TextureAtlas.layout(sizes, 64));
+    }
+}
@@ -0,0 +1,140 @@
+package scene.graphics;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.graphics.Tile;
+import com.game.core.scene.graphics.TileType;
+import com.game.core.utils.ResourceUtils;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.SceneConfig;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TextureCacheTest {
+    @Mock private Scaler scaler;
+    @Mock private Image sprite;
+
+    private MockedStatic<Scaler> scalerMock;
+    private MockedStatic<ResourceUtils> resourceMock;
+    private TextureCache cache;
+
+    @BeforeEach
+    void setup() {
+        scalerMock = mockStatic(Scaler.class);
+        scalerMock.when(Scaler::getInstance).thenReturn(scaler);
+        resourceMock = mockStatic(ResourceUtils.class);
+
+        when(scaler.getTileWidth()).thenReturn(32.0f);
+        when(scaler.getTileHeight()).thenReturn(32.0f);
+
+        cache = TextureCache.getInstance();
+        cache.clear();
+    }
+
+    @AfterEach
+    void teardown() {
+        cache.clear();
+        scalerMock.close();
+        resourceMock.close();
+    }
+
+    @Test
+    void getTile_shouldReturnSameInstanceForSameParams() {
+        Tile first = cache.getTile("test.png", TileType.OBJECT, 1.5f, true);
+        Tile second = cache.getTile("test.png", TileType.OBJECT, 1.5f, true);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getTilesCount());
+    }
+
+    @Test
+    void getTile_shouldCreateNewTileForDifferentParams() {
+        Tile tile = cache.getTile("test.png", TileType.OBJECT, 1.5f, true);
+
+        assertNotSame(tile, cache.getTile("test.png", TileType.OBJECT, 2f, true));
+        assertNotSame(tile, cache.getTile("test.png", TileType.BACKGROUND, 1.5f, true));
+        assertNotSame(tile, cache.getTile("other.png", TileType.OBJECT, 1.5f, true));
+        assertEquals(4, cache.getTilesCount());
+    }
+
+    @Test
+    void getTile_shouldUseCurrentScaleWhenScaleIsNull() {
+        when(scaler.getScale()).thenReturn(2f);
+
+        Tile tile = cache.getTile("test.png", null);
+
+        assertEquals(2f, tile.getScale());
+        assertSame(tile, cache.getTile("test.png", TileType.OBJECT, 2f, true));
+    }
+
+    @Test
+    void getTile_shouldNotReuseTileAfterTileSizeChanged() {
+        Tile tile = cache.getTile("test.png", 1f);
+        when(scaler.getTileWidth()).thenReturn(64.0f);
+
+        assertNotSame(tile, cache.getTile("test.png", 1f));
+    }
+
+    @Test
+    void tile_shouldUseCachedImageWithoutLoadingResource() {
+        cache.putImage("cached.png", sprite);
+
+        Tile tile = new Tile("cached.png", 1f);
+
+        assertSame(sprite, tile.getSprite());
+        assertFalse(tile.isTextureUndefined());
+        resourceMock.verify(() -> ResourceUtils.getResource(anyString()), never());
+    }
+
+    @Test
+    void getTile_shouldConfigureRotationCacheOnlyForRotatedTiles() {
+        cache.putImage("cached.png", sprite);
+
+        Tile rotated = cache.getTile("cached.png", 1f, Tile.DEFAULT_ROTATION_STEPS);
+        Tile plain = cache.getTile("cached.png", 1f);
+
+        assertNotSame(rotated, plain);
+        assertTrue(rotated.hasRotationCache());
+        assertFalse(plain.hasRotationCache());
+        assertSame(rotated, cache.getTile("cached.png", 1f, Tile.DEFAULT_ROTATION_STEPS));
+        assertThrows(InvalidParameterException.class, () -> cache.getTile("cached.png", 1f, -1));
+    }
+
+    @Test
+    void buildAtlas_shouldDoNothingInHeadlessMode() {
+        SceneConfig config = mock(SceneConfig.class);
+        cache.setHeadless(true);
+
+        try {
+            assertNull(cache.buildAtlas(config));
+            assertNull(cache.getAtlas());
+            assertNull(cache.getTile("test.png", 1f).getAtlasRegion());
+            verifyNoInteractions(config);
+        } finally {
+            cache.setHeadless(false);
+        }
+    }
+
+    @Test
+    void clear_shouldDropImagesAndTiles() {
+        cache.putImage("cached.png", sprite);
+        cache.getTile("test.png", 1f);
+
+        cache.clear();
+
+        assertNull(cache.getImage("cached.png"));
+        assertEquals(0, cache.getImagesCount());
+        assertEquals(0, cache.getTilesCount());
+    }
+}
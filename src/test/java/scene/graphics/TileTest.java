@@ -1,6 +1,7 @@
 package scene.graphics;
 
 import com.game.core.behaviour.bounds.RectangleBounds;
+import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.scene.graphics.TileType;
 import com.game.core.utils.ResourceUtils;
@@ -202,4 +203,41 @@ public class TileTest {
         assertNotNull(tile.getSize());
         assertTrue(tile.isTextureUndefined());
     }
-}
\ No newline at end of file
+
+    @Test
+    void setRotationStepsThrowsForNonPositiveSteps() {
+        Tile tile = new Tile("test.png", TileType.OBJECT, 1.5f);
+
+        assertThrows(InvalidParameterException.class, () -> tile.setRotationSteps(0));
+        assertThrows(InvalidParameterException.class, () -> tile.setRotationSteps(-8));
+    }
+
+    @Test
+    void hasRotationCacheIsFalseForUndefinedTexture() {
+        Tile tile = new Tile("test.png", TileType.OBJECT, 1.5f);
+        tile.setRotationSteps(Tile.DEFAULT_ROTATION_STEPS);
+
+        assertTrue(tile.isTextureUndefined());
+        assertFalse(tile.hasRotationCache());
+    }
+
+    @Test
+    void drawRotatedDrawsNearestCachedVariantCentered() throws Exception {
+        Tile tile = new Tile("test.png", TileType.OBJECT, 1.5f);
+        tile.setRotationSteps(64);
+
+        Image rotated = mock(Image.class);
+        when(rotated.getWidth()).thenReturn(40.0);
+        when(rotated.getHeight()).thenReturn(40.0);
+
+        Field field = Tile.class.getDeclaredField("rotatedSprites");
+        field.setAccessible(true);
+        ((Image[]) field.get(tile))[16] = rotated; // 16 of 64 steps is 90 degrees
+
+        tile.drawRotated(graphicsContext, 100f, 100f, 91f);
+        tile.drawRotated(graphicsContext, 100f, 100f, 90f - 360f);
+
+        verify(graphicsContext, times(2)).drawImage(rotated, 80.0, 80.0);
+        verify(graphicsContext, never()).rotate(anyDouble());
+    }
+}
@@ -6,7 +6,7 @@ import com.game.core.entities.Entity;
 import com.game.core.factories.BonusFactory;
 import com.game.core.scene.graphics.Tile;
 import com.game.core.scene.spawners.BonusSpawner;
-import com.game.core.utils.Timer;
+import com.game.core.utils.TimerScheduler;
 import javafx.scene.canvas.GraphicsContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +16,9 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,7 +30,6 @@ class BonusSpawnerTest {
     @Mock private Bonus bonus;
     @Mock private GraphicsContext gc;
     @Mock private Consumer<Entity> event;
-    @Mock private Timer<BonusSpawner> timer;
     @Mock private BonusType bonusType;
 
     private BonusSpawner bonusSpawner;
@@ -50,7 +51,7 @@ class BonusSpawnerTest {
     @Test
     void constructorInitializesCooldownAndTimer() {
         assertEquals(cooldown, bonusSpawner.getCooldown());
-        assertNotNull(bonusSpawner.getSpawnTimer());
+        assertNotNull(bonusSpawner.getSpawnTask());
         assertSame(tile, bonusSpawner.getTile());
     }
 
@@ -59,7 +60,7 @@ class BonusSpawnerTest {
         try (MockedStatic<BonusType> bonusTypeMock = mockStatic(BonusType.class);
              MockedStatic<BonusFactory> bonusFactoryMock = mockStatic(BonusFactory.class)) {
 
-            bonusTypeMock.when(BonusType::randomBonus).thenReturn(bonusType);
+            bonusTypeMock.when(() -> BonusType.randomBonus(any())).thenReturn(bonusType);
             bonusFactoryMock.when(() -> BonusFactory.create(bonusType)).thenReturn(bonus);
             bonusSpawner.addEvent("onEntityCreated", event);
             bonusSpawner.setPos(10f, 20f);
@@ -68,7 +69,7 @@ class BonusSpawnerTest {
 
             verify(bonus).setPos(10.0f, 20.0f);
             verify(event).accept(bonus);
-            bonusTypeMock.verify(BonusType::randomBonus);
+            bonusTypeMock.verify(() -> BonusType.randomBonus(any()));
             bonusFactoryMock.verify(() -> BonusFactory.create(bonusType));
         }
     }
@@ -78,7 +79,7 @@ class BonusSpawnerTest {
         try (MockedStatic<BonusType> bonusTypeMock = mockStatic(BonusType.class);
              MockedStatic<BonusFactory> bonusFactoryMock = mockStatic(BonusFactory.class)) {
 
-            bonusTypeMock.when(BonusType::randomBonus).thenReturn(bonusType);
+            bonusTypeMock.when(() -> BonusType.randomBonus(any())).thenReturn(bonusType);
             bonusFactoryMock.when(() -> BonusFactory.create(bonusType)).thenReturn(bonus);
             bonusSpawner.addEvent("onEntityCreated", event);
             bonusSpawner.setPos(10f, 20f);
@@ -90,11 +91,32 @@ class BonusSpawnerTest {
 
             verify(bonus).setPos(10.0f, 20.0f);
             verify(event).accept(bonus);
-            bonusTypeMock.verify(BonusType::randomBonus);
+            bonusTypeMock.verify(() -> BonusType.randomBonus(any()));
             bonusFactoryMock.verify(() -> BonusFactory.create(bonusType));
         }
     }
 
+    @Test
+    void spawnPicksBonusTypeWithInjectedRandom() {
+        try (MockedStatic<BonusType> bonusTypeMock = mockStatic(BonusType.class);
+             MockedStatic<BonusFactory> bonusFactoryMock = mockStatic(BonusFactory.class)) {
+
+            RandomGenerator random = new SplittableRandom(42);
+            bonusTypeMock.when(() -> BonusType.randomBonus(random)).thenReturn(bonusType);
+            bonusFactoryMock.when(() -> BonusFactory.create(bonusType)).thenReturn(bonus);
+            bonusSpawner.setRandom(random);
+
+            bonusSpawner.spawn();
+
+            bonusTypeMock.verify(() -> BonusType.randomBonus(same(random)));
+        }
+    }
+
+    @Test
+    void setRandomThrowsOnNull() {
+        assertThrows(NullPointerException.class, () -> bonusSpawner.setRandom(null));
+    }
+
     @Test
     void spawnDoesNothingWhenCurrentBonusIsActive() {
         try (MockedStatic<BonusType> bonusTypeMock = mockStatic(BonusType.class);
@@ -137,19 +159,29 @@ class BonusSpawnerTest {
     }
 
     @Test
-    void updateCallsTimerUpdate() {
-        double deltaTime = 0.016;
-        setSpawnTimer(timer);
+    void updateAdvancesSpawnTask() {
+        bonusSpawner.update(1.0);
+
+        assertTrue(bonusSpawner.getSpawnTask().isScheduled());
+        assertEquals(cooldown - 1.0, bonusSpawner.getSpawnTask().getTimeLeft(), 1e-6);
+    }
+
+    @Test
+    void updateDoesNothingWhenAttachedToSharedScheduler() {
+        TimerScheduler scheduler = new TimerScheduler();
+        bonusSpawner.setScheduler(scheduler);
 
-        bonusSpawner.update(deltaTime);
+        bonusSpawner.update(1.0);
+        assertEquals(cooldown, bonusSpawner.getSpawnTask().getTimeLeft(), 1e-6);
 
-        verify(timer).update(eq(deltaTime), eq(bonusSpawner), eq(null));
+        scheduler.advance(1.0);
+        assertEquals(cooldown - 1.0, bonusSpawner.getSpawnTask().getTimeLeft(), 1e-6);
     }
 
     @Test
-    void getSpawnTimerReturnsCorrectTimer() {
-        assertNotNull(bonusSpawner.getSpawnTimer());
-        assertEquals(cooldown, bonusSpawner.getSpawnTimer().getBaseTime());
+    void getSpawnTaskReturnsRepeatingTask() {
+        assertNotNull(bonusSpawner.getSpawnTask());
+        assertEquals(cooldown, bonusSpawner.getSpawnTask().getTimeLeft(), 1e-6);
     }
 
     private void setCurrentBonus(Bonus bonus) {
@@ -161,14 +193,4 @@ class BonusSpawnerTest {
             fail("Unable to use reflection for set currentBonus");
         }
     }
-
-    private void setSpawnTimer(Timer<BonusSpawner> timer) {
-        try {
-            Field field = BonusSpawner.class.getDeclaredField("spawnTimer");
-            field.setAccessible(true);
-            field.set(bonusSpawner, timer);
-        } catch (Exception e) {
-            fail("Unable to use reflection for set spawnTimer");
-        }
-    }
 }
\ No newline at end of file
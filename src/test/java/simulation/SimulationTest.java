@@ -0,0 +1,187 @@
+package simulation;
+
+import com.game.core.entities.Player;
+import com.game.core.entities.bonus.Bonus;
+import com.game.core.entities.bullet.Bullet;
+import com.game.core.entities.bullet.BulletPool;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.spawners.BonusSpawner;
+import com.game.core.simulation.InputScript;
+import com.game.core.simulation.Simulation;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationTest {
+    private SceneConfig config;
+
+    @BeforeEach
+    void setup() throws Exception {
+        config = ConfigManager.getInstance().loadSceneConfig("test");
+    }
+
+    @AfterEach
+    void teardown() {
+        TextureCache.getInstance().setHeadless(false);
+        resetInstance(Scaler.class);
+        resetInstance(ConfigManager.class);
+    }
+
+    @Test
+    void constructorLoadsSceneWithoutToolkit() {
+        Simulation simulation = new Simulation(config);
+
+        assertEquals(2, simulation.getModel().getPlayerSpawners().size());
+        assertNotNull(simulation.getPlayer(0));
+        assertTrue(simulation.getPlayer(0).getTile().isTextureUndefined());
+        assertEquals(1f, Scaler.getInstance().getScale(), 1e-6);
+    }
+
+    @Test
+    void constructorStepsAtTickRateOfScene() {
+        assertEquals(1.0 / 60, new Simulation(config).getDeltaTime(), 1e-9);
+
+        config.setTicksPerSecond(30);
+        assertEquals(1.0 / 30, new Simulation(config).getDeltaTime(), 1e-9);
+    }
+
+    @Test
+    void constructorThrowsOnNonPositiveTimeStep() {
+        assertThrows(InvalidParameterException.class, () -> new Simulation(config, 0));
+    }
+
+    @Test
+    void runToEndStopsWhenGameDurationIsOver() {
+        Simulation simulation = new Simulation(config, 0.05);
+
+        simulation.runToEnd();
+
+        assertTrue(simulation.isFinished());
+        assertEquals(config.getGameDuration(), simulation.getTime(), 0.05 + 1e-9);
+        assertNotNull(simulation.getWinner());
+    }
+
+    @Test
+    void runToEndReturnsAllBulletsToPool() {
+        Simulation simulation = new Simulation(config);
+        // Players shoot when they start moving, so they tap their keys until the end of the match
+        InputScript script = new InputScript();
+        for (double time = 0; time < config.getGameDuration(); time += 0.5)
+            script.hold(time, 0.25, 0).hold(time, 0.25, 1);
+        simulation.play(script);
+
+        simulation.runToEnd();
+
+        BulletPool pool = simulation.getModel().getBulletPool();
+        assertTrue(pool.getHits() > 0);
+        assertEquals(0, pool.getInUseCount());
+        assertFalse(simulation.getModel().getEntities().stream().anyMatch(e -> e instanceof Bullet));
+    }
+
+    @Test
+    void runStopsEarlyWhenMatchIsOver() {
+        Simulation simulation = new Simulation(config, 1);
+
+        simulation.run(1000);
+
+        assertEquals(config.getGameDuration(), simulation.getSteps());
+    }
+
+    @Test
+    void pressMovesPlayerAndShoots() {
+        Simulation simulation = new Simulation(config);
+        Player player = simulation.getPlayer(0);
+        float x = player.getX();
+        float y = player.getY();
+
+        simulation.press(0);
+        simulation.run(30);
+
+        assertTrue(player.isMoving());
+        assertTrue(x != player.getX() || y != player.getY());
+        assertTrue(simulation.getModel().getEntities().stream().anyMatch(e -> e instanceof Bullet));
+    }
+
+    @Test
+    void playAppliesScriptedInputsAtTheirTime() {
+        Simulation simulation = new Simulation(config);
+        simulation.play(new InputScript().hold(0.5, 0.5, 1));
+
+        simulation.run(20);
+        assertFalse(simulation.getPlayer(1).isMoving());
+
+        simulation.run(20);
+        assertTrue(simulation.getPlayer(1).isMoving());
+
+        simulation.run(40);
+        assertFalse(simulation.getPlayer(1).isMoving());
+    }
+
+    @Test
+    void parallelUpdateMovesPlayerAndBullets() {
+        config.setParallelUpdateEnabled(true);
+        Simulation simulation = new Simulation(config);
+        Player player = simulation.getPlayer(0);
+        float x = player.getX();
+        float y = player.getY();
+
+        simulation.press(0);
+        simulation.run(60);
+
+        assertTrue(simulation.getModel().isParallelUpdateEnabled());
+        assertTrue(x != player.getX() || y != player.getY());
+        assertTrue(simulation.getModel().getEntities().stream().anyMatch(e -> e instanceof Bullet));
+    }
+
+    @Test
+    void sameSeedSpawnsSameBonuses() {
+        config.setSeed(42L);
+
+        assertEquals(42L, new Simulation(config).getModel().getSeed());
+        assertEquals(spawnBonuses(new Simulation(config), 20), spawnBonuses(new Simulation(config), 20));
+    }
+
+    @Test
+    void getPlayerThrowsForUnknownIndex() {
+        Simulation simulation = new Simulation(config);
+
+        assertThrows(InvalidParameterException.class, () -> simulation.getPlayer(2));
+    }
+
+    private static List<Class<?>> spawnBonuses(Simulation simulation, int count) {
+        List<Bonus> bonuses = new ArrayList<>();
+        BonusSpawner spawner = simulation.getModel().getSpawners().stream()
+                .filter(BonusSpawner.class::isInstance)
+                .map(BonusSpawner.class::cast)
+                .findFirst()
+                .orElseThrow();
+        spawner.addEvent("onEntityCreated", bonus -> bonuses.add((Bonus) bonus));
+
+        for (int i = 0; i < count; i++) {
+            // The spawner waits until its current bonus is picked up
+            if (!bonuses.isEmpty()) bonuses.getLast().setState(false);
+            spawner.spawn();
+        }
+        return bonuses.stream().<Class<?>>map(bonus -> bonus.getEffect().getClass()).toList();
+    }
+
+    private static void resetInstance(Class<?> singleton) {
+        try {
+            Field instanceField = singleton.getDeclaredField("instance");
+            instanceField.setAccessible(true);
+            instanceField.set(null, null);
+        } catch (Exception e) {
+            fail("Unable to use reflection for reset " + singleton.getSimpleName());
+        }
+    }
+}
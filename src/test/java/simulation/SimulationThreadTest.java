@@ -0,0 +1,138 @@
+package simulation;
+
+import com.game.core.entities.Player;
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.scene.spawners.PlayerSpawner;
+import com.game.core.simulation.Simulation;
+import com.game.core.simulation.SimulationThread;
+import com.game.core.simulation.WorldSnapshot;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import com.game.gui.scenes.game.GameModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationThreadTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private GameModel model;
+    private SimulationThread simulation;
+
+    @BeforeEach
+    void setup() throws Exception {
+        SceneConfig config = ConfigManager.getInstance().loadSceneConfig("test");
+        model = new Simulation(config).getModel();
+        simulation = new SimulationThread(model, 60, 5);
+    }
+
+    @AfterEach
+    void teardown() {
+        simulation.stop();
+        TextureCache.getInstance().setHeadless(false);
+        resetInstance(Scaler.class);
+        resetInstance(ConfigManager.class);
+    }
+
+    @Test
+    void startPublishesSnapshotsOfModel() throws Exception {
+        simulation.start();
+
+        WorldSnapshot snapshot = awaitSnapshot(s -> s.getTime() > 0);
+
+        assertEquals(2, snapshot.getPlayersCount());
+        PlayerSpawner spawner = model.getPlayerSpawners().getFirst();
+        assertEquals(spawner.getX(), snapshot.getSpawnerX(0));
+        assertEquals(spawner.getY(), snapshot.getSpawnerY(0));
+        assertTrue(snapshot.getEntitiesCount() >= 2);
+        assertTrue(snapshot.size() >= 2);
+        assertTrue((snapshot.getFlags(0) & WorldSnapshot.ACTIVE) != 0);
+    }
+
+    @Test
+    void submitRunsCommandOnSimulationThread() throws Exception {
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        simulation.start();
+
+        simulation.submit(() -> threadName.complete(Thread.currentThread().getName()));
+
+        assertEquals("simulation", threadName.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void submittedInputMovesPlayer() throws Exception {
+        Player player = model.getPlayerSpawners().getFirst().getPlayer();
+        float x = player.getX();
+        float y = player.getY();
+        simulation.start();
+
+        simulation.submit(player::onKeyPressed);
+        WorldSnapshot snapshot = awaitSnapshot(s -> s.getTime() > 0.5);
+        simulation.stop();
+
+        assertFalse(simulation.isRunning());
+        assertTrue(player.isMoving());
+        assertTrue(x != player.getX() || y != player.getY());
+        assertTrue(snapshot.getTime() > 0.5);
+    }
+
+    @Test
+    void pausedSimulationDoesNotAdvanceTime() throws Exception {
+        simulation.start();
+        simulation.setPaused(true);
+        CompletableFuture<Double> pausedTime = new CompletableFuture<>();
+        simulation.submit(() -> pausedTime.complete(model.getScheduler().getTime()));
+        double time = pausedTime.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(100);
+        CompletableFuture<Double> laterTime = new CompletableFuture<>();
+        simulation.submit(() -> laterTime.complete(model.getScheduler().getTime()));
+
+        assertEquals(time, laterTime.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void getAlphaIsClampedToStep() {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.setPublishTime(1_000_000_000L);
+
+        assertEquals(0, simulation.getAlpha(snapshot, 0));
+        assertEquals(0.5, simulation.getAlpha(snapshot, 1_000_000_000L + 8_333_333L), 1e-3);
+        assertEquals(1, simulation.getAlpha(snapshot, 2_000_000_000L));
+    }
+
+    @Test
+    void constructorRejectsInvalidTickRate() {
+        assertThrows(InvalidParameterException.class, () -> new SimulationThread(model, 0, 5));
+    }
+
+    private WorldSnapshot awaitSnapshot(Predicate<WorldSnapshot> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            WorldSnapshot snapshot = simulation.getSnapshot();
+            if (condition.test(snapshot)) return snapshot;
+            Thread.sleep(5);
+        }
+
+        return fail("No snapshot matched in " + TIMEOUT_MILLIS + " ms");
+    }
+
+    private static void resetInstance(Class<?> singleton) {
+        try {
+            Field instanceField = singleton.getDeclaredField("instance");
+            instanceField.setAccessible(true);
+            instanceField.set(null, null);
+        } catch (Exception e) {
+            fail("Unable to use reflection for reset " + singleton.getSimpleName());
+        }
+    }
+}
@@ -18,8 +18,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Map;
 
-import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +72,6 @@ class SingleShootStrategyTest {
         assertEquals(BulletType.STANDARD, bullet.getType());
         assertEquals(25, bullet.getDamage());
         assertEquals(1.5f, bullet.getTimeToDestroy(), 0.01f);
-        assertNotNull(bullet.getDestroyTimer());
+        assertNull(bullet.getDestroyTask());
     }
 }
@@ -0,0 +1,97 @@
+package utils;
+
+import com.game.core.exceptions.InvalidConfigFileException;
+import com.game.core.scene.graphics.TextureCache;
+import com.game.core.utils.AsyncSceneLoader;
+import com.game.core.utils.Scaler;
+import com.game.core.utils.config.ConfigManager;
+import com.game.core.utils.config.SceneConfig;
+import com.game.gui.scenes.game.GameModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncSceneLoaderTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        TextureCache.getInstance().setHeadless(true);
+        Scaler.getInstance().setScreenSize(640, 480);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+        TextureCache.getInstance().setHeadless(false);
+        resetInstance(Scaler.class);
+        resetInstance(ConfigManager.class);
+    }
+
+    @Test
+    void loadBuildsModelOnExecutorAndReportsProgress() throws Exception {
+        List<Double> progress = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        AsyncSceneLoader loader = new AsyncSceneLoader(executor);
+
+        GameModel model = loader.load("test", value -> {
+            progress.add(value);
+            threads.add(Thread.currentThread());
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(ConfigManager.getInstance().getConfig().getId(), model.getSceneId());
+        assertEquals(2, model.getPlayerSpawners().size());
+        assertFalse(Scaler.getInstance().isNotConfigured());
+
+        assertEquals(0.0, progress.getFirst());
+        assertEquals(1.0, progress.getLast(), 1e-9);
+        for (int i = 1; i < progress.size(); i++) assertTrue(progress.get(i) >= progress.get(i - 1));
+        assertTrue(threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    @Test
+    void loadBuildsModelFromParsedConfig() throws Exception {
+        SceneConfig config = ConfigManager.getInstance().loadSceneConfig("test");
+        List<Double> progress = new ArrayList<>();
+        AsyncSceneLoader loader = new AsyncSceneLoader(executor);
+
+        GameModel model = loader.load(config, progress::add).get(10, TimeUnit.SECONDS);
+
+        assertEquals(config.getId(), model.getSceneId());
+        assertSame(config, ConfigManager.getInstance().getConfig());
+        assertEquals(2, model.getPlayerSpawners().size());
+        assertEquals(1.0, progress.getLast(), 1e-9);
+    }
+
+    @Test
+    void loadCompletesExceptionallyForUnknownScene() {
+        AsyncSceneLoader loader = new AsyncSceneLoader(executor);
+
+        CompletableFuture<GameModel> future = loader.load("unknown", value -> {});
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(InvalidConfigFileException.class, e.getCause());
+    }
+
+    private static void resetInstance(Class<?> clazz) {
+        try {
+            Field instanceField = clazz.getDeclaredField("instance");
+            instanceField.setAccessible(true);
+            instanceField.set(null, null);
+        } catch (Exception e) {
+            fail("Failed to reset " + clazz.getSimpleName() + " singleton");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package utils;
+
+import com.game.core.diagnostics.CollisionQueryEvent;
+import com.game.core.diagnostics.FrameEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiagnosticEventsTest {
+    @Test
+    void eventsAreNotCommittedWithoutRecording() {
+        FrameEvent event = new FrameEvent();
+
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    void eventsAreRecordedWithTheirFields(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.game.Frame").withThreshold(Duration.ZERO);
+            recording.enable("com.game.CollisionQuery").withThreshold(Duration.ZERO);
+            recording.start();
+
+            FrameEvent frame = new FrameEvent();
+            frame.begin();
+            frame.end();
+            assertTrue(frame.shouldCommit());
+            frame.steps = 2;
+            frame.frameTime = 0.016;
+            frame.commit();
+
+            CollisionQueryEvent query = new CollisionQueryEvent();
+            query.entityKind = "BULLET";
+            query.candidates = 4;
+            query.hits = 1;
+            query.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent frame = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.Frame"))
+                .findFirst().orElseThrow();
+        RecordedEvent query = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.CollisionQuery"))
+                .findFirst().orElseThrow();
+
+        assertEquals(2, frame.getInt("steps"));
+        assertEquals(0.016, frame.getDouble("frameTime"));
+        assertEquals("BULLET", query.getString("entityKind"));
+        assertEquals(4, query.getInt("candidates"));
+        assertEquals(1, query.getInt("hits"));
+    }
+}
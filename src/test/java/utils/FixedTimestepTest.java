@@ -0,0 +1,65 @@
+package utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.utils.FixedTimestep;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+    @Test
+    void constructorThrowsOnInvalidParams() {
+        assertThrows(InvalidParameterException.class, () -> new FixedTimestep(0, 5));
+        assertThrows(InvalidParameterException.class, () -> new FixedTimestep(60, 0));
+    }
+
+    @Test
+    void advancePerformsFixedStepsAndKeepsRemainder() {
+        FixedTimestep timestep = new FixedTimestep(10, 5);
+        List<Double> steps = new ArrayList<>();
+
+        int count = timestep.advance(0.25, steps::add);
+
+        assertEquals(2, count);
+        assertEquals(List.of(0.1, 0.1), steps);
+        assertEquals(0.5, timestep.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void advanceAccumulatesShortFrames() {
+        FixedTimestep timestep = new FixedTimestep(10, 5);
+        List<Double> steps = new ArrayList<>();
+
+        timestep.advance(0.04, steps::add);
+        timestep.advance(0.04, steps::add);
+        assertTrue(steps.isEmpty());
+
+        timestep.advance(0.04, steps::add);
+        assertEquals(1, steps.size());
+        assertEquals(0.2, timestep.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void advanceDropsStepsBeyondCatchUpLimit() {
+        FixedTimestep timestep = new FixedTimestep(10, 3);
+        List<Double> steps = new ArrayList<>();
+
+        timestep.advance(2.05, steps::add);
+
+        assertEquals(3, steps.size());
+        assertEquals(0.5, timestep.getAlpha(), 1e-6);
+    }
+
+    @Test
+    void resetDropsAccumulatedTime() {
+        FixedTimestep timestep = new FixedTimestep(10, 5);
+        timestep.advance(0.05, x -> {});
+
+        timestep.reset();
+
+        assertEquals(0, timestep.getAlpha());
+    }
+}
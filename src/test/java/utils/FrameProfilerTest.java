@@ -0,0 +1,103 @@
+package utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.utils.FrameProfiler;
+import com.game.core.utils.FrameProfiler.Phase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+    @Test
+    void constructorThrowsOnNonPositiveCapacity() {
+        assertThrows(InvalidParameterException.class, () -> new FrameProfiler(0));
+    }
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        FrameProfiler profiler = new FrameProfiler(8);
+
+        assertEquals(0, profiler.start());
+        profiler.record(Phase.ENTITIES, 100);
+        profiler.endFrame();
+
+        assertEquals(0, profiler.getFramesCount());
+        assertEquals(0, profiler.getMax(Phase.ENTITIES));
+    }
+
+    @Test
+    void recordSumsTimesOfPhaseWithinFrame() {
+        FrameProfiler profiler = new FrameProfiler(8);
+        profiler.setEnabled(true);
+
+        profiler.record(Phase.COLLISIONS, 100);
+        profiler.record(Phase.COLLISIONS, 50);
+        profiler.endFrame();
+        profiler.endFrame();
+
+        assertEquals(2, profiler.getFramesCount());
+        assertEquals(150, profiler.getMax(Phase.COLLISIONS));
+        assertEquals(0, profiler.getPercentile(Phase.COLLISIONS, 0.5));
+        assertEquals(0, profiler.getMax(Phase.TIMERS));
+    }
+
+    @Test
+    void percentilesAreCalculatedOverKeptFrames() {
+        FrameProfiler profiler = new FrameProfiler(100);
+        profiler.setEnabled(true);
+
+        for (int i = 1; i <= 100; i++) {
+            profiler.record(Phase.RENDER_ENTITIES, i);
+            profiler.endFrame();
+        }
+
+        assertEquals(50, profiler.getPercentile(Phase.RENDER_ENTITIES, 0.5));
+        assertEquals(99, profiler.getPercentile(Phase.RENDER_ENTITIES, 0.99));
+        assertEquals(100, profiler.getPercentile(Phase.RENDER_ENTITIES, 1));
+        assertEquals(1, profiler.getPercentile(Phase.RENDER_ENTITIES, 0));
+        assertEquals(100, profiler.getMax(Phase.RENDER_ENTITIES));
+    }
+
+    @Test
+    void ringBufferKeepsOnlyLastFrames() {
+        FrameProfiler profiler = new FrameProfiler(4);
+        profiler.setEnabled(true);
+
+        for (int i = 1; i <= 10; i++) {
+            profiler.record(Phase.REMOVAL, i * 10);
+            profiler.endFrame();
+        }
+
+        assertEquals(4, profiler.getFramesCount());
+        assertEquals(100, profiler.getMax(Phase.REMOVAL));
+        assertEquals(70, profiler.getPercentile(Phase.REMOVAL, 0));
+    }
+
+    @Test
+    void stopAddsElapsedTimeSinceStart() {
+        FrameProfiler profiler = new FrameProfiler(4);
+        profiler.setEnabled(true);
+
+        long startTime = profiler.start();
+        assertTrue(startTime != 0);
+        profiler.stop(Phase.SPAWNERS, startTime);
+        profiler.endFrame();
+
+        assertTrue(profiler.getMax(Phase.SPAWNERS) >= 0);
+        assertEquals(1, profiler.getFramesCount());
+    }
+
+    @Test
+    void setEnabledDropsKeptFramesOnChange() {
+        FrameProfiler profiler = new FrameProfiler(4);
+        profiler.setEnabled(true);
+        profiler.record(Phase.TIMERS, 10);
+        profiler.endFrame();
+
+        profiler.setEnabled(false);
+        profiler.setEnabled(true);
+
+        assertEquals(0, profiler.getFramesCount());
+        assertEquals(0, profiler.getMax(Phase.TIMERS));
+    }
+}
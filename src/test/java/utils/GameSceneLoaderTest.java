@@ -120,6 +120,8 @@ public class GameSceneLoaderTest {
         assertEquals(0, result.getEntities().size());
         assertEquals(1, result.getTilesByType(TileType.BACKGROUND).size());
         assertEquals(0, result.getTilesByType(TileType.OVERLAY).size());
+        assertSame(result.getTilesByType(TileType.BACKGROUND), result.getTilesByType(TileType.BACKGROUND));
+        assertThrows(UnsupportedOperationException.class, () -> result.getTilesByType(TileType.BACKGROUND).clear());
         verify(config).getId();
         verify(config).getName();
         verify(config).getBackgroundTiles();
@@ -1,5 +1,6 @@
 package utils;
 
+import com.game.core.behaviour.bounds.CircleBounds;
 import com.game.core.exceptions.InvalidParameterException;
 import com.game.core.exceptions.NotConfiguredException;
 import com.game.core.utils.Scaler;
@@ -14,9 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.awt.*;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -77,6 +80,98 @@ public class ScalerTest {
         assertEquals(expectedScale, scaler.getScale());
     }
 
+    @Test
+    void getScaleUsesOverriddenScreenSizeWithoutToolkit() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        scaler.setScreenSize(640, 480);
+
+        assertEquals(1.5f, scaler.getScale());
+        toolkitMock.verifyNoInteractions();
+    }
+
+    @Test
+    void getScaleQueriesScreenOnlyOnce() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        Toolkit toolkit = mock(Toolkit.class);
+        toolkitMock.when(Toolkit::getDefaultToolkit).thenReturn(toolkit);
+        when(toolkit.getScreenSize()).thenReturn(new Dimension(640, 480));
+
+        assertEquals(1.5f, scaler.getScale());
+        assertEquals(1.5f, scaler.getScale());
+        new CircleBounds(1);
+        verify(toolkit, times(1)).getScreenSize();
+    }
+
+    @Test
+    void settingsChangeInvalidatesCachedScale() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        scaler.setScreenSize(640, 480);
+        assertEquals(1.5f, scaler.getScale());
+
+        scaler.setSettings(10, 10, 16.0f, 16.0f);
+        assertEquals(3f, scaler.getScale());
+
+        scaler.setScreenSize(320, 320);
+        assertEquals(2f, scaler.getScale());
+    }
+
+    @Test
+    void recalculateNotifiesListenersWhenScaleChanges() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        Toolkit toolkit = mock(Toolkit.class);
+        toolkitMock.when(Toolkit::getDefaultToolkit).thenReturn(toolkit);
+        when(toolkit.getScreenSize()).thenReturn(new Dimension(640, 480), new Dimension(640, 480), new Dimension(960, 640));
+        List<Double> scales = new ArrayList<>();
+        scaler.addScaleListener(scales::add);
+
+        assertEquals(1.5f, scaler.getScale());
+        assertEquals(1.5f, scaler.recalculate());
+        assertTrue(scales.isEmpty());
+
+        assertEquals(2f, scaler.recalculate());
+        assertEquals(List.of(2.0), scales);
+        assertEquals(2f, scaler.getScreenScale());
+        assertEquals(1.5f, scaler.getScale());
+    }
+
+    @Test
+    void getScaleFollowsScreenAfterSettingsChange() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        Toolkit toolkit = mock(Toolkit.class);
+        toolkitMock.when(Toolkit::getDefaultToolkit).thenReturn(toolkit);
+        when(toolkit.getScreenSize()).thenReturn(new Dimension(640, 480), new Dimension(960, 640));
+
+        assertEquals(1.5f, scaler.getScale());
+        scaler.recalculate();
+        assertEquals(1.5f, scaler.getScale());
+
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        assertEquals(2f, scaler.getScale());
+        assertEquals(2f, scaler.getScreenScale());
+    }
+
+    @Test
+    void removedListenerIsNotNotified() {
+        scaler.setSettings(10, 10, 32.0f, 32.0f);
+        scaler.setScreenSize(640, 480);
+        List<Double> scales = new ArrayList<>();
+        DoubleConsumer listener = scales::add;
+        scaler.addScaleListener(listener);
+        scaler.removeScaleListener(listener);
+
+        scaler.getScale();
+        scaler.setScreenSize(960, 640);
+        scaler.recalculate();
+
+        assertTrue(scales.isEmpty());
+    }
+
+    @Test
+    void setScreenSizeThrowsOnInvalidParams() {
+        assertThrows(InvalidParameterException.class, () -> scaler.setScreenSize(0, 480));
+        assertThrows(InvalidParameterException.class, () -> scaler.setScreenSize(640, -1));
+    }
+
     @Test
     void setSettingsUpdatesFields() {
         scaler.setSettings(20, 15, 64.0f, 48.0f);
@@ -0,0 +1,183 @@
+package utils;
+
+import com.game.core.exceptions.InvalidParameterException;
+import com.game.core.utils.TimerScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerSchedulerTest {
+    private TimerScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        scheduler = new TimerScheduler();
+    }
+
+    @Test
+    void constructorThrowsOnNonPositiveResolution() {
+        assertThrows(InvalidParameterException.class, () -> new TimerScheduler(0));
+    }
+
+    @Test
+    void scheduleRunsTaskOnceAfterDelay() {
+        AtomicInteger runs = new AtomicInteger();
+        TimerScheduler.Task task = scheduler.schedule(0.5, runs::incrementAndGet);
+
+        scheduler.advance(0.4);
+        assertEquals(0, runs.get());
+        assertTrue(task.isScheduled());
+
+        scheduler.advance(0.1);
+        assertEquals(1, runs.get());
+        assertFalse(task.isScheduled());
+
+        scheduler.advance(10);
+        assertEquals(1, runs.get());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void scheduleRepeatingRunsTaskEveryPeriod() {
+        AtomicInteger runs = new AtomicInteger();
+        TimerScheduler.Task task = scheduler.scheduleRepeating(0.3, runs::incrementAndGet);
+
+        for (int i = 0; i < 10; i++) scheduler.advance(0.1);
+
+        assertEquals(3, runs.get());
+        assertTrue(task.isScheduled());
+    }
+
+    @Test
+    void scheduleRepeatingThrowsOnNonPositivePeriod() {
+        assertThrows(InvalidParameterException.class, () -> scheduler.scheduleRepeating(0, () -> {}));
+    }
+
+    @Test
+    void repeatingTaskCatchesUpAfterLongFrame() {
+        AtomicInteger runs = new AtomicInteger();
+        scheduler.scheduleRepeating(1, runs::incrementAndGet);
+
+        scheduler.advance(5);
+
+        assertEquals(5, runs.get());
+    }
+
+    @Test
+    void cancelPreventsTaskFromRunning() {
+        AtomicInteger runs = new AtomicInteger();
+        TimerScheduler.Task task = scheduler.schedule(1, runs::incrementAndGet);
+
+        task.cancel();
+        scheduler.advance(2);
+
+        assertEquals(0, runs.get());
+        assertFalse(task.isScheduled());
+        assertEquals(0, task.getTimeLeft());
+    }
+
+    @Test
+    void repeatingTaskCanCancelItself() {
+        AtomicInteger runs = new AtomicInteger();
+        TimerScheduler.Task[] task = new TimerScheduler.Task[1];
+        task[0] = scheduler.scheduleRepeating(1, () -> {
+            if (runs.incrementAndGet() == 2) task[0].cancel();
+        });
+
+        scheduler.advance(10);
+
+        assertEquals(2, runs.get());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void tasksScheduledFromTaskAreRun() {
+        List<String> order = new ArrayList<>();
+        scheduler.schedule(1, () -> {
+            order.add("first");
+            scheduler.schedule(1, () -> order.add("second"));
+        });
+
+        scheduler.advance(1.5);
+        assertEquals(List.of("first"), order);
+
+        scheduler.advance(0.5);
+        assertEquals(List.of("first", "second"), order);
+    }
+
+    @Test
+    void farTasksAreCascadedToExactTick() {
+        AtomicInteger runs = new AtomicInteger();
+        // Beyond the first wheel and beyond the second one
+        TimerScheduler.Task near = scheduler.schedule(0.3, runs::incrementAndGet);
+        TimerScheduler.Task middle = scheduler.schedule(12.345, runs::incrementAndGet);
+        TimerScheduler.Task far = scheduler.schedule(180, runs::incrementAndGet);
+
+        assertEquals(12.345, middle.getTimeLeft(), 1e-9);
+
+        scheduler.advance(12.344);
+        assertEquals(1, runs.get());
+        assertFalse(near.isScheduled());
+        assertTrue(middle.isScheduled());
+
+        scheduler.advance(0.001);
+        assertEquals(2, runs.get());
+
+        scheduler.advance(167.65);
+        assertEquals(2, runs.get());
+        assertEquals(0.005, far.getTimeLeft(), 1e-9);
+
+        scheduler.advance(0.005);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void getTimeLeftDecreasesWithTime() {
+        TimerScheduler.Task task = scheduler.schedule(2, () -> {});
+
+        scheduler.advance(0.5);
+
+        assertEquals(1.5, task.getTimeLeft(), 1e-9);
+    }
+
+    @Test
+    void attachToMovesPendingTasksPreservingRemainingTime() {
+        TimerScheduler shared = new TimerScheduler();
+        shared.advance(3);
+        AtomicInteger runs = new AtomicInteger();
+        TimerScheduler.Task task = scheduler.schedule(2, runs::incrementAndGet);
+        scheduler.advance(0.5);
+
+        scheduler.attachTo(shared);
+
+        assertTrue(scheduler.isAttached());
+        assertEquals(0, scheduler.size());
+        assertEquals(1, shared.size());
+        assertEquals(1.5, task.getTimeLeft(), 1e-9);
+
+        scheduler.advance(5);
+        assertEquals(0, runs.get());
+
+        shared.advance(1.5);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void attachedSchedulerDelegatesToRoot() {
+        TimerScheduler root = new TimerScheduler();
+        TimerScheduler middle = new TimerScheduler();
+        middle.attachTo(root);
+        scheduler.attachTo(middle);
+
+        TimerScheduler.Task task = scheduler.schedule(1, () -> {});
+
+        assertEquals(1, root.size());
+        root.advance(1);
+        assertFalse(task.isScheduled());
+    }
+}
@@ -0,0 +1,81 @@
+package utils;
+
+import com.game.core.utils.TripleBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+    @Test
+    void acquireReturnsLatestPublishedBuffer() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+
+        buffer.getBack()[0] = 1;
+        buffer.publish();
+        buffer.getBack()[0] = 2;
+        buffer.publish();
+
+        assertTrue(buffer.hasFresh());
+        assertEquals(2, buffer.acquire()[0]);
+        assertFalse(buffer.hasFresh());
+    }
+
+    @Test
+    void acquireKeepsBufferUntilNewOneIsPublished() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        buffer.getBack()[0] = 1;
+        buffer.publish();
+
+        int[] acquired = buffer.acquire();
+
+        assertSame(acquired, buffer.acquire());
+        assertNotSame(acquired, buffer.getBack());
+    }
+
+    @Test
+    void writerNeverGetsBufferHeldByReader() {
+        AtomicInteger created = new AtomicInteger();
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[]{created.incrementAndGet()});
+        Set<int[]> seen = new HashSet<>();
+
+        for (int i = 0; i < 10; i++) {
+            buffer.publish();
+            int[] front = buffer.acquire();
+            seen.add(front);
+
+            assertNotSame(front, buffer.getBack());
+        }
+
+        assertEquals(3, created.get());
+        assertTrue(seen.size() <= 3);
+    }
+
+    @Test
+    void readerSeesCompleteBuffersWhileWriterPublishes() throws Exception {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        Thread writer = new Thread(() -> {
+            for (long i = 1; i <= 100_000; i++) {
+                long[] back = buffer.getBack();
+                back[0] = i;
+                back[1] = -i;
+                buffer.publish();
+            }
+        });
+
+        writer.start();
+        long last = 0;
+        while (writer.isAlive() || buffer.hasFresh()) {
+            long[] front = buffer.acquire();
+            assertEquals(front[0], -front[1]);
+            assertTrue(front[0] >= last);
+            last = front[0];
+        }
+        writer.join();
+
+        assertEquals(100_000, buffer.acquire()[0]);
+    }
+}